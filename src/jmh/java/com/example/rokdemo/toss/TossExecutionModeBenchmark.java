@@ -0,0 +1,147 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import com.example.rokdemo.toss.dto.TossPaymentResponse;
+import com.example.rokdemo.toss.support.InMemoryTossIdempotencyKeyStore;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 실행 모드 비교 벤치마크
+ * 응답 지연이 있는 로컬 HTTP 서버를 토스 API로 두고, 요청 처리 스레드 N개가 동시에 결제 조회를 수행하는 상황을 재현한다.
+ * 플랫폼 모드는 톰캣 기본 maxThreads(200) 크기의 고정 스레드 풀, 가상 스레드 모드는 요청마다 가상 스레드를 사용한다.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class TossExecutionModeBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    private static final byte[] LOOKUP_RESPONSE =
+        "{\"paymentKey\":\"bench\",\"orderId\":\"bench-order\",\"status\":\"DONE\",\"totalAmount\":1000}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public String mode;
+
+    @Param({"200", "1000"})
+    public int callers;
+
+    @Param({"50"})
+    public int latencyMillis;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ExecutorService requestExecutor;
+    private TossPaymentService tossPaymentService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        server.createContext("/v1/payments/", exchange -> {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, LOOKUP_RESPONSE.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(LOOKUP_RESPONSE);
+            }
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        boolean virtual = "VIRTUAL".equals(mode);
+
+        TossPaymentConfig config = new TossPaymentConfig();
+        config.setSecretKey("test_sk_benchmark");
+        config.setLookupUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/v1/payments/{paymentKey}");
+        config.setVirtualThreads(virtual);
+        config.getLookupCache().setEnabled(false); // 같은 paymentKey를 반복 조회하므로 캐시 없이 실제 호출을 측정
+        // 실행 모드 자체를 비교하기 위해 결제 조회 격벽은 커넥션 풀 크기와 같게 둔다.
+        // 가상 스레드 모드에서는 호출자 1000명이 모두 격벽/풀에서 기다리므로(플랫폼 모드는 스레드 풀 큐에서 대기)
+        // 한 번의 폭주를 처리하는 시간보다 대기 시간을 길게 둬 거절 없이 처리량만 비교한다
+        config.getResilience().getBulkheads().put(TossOperation.LOOKUP, 20);
+        config.getResilience().setBulkheadMaxWait(Duration.ofSeconds(30));
+        config.getPool().setConnectionRequestTimeout(Duration.ofSeconds(30));
+        config.getTailLatency().setHedgingEnabled(false); // 헤지 요청은 호출 수를 늘리므로 비교에서 제외
+        config.getRateLimit().setEnabled(false); // 조회 한도(초당 50건)에 걸리면 실행 모드가 아니라 한도를 측정하게 된다
+
+        tossPaymentService = new TossPaymentService(config, new InMemoryTossIdempotencyKeyStore());
+        tossPaymentService.init();
+
+        requestExecutor = virtual
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestExecutor.shutdownNow();
+        tossPaymentService.destroy();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    /**
+     * 결제 조회 처리량 (동시 호출자 N명이 한 번씩 조회)
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public int lookupBurst() throws Exception {
+        return awaitAll(submitBurst());
+    }
+
+    /**
+     * 조회 폭주 중 토스와 무관한 요청의 대기 시간
+     * 요청 처리 스레드가 토스 I/O 대기로 모두 점유되면 다른 페이지도 함께 지연되는 현상을 측정
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long unrelatedRequestDuringBurst() throws Exception {
+        List<Future<TossPaymentResponse>> burst = submitBurst();
+
+        long startedAt = System.nanoTime();
+        long waited = requestExecutor.submit(() -> System.nanoTime() - startedAt).get();
+
+        awaitAll(burst);
+        return waited;
+    }
+
+    private List<Future<TossPaymentResponse>> submitBurst() {
+        List<Future<TossPaymentResponse>> futures = new ArrayList<>(callers);
+        for (int i = 0; i < callers; i++) {
+            String paymentKey = "bench_" + i;
+            futures.add(requestExecutor.submit(() -> tossPaymentService.lookupPayment(paymentKey)));
+        }
+        return futures;
+    }
+
+    private int awaitAll(List<Future<TossPaymentResponse>> futures) throws Exception {
+        int completed = 0;
+        for (Future<TossPaymentResponse> future : futures) {
+            if (future.get() != null) {
+                completed++;
+            }
+        }
+        return completed;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import com.example.rokdemo.toss.dto.TossPaymentResponse;
+import com.example.rokdemo.toss.support.InMemoryTossIdempotencyKeyStore;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.io.ConnectionStatistics;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.util.Callback;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP/1.1 커넥션 풀 / HTTP/2 다중화 전송 비교 벤치마크
+ * HTTP/1.1과 HTTP/2(h2c)를 모두 받는 로컬 Jetty 서버를 토스 API로 두고, 가상 스레드 N개가 동시에 결제 조회를 수행한다.
+ * 종료 시 서버가 받은 커넥션 수를 출력해 요청 폭주에 새 연결이 얼마나 열렸는지 함께 비교한다.
+ * (h2c는 첫 GET 요청의 Upgrade로 협상되므로 조회 호출로 측정한다)
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class TossTransportBenchmark {
+
+    private static final byte[] LOOKUP_RESPONSE =
+        "{\"paymentKey\":\"bench\",\"orderId\":\"bench-order\",\"status\":\"DONE\",\"totalAmount\":1000}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Param({"HTTP1", "HTTP2"})
+    public TossPaymentConfig.Transport transport;
+
+    @Param({"200", "1000"})
+    public int callers;
+
+    @Param({"50"})
+    public int latencyMillis;
+
+    private Server server;
+    private ConnectionStatistics connectionStatistics;
+    private ScheduledExecutorService responseScheduler;
+    private ExecutorService requestExecutor;
+    private TossPaymentService tossPaymentService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        responseScheduler = Executors.newScheduledThreadPool(4);
+
+        server = new Server();
+        HttpConfiguration httpConfig = new HttpConfiguration();
+        HTTP2CServerConnectionFactory h2c = new HTTP2CServerConnectionFactory(httpConfig);
+        h2c.setMaxConcurrentStreams(callers);
+        ServerConnector connector = new ServerConnector(server, new HttpConnectionFactory(httpConfig), h2c);
+        connector.setHost("127.0.0.1");
+        connector.setPort(0);
+        connector.setAcceptQueueSize(4096);
+        connectionStatistics = new ConnectionStatistics();
+        connector.addBean(connectionStatistics);
+        server.addConnector(connector);
+        server.setHandler(new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, Response response, Callback callback) {
+                // 응답 지연은 스레드를 붙잡지 않고 예약 작업으로 재현
+                responseScheduler.schedule(() -> {
+                    response.getHeaders().put(HttpHeader.CONTENT_TYPE, "application/json");
+                    response.write(true, ByteBuffer.wrap(LOOKUP_RESPONSE), callback);
+                }, latencyMillis, TimeUnit.MILLISECONDS);
+                return true;
+            }
+        });
+        server.start();
+
+        TossPaymentConfig config = new TossPaymentConfig();
+        config.setSecretKey("test_sk_benchmark");
+        config.setLookupUrl("http://127.0.0.1:" + connector.getLocalPort() + "/v1/payments/{paymentKey}");
+        config.setVirtualThreads(true);
+        config.setTransport(transport);
+        config.getLookupCache().setEnabled(false); // 같은 paymentKey를 반복 조회하므로 캐시 없이 실제 호출을 측정
+        // 전송 방식 자체를 비교하기 위해 격벽은 동시 호출자 수만큼 열어 두고, HTTP/1.1은 기본 풀 크기(호스트당 20)로 측정한다
+        config.getResilience().getBulkheads().put(TossOperation.LOOKUP, callers);
+        config.getResilience().setBulkheadMaxWait(Duration.ofSeconds(5));
+        config.getTailLatency().setHedgingEnabled(false);
+        config.getRateLimit().setEnabled(false); // 조회 한도(초당 50건)에 걸리면 전송 방식이 아니라 한도를 측정하게 된다
+
+        tossPaymentService = new TossPaymentService(config, new InMemoryTossIdempotencyKeyStore());
+        tossPaymentService.init();
+
+        requestExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        System.out.printf("%n[%s, callers=%d] 서버 수신 커넥션: %d%n",
+            transport, callers, connectionStatistics.getConnectionsTotal());
+        requestExecutor.shutdownNow();
+        tossPaymentService.destroy();
+        server.stop();
+        responseScheduler.shutdownNow();
+    }
+
+    /**
+     * 결제 조회 처리량 (동시 호출자 N명이 한 번씩 조회)
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public int lookupBurst() throws Exception {
+        List<Future<TossPaymentResponse>> futures = new ArrayList<>(callers);
+        for (int i = 0; i < callers; i++) {
+            String paymentKey = "bench_" + i;
+            futures.add(requestExecutor.submit(() -> tossPaymentService.lookupPayment(paymentKey)));
+        }
+
+        int completed = 0;
+        for (Future<TossPaymentResponse> future : futures) {
+            if (future.get() != null) {
+                completed++;
+            }
+        }
+        return completed;
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.rokdemo.toss.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 코드 → enum 조회 비교 벤치마크
+ * 기존 방식(trim/toUpperCase 후 values() 순회)과 클래스 로딩 시 만든 조회 테이블을 비교한다.
+ * 관리자 목록/엑셀 내보내기에서 결제 한 건마다 카드사/은행/간편결제/결제 수단/상태를 변환하는 경우를 가정
+ * 호출당 할당량은 gc 프로파일러 결과의 gc.alloc.rate.norm 으로 비교
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TossCodeLookupBenchmark {
+
+    /**
+     * 결제 한 건의 코드 (목록 뒤쪽 카드사, 한글 결제 수단/간편결제, 목록에 없는 은행 코드)
+     */
+    private String cardCode;
+    private String bankCode;
+    private String easyPay;
+    private String method;
+    private String status;
+
+    @Setup
+    public void setUp() {
+        // 상수 접기를 피하기 위해 새 문자열로 만든다
+        cardCode = new String("61");
+        bankCode = new String("99");
+        easyPay = new String("토스페이");
+        method = new String("간편결제");
+        status = new String("PARTIAL_CANCELED");
+    }
+
+    @Benchmark
+    public Object[] rowScan() {
+        return new Object[] {
+            scanCardCompany(cardCode),
+            scanBankCode(bankCode),
+            scanEasyPayProvider(easyPay),
+            scanPaymentMethod(method),
+            scanStatus(status)
+        };
+    }
+
+    @Benchmark
+    public Object[] rowTable() {
+        return new Object[] {
+            CardCompany.fromCode(cardCode),
+            BankCode.fromCode(bankCode),
+            EasyPayProvider.fromValue(easyPay),
+            PaymentMethod.fromValue(method),
+            TossPaymentStatus.fromCode(status)
+        };
+    }
+
+    @Benchmark
+    public String cardKoreanNameScan() {
+        CardCompany company = scanCardCompany(cardCode);
+        return company != null ? company.getKoreanName() : cardCode;
+    }
+
+    @Benchmark
+    public String cardKoreanNameTable() {
+        return CardCompany.toKoreanName(cardCode);
+    }
+
+    @Benchmark
+    public PaymentMethod paymentMethodScan() {
+        return scanPaymentMethod(method);
+    }
+
+    @Benchmark
+    public PaymentMethod paymentMethodTable() {
+        return PaymentMethod.fromValue(method);
+    }
+
+    // 기존 조회 방식
+
+    private static CardCompany scanCardCompany(String code) {
+        if (code == null || code.trim().isEmpty()) {
+            return null;
+        }
+        String upperCode = code.trim().toUpperCase();
+        for (CardCompany company : CardCompany.values()) {
+            if (company.getCode().equalsIgnoreCase(upperCode)) {
+                return company;
+            }
+        }
+        return null;
+    }
+
+    private static BankCode scanBankCode(String code) {
+        if (code == null || code.trim().isEmpty()) {
+            return null;
+        }
+        String upperCode = code.trim().toUpperCase();
+        for (BankCode bank : BankCode.values()) {
+            if (bank.getCode().equalsIgnoreCase(upperCode)) {
+                return bank;
+            }
+        }
+        return null;
+    }
+
+    private static EasyPayProvider scanEasyPayProvider(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        for (EasyPayProvider provider : EasyPayProvider.values()) {
+            if (provider.getCode().equalsIgnoreCase(trimmed)) {
+                return provider;
+            }
+        }
+        for (EasyPayProvider provider : EasyPayProvider.values()) {
+            if (provider.getKoreanName().equals(trimmed)) {
+                return provider;
+            }
+        }
+        return null;
+    }
+
+    private static PaymentMethod scanPaymentMethod(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        for (PaymentMethod method : PaymentMethod.values()) {
+            if (method.name().equalsIgnoreCase(trimmed)) {
+                return method;
+            }
+        }
+        for (PaymentMethod method : PaymentMethod.values()) {
+            if (method.getKoreanName().equals(trimmed)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static TossPaymentStatus scanStatus(String code) {
+        if (code == null || code.trim().isEmpty()) {
+            return null;
+        }
+        for (TossPaymentStatus status : TossPaymentStatus.values()) {
+            if (status.getCode().equalsIgnoreCase(code.trim())) {
+                return status;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.rokdemo.toss.util;
+
+import com.example.rokdemo.toss.dto.TossBillingRequest;
+import com.example.rokdemo.toss.dto.TossCancelRequest;
+import com.example.rokdemo.toss.dto.TossPaymentRequest;
+import com.google.gson.JsonObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 요청 Body 직렬화 비교 벤치마크
+ * 기존 방식(JsonObject 트리 -> toString -> UTF-8 바이트)과 TossRequestBodyWriter(버퍼에 직접 기록)를 비교한다.
+ * 실제 요청처럼 새 가상 스레드에서 Body를 만드는 경우(*VirtualThread)도 함께 측정한다.
+ * 요청당 할당량은 gc 프로파일러 결과의 gc.alloc.rate.norm 으로 비교
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TossRequestBodyBenchmark {
+
+    private TossPaymentRequest confirmRequest;
+    private TossCancelRequest cancelRequest;
+    private TossBillingRequest billingRequest;
+
+    @Setup
+    public void setUp() {
+        confirmRequest = new TossPaymentRequest();
+        confirmRequest.setPaymentKey("tgen_20240101123456abcdEFGH");
+        confirmRequest.setOrderId("ORDER-20240101-000001");
+        confirmRequest.setAmount(15000);
+
+        TossCancelRequest.RefundReceiveAccount account = new TossCancelRequest.RefundReceiveAccount();
+        account.setBank("88");
+        account.setAccountNumber("110123456789");
+        account.setHolderName("홍길동");
+        cancelRequest = new TossCancelRequest();
+        cancelRequest.setCancelReason("고객 변심");
+        cancelRequest.setCancelAmount(5000);
+        cancelRequest.setRefundReceiveAccount(account);
+
+        billingRequest = new TossBillingRequest();
+        billingRequest.setBillingKey("bln_abcdefghijklmnop");
+        billingRequest.setCustomerKey("12345");
+        billingRequest.setAmount(9900);
+        billingRequest.setOrderId("BILL-20240101-000001");
+        billingRequest.setOrderName("정기 구독 1개월");
+        billingRequest.setCustomerEmail("user@example.com");
+        billingRequest.setCustomerName("홍길동");
+        billingRequest.setCustomerMobilePhone("01012345678");
+        billingRequest.setTaxFreeAmount(0);
+    }
+
+    @Benchmark
+    public byte[] confirmJsonObjectTree() {
+        JsonObject requestBody = new JsonObject();
+        requestBody.addProperty("paymentKey", confirmRequest.getPaymentKey());
+        requestBody.addProperty("orderId", confirmRequest.getOrderId());
+        requestBody.addProperty("amount", confirmRequest.getAmount());
+        return requestBody.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] confirmStreaming() {
+        return TossRequestBodyWriter.write(confirmRequest);
+    }
+
+    @Benchmark
+    public byte[] cancelJsonObjectTree() {
+        JsonObject requestBody = new JsonObject();
+        requestBody.addProperty("cancelReason", cancelRequest.getCancelReason());
+        requestBody.addProperty("cancelAmount", cancelRequest.getCancelAmount());
+        JsonObject account = new JsonObject();
+        account.addProperty("bank", cancelRequest.getRefundReceiveAccount().getBank());
+        account.addProperty("accountNumber", cancelRequest.getRefundReceiveAccount().getAccountNumber());
+        account.addProperty("holderName", cancelRequest.getRefundReceiveAccount().getHolderName());
+        requestBody.add("refundReceiveAccount", account);
+        return requestBody.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] cancelStreaming() {
+        return TossRequestBodyWriter.write(cancelRequest);
+    }
+
+    @Benchmark
+    public byte[] billingJsonObjectTree() {
+        JsonObject requestBody = new JsonObject();
+        requestBody.addProperty("customerKey", billingRequest.getCustomerKey());
+        requestBody.addProperty("amount", billingRequest.getAmount());
+        requestBody.addProperty("orderId", billingRequest.getOrderId());
+        requestBody.addProperty("orderName", billingRequest.getOrderName());
+        requestBody.addProperty("customerEmail", billingRequest.getCustomerEmail());
+        requestBody.addProperty("customerName", billingRequest.getCustomerName());
+        requestBody.addProperty("customerMobilePhone", billingRequest.getCustomerMobilePhone());
+        requestBody.addProperty("taxFreeAmount", billingRequest.getTaxFreeAmount());
+        return requestBody.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] billingStreaming() {
+        return TossRequestBodyWriter.write(billingRequest);
+    }
+
+    @Benchmark
+    public byte[] confirmJsonObjectTreeVirtualThread() throws InterruptedException {
+        return onVirtualThread(this::confirmJsonObjectTree);
+    }
+
+    @Benchmark
+    public byte[] confirmStreamingVirtualThread() throws InterruptedException {
+        return onVirtualThread(this::confirmStreaming);
+    }
+
+    @Benchmark
+    public byte[] billingJsonObjectTreeVirtualThread() throws InterruptedException {
+        return onVirtualThread(this::billingJsonObjectTree);
+    }
+
+    @Benchmark
+    public byte[] billingStreamingVirtualThread() throws InterruptedException {
+        return onVirtualThread(this::billingStreaming);
+    }
+
+    /**
+     * 요청마다 새 가상 스레드에서 Body를 만든다 (스레드 생성/종료 비용은 두 방식에 같게 포함됨)
+     */
+    private static byte[] onVirtualThread(Supplier<byte[]> body) throws InterruptedException {
+        byte[][] result = new byte[1][];
+        Thread.ofVirtual().start(() -> result[0] = body.get()).join();
+        return result[0];
+    }
+}
@@ -2,6 +2,7 @@ package com.example.rokdemo.config;
 
 import com.example.rokdemo.filter.RateLimitFilter;
 import com.example.rokdemo.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -82,10 +83,14 @@ public class SecurityConfig {
 
                 // 인가 규칙
                 .authorizeHttpRequests(authorize -> authorize
+                        // 비동기 응답(CompletableFuture) 재디스패치: 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/", "/error").permitAll()
                         .requestMatchers("/actuator/health").permitAll() // 헬스체크 엔드포인트
+                        .requestMatchers("/actuator/**").hasRole("ADMIN") // 메트릭, 토스 커넥션 풀 설정
                         .requestMatchers("/h2-console/**").permitAll() // H2 콘솔 (개발용)
+                        .requestMatchers("/payment/toss/webhook").permitAll() // 토스페이먼츠 웹훅 (토스 서버 호출)
                         .anyRequest().authenticated()
                 )
 
@@ -0,0 +1,36 @@
+package com.example.rokdemo.dto;
+
+import com.example.rokdemo.entity.Payment;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 대사 수정 내용 (토스 결제 정보 기준)
+ * 비교할 때 읽은 상태/취소 금액(expected*)이 반영 시점에도 그대로인 결제만 고친다.
+ */
+@Getter
+@AllArgsConstructor
+public class PaymentReconciliation {
+    private Long paymentId;
+
+    /**
+     * 비교 시점의 상태
+     */
+    private Payment.PaymentStatus expectedStatus;
+
+    /**
+     * 비교 시점의 취소 금액
+     */
+    private Long expectedCanceledAmount;
+
+    private Payment.PaymentStatus status;
+    private LocalDateTime approvedAt;
+    private Long canceledAmount;
+
+    /**
+     * 취소 시각 (취소/부분 취소로 고칠 때)
+     */
+    private LocalDateTime canceledAt;
+}
@@ -0,0 +1,35 @@
+package com.example.rokdemo.dto;
+
+import com.example.rokdemo.entity.Payment;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 상태 변경 (토스 웹훅)
+ */
+@Getter
+@AllArgsConstructor
+public class PaymentStatusChange {
+    private String orderId;
+    private String paymentKey;
+    private Payment.PaymentStatus status;
+    private String method;
+    private LocalDateTime approvedAt;
+
+    /**
+     * 누적 취소 금액 (총 결제 금액 - 취소 후 잔액, 취소가 아니면 null)
+     */
+    private Long canceledAmount;
+
+    /**
+     * 마지막 취소 사유
+     */
+    private String cancelReason;
+
+    /**
+     * 마지막 취소 시각
+     */
+    private LocalDateTime canceledAt;
+}
@@ -103,6 +103,23 @@ public class Payment extends BaseEntity {
         this.canceledAt = canceledAt;
     }
 
+    /**
+     * 취소 내역 반영 (토스 결제 정보 기준, 금액은 누적 취소 금액)
+     * 웹훅처럼 같은 취소를 여러 번 받을 수 있는 경우에 사용한다 (partialCancel은 금액을 더함).
+     */
+    public void applyCancellation(PaymentStatus status, Long canceledAmount, String cancelReason, LocalDateTime canceledAt) {
+        this.status = status;
+        if (canceledAmount != null) {
+            this.canceledAmount = canceledAmount;
+        } else if (status == PaymentStatus.CANCELED) {
+            this.canceledAmount = this.amount;
+        }
+        if (cancelReason != null) {
+            this.cancelReason = cancelReason;
+        }
+        this.canceledAt = canceledAt;
+    }
+
     /**
      * 결제 실패
      */
@@ -112,6 +129,27 @@ public class Payment extends BaseEntity {
         this.errorMessage = errorMessage;
     }
 
+    /**
+     * 상태 변경 (입금 대기, 만료, 중단 등 별도 처리가 없는 상태)
+     */
+    public void changeStatus(PaymentStatus status) {
+        this.status = status;
+    }
+
+    /**
+     * 토스 결제 정보로 맞추기 (대사)
+     */
+    public void reconcile(PaymentStatus status, LocalDateTime approvedAt, Long canceledAmount, LocalDateTime canceledAt) {
+        this.status = status;
+        if (approvedAt != null) {
+            this.approvedAt = approvedAt;
+        }
+        this.canceledAmount = canceledAmount;
+        if (canceledAt != null) {
+            this.canceledAt = canceledAt;
+        }
+    }
+
     /**
      * 결제 상태
      */
@@ -0,0 +1,35 @@
+package com.example.rokdemo.entity;
+
+import com.example.rokdemo.toss.TossOperation;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 토스페이먼츠 멱등키 엔티티
+ * 결제 상태를 바꾸는 호출(승인, 빌링)은 주문번호마다 하나의 Idempotency-Key를 발급해 두고
+ * 재시도/재요청 시 같은 키를 보내 토스 측에서 중복 처리되지 않도록 한다.
+ */
+@Entity
+@Table(name = "toss_idempotency_keys", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_toss_idempotency_operation_order", columnNames = {"operation", "orderId"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TossIdempotencyKey extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private TossOperation operation;
+
+    @Column(nullable = false, length = 100)
+    private String orderId;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String idempotencyKey;
+}
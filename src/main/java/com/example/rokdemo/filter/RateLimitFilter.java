@@ -45,6 +45,14 @@ public class RateLimitFilter extends OncePerRequestFilter {
         }
     }
 
+    /**
+     * 토스페이먼츠 웹훅은 IP 제한에서 제외 (몰려 오면 처리 대기 큐가 503으로 조절)
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "/payment/toss/webhook".equals(request.getServletPath());
+    }
+
     /**
      * 클라이언트 IP 추출
      */
@@ -4,12 +4,15 @@ import com.example.rokdemo.entity.Payment;
 import com.example.rokdemo.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +27,11 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
      */
     Optional<Payment> findByOrderId(String orderId);
 
+    /**
+     * 주문번호 목록으로 조회
+     */
+    List<Payment> findByOrderIdIn(Collection<String> orderIds);
+
     /**
      * 결제키로 조회
      */
@@ -48,6 +56,25 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
         @Param("endDate") LocalDateTime endDate
     );
 
+    /**
+     * 생성 기간 내 결제를 ID 순으로 조회 (키셋 페이지, 대사용)
+     * afterId보다 큰 ID부터 pageable 크기만큼 읽는다. 첫 페이지는 afterId = 0.
+     */
+    @Query("SELECT p FROM Payment p WHERE p.createdAt >= :from AND p.createdAt < :to AND p.id > :afterId ORDER BY p.id")
+    List<Payment> findCreatedBetweenAfterId(
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+
+    /**
+     * ID 목록으로 조회 (행 잠금, 대사 수정용)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.id IN :ids")
+    List<Payment> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
     /**
      * 사용자별 총 결제 금액 조회
      */
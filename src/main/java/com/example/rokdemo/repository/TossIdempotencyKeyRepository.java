@@ -0,0 +1,20 @@
+package com.example.rokdemo.repository;
+
+import com.example.rokdemo.entity.TossIdempotencyKey;
+import com.example.rokdemo.toss.TossOperation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 토스페이먼츠 멱등키 Repository
+ */
+@Repository
+public interface TossIdempotencyKeyRepository extends JpaRepository<TossIdempotencyKey, Long> {
+
+    /**
+     * 호출 종류 + 주문번호로 조회
+     */
+    Optional<TossIdempotencyKey> findByOperationAndOrderId(TossOperation operation, String orderId);
+}
@@ -1,17 +1,26 @@
 package com.example.rokdemo.service;
 
+import com.example.rokdemo.dto.PaymentReconciliation;
+import com.example.rokdemo.dto.PaymentStatusChange;
 import com.example.rokdemo.entity.Payment;
 import com.example.rokdemo.entity.User;
 import com.example.rokdemo.repository.PaymentRepository;
 import com.example.rokdemo.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 결제 서비스
@@ -21,6 +30,8 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class PaymentService {
 
+    private static final Logger logger = LoggerFactory.getLogger(PaymentService.class);
+
     private final PaymentRepository paymentRepository;
     private final UserRepository userRepository;
 
@@ -90,6 +101,89 @@ public class PaymentService {
         return payment;
     }
 
+    /**
+     * 결제 상태 일괄 반영 (토스 웹훅)
+     * 이미 같은 상태이거나 끝난 결제(취소, 만료, 중단, 실패)는 바꾸지 않는다.
+     * 저장된 paymentKey와 다른 결제의 변경은 반영하지 않는다.
+     * 취소/부분 취소는 토스 기준 누적 취소 금액으로 맞추므로 같은 이벤트를 다시 받아도 금액이 늘지 않는다.
+     *
+     * @return 상태가 바뀐 결제 수
+     */
+    @Transactional
+    public int applyStatusChanges(List<PaymentStatusChange> changes) {
+        Map<String, Payment> payments = paymentRepository.findByOrderIdIn(
+                changes.stream().map(PaymentStatusChange::getOrderId).toList()).stream()
+            .collect(Collectors.toMap(Payment::getOrderId, Function.identity()));
+
+        int applied = 0;
+        for (PaymentStatusChange change : changes) {
+            Payment payment = payments.get(change.getOrderId());
+            if (payment == null || isClosed(payment.getStatus()) || isApplied(payment, change)) {
+                continue;
+            }
+            if (payment.getPaymentKey() != null && !payment.getPaymentKey().equals(change.getPaymentKey())) {
+                // 같은 주문번호에 다른 결제가 들어온 경우 (위조/잘못된 이벤트)
+                logger.warn("결제 상태 변경 건너뜀 - paymentKey 불일치, orderId: {}, 저장: {}, 이벤트: {}",
+                    change.getOrderId(), payment.getPaymentKey(), change.getPaymentKey());
+                continue;
+            }
+            switch (change.getStatus()) {
+                case DONE -> payment.approve(change.getPaymentKey(), change.getMethod(),
+                    change.getApprovedAt() != null ? change.getApprovedAt() : LocalDateTime.now());
+                case CANCELED, PARTIAL_CANCELED -> payment.applyCancellation(change.getStatus(), change.getCanceledAmount(),
+                    change.getCancelReason(), change.getCanceledAt() != null ? change.getCanceledAt() : LocalDateTime.now());
+                default -> payment.changeStatus(change.getStatus());
+            }
+            applied++;
+        }
+        return applied;
+    }
+
+    /**
+     * 대사 결과 일괄 반영 (토스 결제 정보 기준)
+     * 행을 잠그고 읽은 뒤, 비교 이후 상태나 취소 금액이 바뀐 결제(웹훅, 사용자 취소가 먼저 반영됨)는 고치지 않는다.
+     *
+     * @return 반영한 결제 수
+     */
+    @Transactional
+    public int applyReconciliation(List<PaymentReconciliation> fixes) {
+        Map<Long, PaymentReconciliation> byId = fixes.stream()
+            .collect(Collectors.toMap(PaymentReconciliation::getPaymentId, Function.identity(), (first, second) -> second));
+
+        int applied = 0;
+        for (Payment payment : paymentRepository.findAllByIdForUpdate(byId.keySet())) {
+            PaymentReconciliation fix = byId.get(payment.getId());
+            if (payment.getStatus() != fix.getExpectedStatus()
+                || !Objects.equals(payment.getCanceledAmount(), fix.getExpectedCanceledAmount())) {
+                logger.info("대사 수정 건너뜀 - 비교 이후 변경됨, 결제 ID: {}, 상태: {} -> {}",
+                    payment.getId(), fix.getExpectedStatus(), payment.getStatus());
+                continue;
+            }
+            payment.reconcile(fix.getStatus(), fix.getApprovedAt(), fix.getCanceledAmount(), fix.getCanceledAt());
+            applied++;
+        }
+        return applied;
+    }
+
+    /**
+     * 이미 반영된 변경인지 (부분 취소는 상태가 같아도 누적 취소 금액이 바뀌었으면 반영)
+     */
+    private static boolean isApplied(Payment payment, PaymentStatusChange change) {
+        if (payment.getStatus() != change.getStatus()) {
+            return false;
+        }
+        return change.getStatus() != Payment.PaymentStatus.PARTIAL_CANCELED
+            || change.getCanceledAmount() == null
+            || change.getCanceledAmount().equals(payment.getCanceledAmount());
+    }
+
+    private static boolean isClosed(Payment.PaymentStatus status) {
+        return status == Payment.PaymentStatus.CANCELED
+            || status == Payment.PaymentStatus.EXPIRED
+            || status == Payment.PaymentStatus.ABORTED
+            || status == Payment.PaymentStatus.FAILED;
+    }
+
     /**
      * 주문번호로 조회
      */
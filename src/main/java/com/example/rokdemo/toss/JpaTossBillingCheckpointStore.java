@@ -0,0 +1,129 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.entity.Payment;
+import com.example.rokdemo.repository.PaymentRepository;
+import com.example.rokdemo.repository.UserRepository;
+import com.example.rokdemo.toss.dto.TossBillingRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Payment 테이블 기반 정기결제 진행 기록
+ * 청크마다 주문번호로 기존 결제를 한 번에 조회해 끝난 주문(IN_PROGRESS, READY 외 상태)은 건너뛰고,
+ * 새 주문은 IN_PROGRESS로 한 트랜잭션에 저장한다. 결과도 모아서 한 트랜잭션으로 반영한다.
+ * customerKey는 사용자 ID(useridx)여야 한다.
+ */
+@Component
+public class JpaTossBillingCheckpointStore implements TossBillingCheckpointStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(JpaTossBillingCheckpointStore.class);
+
+    private final PaymentRepository paymentRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public JpaTossBillingCheckpointStore(PaymentRepository paymentRepository, UserRepository userRepository,
+                                         PlatformTransactionManager transactionManager) {
+        this.paymentRepository = paymentRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public List<TossBillingRequest> begin(List<TossBillingRequest> requests) {
+        return transactionTemplate.execute(status -> {
+            Map<String, Payment> existing = findByOrderIds(requests.stream().map(TossBillingRequest::getOrderId).toList());
+
+            List<TossBillingRequest> pending = new ArrayList<>(requests.size());
+            List<Payment> created = new ArrayList<>();
+            Set<String> seen = new HashSet<>();
+            for (TossBillingRequest request : requests) {
+                if (!seen.add(request.getOrderId())) {
+                    // 같은 청크 안의 중복 주문
+                    continue;
+                }
+                Payment payment = existing.get(request.getOrderId());
+                if (payment != null) {
+                    if (isResumable(payment.getStatus())) {
+                        pending.add(request);
+                    }
+                    continue;
+                }
+
+                Long userId = parseUserId(request.getCustomerKey());
+                if (userId == null) {
+                    logger.warn("정기결제 건너뜀 - 사용자 ID가 아닌 customerKey: {}, orderId: {}",
+                        request.getCustomerKey(), request.getOrderId());
+                    continue;
+                }
+                created.add(Payment.builder()
+                    .user(userRepository.getReferenceById(userId))
+                    .orderId(request.getOrderId())
+                    .orderName(request.getOrderName())
+                    .amount(request.getAmount() != null ? request.getAmount().longValue() : 0L)
+                    .customerEmail(request.getCustomerEmail())
+                    .customerName(request.getCustomerName())
+                    .customerMobilePhone(request.getCustomerMobilePhone())
+                    .status(Payment.PaymentStatus.IN_PROGRESS)
+                    .build());
+                pending.add(request);
+            }
+            paymentRepository.saveAll(created);
+            return pending;
+        });
+    }
+
+    @Override
+    public void record(List<TossBillingRunner.Outcome> outcomes) {
+        if (outcomes.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<String, Payment> payments = findByOrderIds(outcomes.stream().map(TossBillingRunner.Outcome::getOrderId).toList());
+            LocalDateTime now = LocalDateTime.now();
+            for (TossBillingRunner.Outcome outcome : outcomes) {
+                Payment payment = payments.get(outcome.getOrderId());
+                if (payment == null) {
+                    continue;
+                }
+                if (outcome.isSuccess()) {
+                    payment.approve(outcome.getPaymentKey(), outcome.getMethod(), now);
+                } else {
+                    payment.fail(outcome.getErrorCode(), outcome.getErrorMessage());
+                }
+            }
+        });
+    }
+
+    private Map<String, Payment> findByOrderIds(List<String> orderIds) {
+        return paymentRepository.findByOrderIdIn(orderIds).stream()
+            .collect(Collectors.toMap(Payment::getOrderId, Function.identity()));
+    }
+
+    /**
+     * 다시 결제해야 하는 상태 (결제 전/결과 기록 전에 중단된 주문)
+     */
+    private static boolean isResumable(Payment.PaymentStatus status) {
+        return status == Payment.PaymentStatus.READY || status == Payment.PaymentStatus.IN_PROGRESS;
+    }
+
+    private static Long parseUserId(String customerKey) {
+        try {
+            return customerKey != null ? Long.valueOf(customerKey) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.entity.TossIdempotencyKey;
+import com.example.rokdemo.repository.TossIdempotencyKeyRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+/**
+ * DB 기반 Idempotency-Key 저장소
+ * 키는 호출하는 쪽 트랜잭션과 별개로 바로 커밋한다.
+ * (호출하는 쪽이 롤백되더라도 이미 토스로 보낸 키는 남아 있어야 다음 요청에서 같은 키를 보낼 수 있음)
+ */
+@Component
+public class JpaTossIdempotencyKeyStore implements TossIdempotencyKeyStore {
+
+    private final TossIdempotencyKeyRepository repository;
+    private final TransactionTemplate transactionTemplate;
+
+    public JpaTossIdempotencyKeyStore(TossIdempotencyKeyRepository repository, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public String keyFor(TossOperation operation, String orderId) {
+        try {
+            return transactionTemplate.execute(status -> repository.findByOperationAndOrderId(operation, orderId)
+                .orElseGet(() -> repository.saveAndFlush(TossIdempotencyKey.builder()
+                    .operation(operation)
+                    .orderId(orderId)
+                    .idempotencyKey(UUID.randomUUID().toString())
+                    .build()))
+                .getIdempotencyKey());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 주문으로 동시에 발급된 경우 먼저 저장된 키를 사용
+            return transactionTemplate.execute(status -> repository.findByOperationAndOrderId(operation, orderId)
+                .orElseThrow(() -> e)
+                .getIdempotencyKey());
+        }
+    }
+}
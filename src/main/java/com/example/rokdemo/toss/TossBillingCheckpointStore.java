@@ -0,0 +1,28 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.toss.dto.TossBillingRequest;
+
+import java.util.List;
+
+/**
+ * 정기결제 일괄 실행 진행 기록 저장소
+ * 결제 전에 진행 중으로 기록하고 결제 후 결과를 기록해, 중단된 실행을 다시 돌려도 이미 끝난 주문은 결제하지 않게 한다.
+ * 진행 중으로 남은 주문은 다시 결제하되 같은 Idempotency-Key를 보내므로 토스에서 중복 승인되지 않는다.
+ */
+public interface TossBillingCheckpointStore {
+
+    /**
+     * 결제 시작 기록 (청크 단위)
+     *
+     * @param requests 결제 요청 목록
+     * @return 결제해야 할 요청 (이미 성공/실패로 끝난 주문과 기록할 수 없는 요청은 제외)
+     */
+    List<TossBillingRequest> begin(List<TossBillingRequest> requests);
+
+    /**
+     * 결제 결과 기록 (여러 건을 한 번에)
+     *
+     * @param outcomes 성공/실패가 확정된 결과
+     */
+    void record(List<TossBillingRunner.Outcome> outcomes);
+}
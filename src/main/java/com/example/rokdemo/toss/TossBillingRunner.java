@@ -0,0 +1,307 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import com.example.rokdemo.toss.dto.TossBillingRequest;
+import com.example.rokdemo.toss.dto.TossPaymentResponse;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 정기결제 일괄 실행
+ * 결제 요청 스트림을 청크 단위로 읽어 진행 기록(TossBillingCheckpointStore)에 남긴 뒤,
+ * 동시 결제 수(concurrency)와 초당 요청 수(ratePerSecond) 안에서 billingPayment를 호출하고 결과를 모아서 저장한다.
+ * 중단된 실행은 같은 요청으로 다시 돌리면 끝난 주문은 건너뛰고, 진행 중으로 남은 주문은 같은 Idempotency-Key로 다시 보내
+ * 중복 결제되지 않는다. 같은 주문 목록을 동시에 두 번 실행하는 경우는 고려하지 않는다.
+ * 동시 결제 수는 빌링 결제 격벽(resilience.bulkheads.billing)을 넘지 않도록 줄여서 실행하므로,
+ * 처리량 상한은 min(ratePerSecond, 동시 결제 수 / 평균 응답 시간)이다.
+ * 예) 기본값(격벽 2)에서 빌링 승인이 평균 500ms 걸리면 초당 약 4건으로, ratePerSecond(20)에 닿지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TossBillingRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(TossBillingRunner.class);
+
+    private final TossPaymentService tossPaymentService;
+    private final TossBillingCheckpointStore checkpointStore;
+    private final TossPaymentConfig config;
+
+    /**
+     * 일괄 결제 실행 (호출한 스레드에서 끝날 때까지 대기)
+     *
+     * @param requests 결제 요청 (주문번호는 실행 간에 같아야 이어서 처리할 수 있음)
+     * @return 실행 결과
+     */
+    public Report run(Stream<TossBillingRequest> requests) {
+        TossPaymentConfig.BillingBatch settings = config.getBillingBatch();
+        validate(settings);
+        int chunkSize = settings.getChunkSize();
+        Bucket rateLimit = Bucket.builder()
+            .addLimit(Bandwidth.builder()
+                .capacity(settings.getRatePerSecond())
+                .refillGreedy(settings.getRatePerSecond(), Duration.ofSeconds(1))
+                .build())
+            .build();
+        int concurrency = concurrency(settings);
+        Semaphore inFlight = new Semaphore(concurrency);
+
+        Counters counters = new Counters();
+        Queue<Outcome> outcomes = new ConcurrentLinkedQueue<>();
+        long startedAt = System.nanoTime();
+
+        logger.info("정기결제 일괄 실행 시작 - 동시 결제: {}, 초당 요청: {}", concurrency, settings.getRatePerSecond());
+
+        try (ExecutorService executor = tossPaymentService.newTaskExecutor("toss-billing")) {
+            Iterator<TossBillingRequest> iterator = requests.iterator();
+            List<TossBillingRequest> chunk = new ArrayList<>(chunkSize);
+            submit:
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() < chunkSize && iterator.hasNext()) {
+                    continue;
+                }
+
+                List<TossBillingRequest> pending = checkpointStore.begin(chunk);
+                counters.total.add(chunk.size());
+                counters.skipped.add(chunk.size() - pending.size());
+                chunk = new ArrayList<>(chunkSize);
+
+                for (TossBillingRequest request : pending) {
+                    try {
+                        inFlight.acquire();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        logger.warn("정기결제 일괄 실행 중단 - 진행 중인 결제만 마무리합니다.");
+                        break submit;
+                    }
+                    executor.execute(() -> {
+                        try {
+                            rateLimit.asBlocking().consume(1);
+                            charge(request, outcomes, counters);
+                        } catch (InterruptedException e) {
+                            counters.retryLater.increment();
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+
+                if (outcomes.size() >= chunkSize) {
+                    flush(outcomes, chunkSize);
+                }
+            }
+        } finally {
+            flush(outcomes, Integer.MAX_VALUE);
+        }
+
+        Report report = counters.toReport(System.nanoTime() - startedAt);
+        logger.info("정기결제 일괄 실행 완료 - 전체: {}, 성공: {}, 실패: {}, 건너뜀: {}, 재시도 대상: {}, 초당 결제: {}",
+            report.getTotal(), report.getCharged(), report.getFailed(), report.getSkipped(), report.getRetryLater(),
+            String.format("%.1f", report.getThroughput()));
+        return report;
+    }
+
+    /**
+     * 결과가 확정되지 않은 오류인지 (진행 중으로 남겨 다음 실행에서 같은 Idempotency-Key로 다시 결제)
+     * 호출 제한, 토스/카드사 장애, Idempotency-Key 오류, 에러 코드가 없는 오류(네트워크, 응답 타임아웃)가 해당한다.
+     */
+    private static boolean isRetryLater(TossPaymentException e) {
+        if (e.getErrorCode() == null || e.getCode() == TossErrorCode.IDEMPOTENCY_KEY_ERROR) {
+            return true;
+        }
+        TossErrorCode.Category category = e.getCode().getCategory();
+        return category == TossErrorCode.Category.THROTTLED || category == TossErrorCode.Category.PROVIDER;
+    }
+
+    /**
+     * 실행 설정 검증 (0 이하면 버킷/세마포어를 만들 수 없거나 아무것도 결제하지 못함)
+     */
+    private static void validate(TossPaymentConfig.BillingBatch settings) {
+        if (settings.getConcurrency() <= 0 || settings.getRatePerSecond() <= 0 || settings.getChunkSize() <= 0) {
+            throw new IllegalArgumentException("정기결제 일괄 실행 설정이 올바르지 않습니다. concurrency: " + settings.getConcurrency()
+                + ", ratePerSecond: " + settings.getRatePerSecond() + ", chunkSize: " + settings.getChunkSize());
+        }
+    }
+
+    /**
+     * 실제 동시 결제 수 (격벽 한도를 넘으면 남는 결제는 격벽에서 기다리다 BULKHEAD_FULL로 거절되므로 한도까지만 보낸다)
+     */
+    private int concurrency(TossPaymentConfig.BillingBatch settings) {
+        int bulkheadLimit = tossPaymentService.getBulkheadLimit(TossOperation.BILLING);
+        if (settings.getConcurrency() > bulkheadLimit) {
+            logger.warn("정기결제 동시 결제 수({})가 빌링 결제 격벽 한도({})보다 커서 {}건으로 줄여 실행합니다.",
+                settings.getConcurrency(), bulkheadLimit, bulkheadLimit);
+            return bulkheadLimit;
+        }
+        return settings.getConcurrency();
+    }
+
+    private void charge(TossBillingRequest request, Queue<Outcome> outcomes, Counters counters) {
+        try {
+            // 사용자 결제 승인이 먼저 토스 요청 한도를 쓰도록 백그라운드로 호출
+            TossPaymentResponse response = TossRateLimiter.callAs(TossRateLimiter.Priority.BACKGROUND, null,
+                () -> tossPaymentService.billingPayment(request));
+            outcomes.add(Outcome.success(request.getOrderId(), response.getPaymentKey(), response.getRawMethod()));
+            counters.charged.increment();
+        } catch (TossPaymentException e) {
+            String errorCode = e.getErrorCode();
+            if (isRetryLater(e)) {
+                counters.retryLater.increment();
+                counters.error(errorCode != null ? errorCode : "UNKNOWN");
+                return;
+            }
+            outcomes.add(Outcome.failure(request.getOrderId(), errorCode, e.getMessage()));
+            counters.failed.increment();
+            counters.error(errorCode);
+        } catch (RuntimeException e) {
+            logger.error("정기결제 처리 중 오류 - orderId: {}", request.getOrderId(), e);
+            counters.retryLater.increment();
+            counters.error("UNKNOWN");
+        }
+    }
+
+    /**
+     * 모인 결과 저장 (실행 스레드에서만 호출)
+     */
+    private void flush(Queue<Outcome> outcomes, int max) {
+        List<Outcome> batch = new ArrayList<>();
+        Outcome outcome;
+        while (batch.size() < max && (outcome = outcomes.poll()) != null) {
+            batch.add(outcome);
+        }
+        if (!batch.isEmpty()) {
+            checkpointStore.record(batch);
+        }
+    }
+
+    /**
+     * 주문별 결제 결과
+     */
+    @Getter
+    public static final class Outcome {
+        private final String orderId;
+        private final boolean success;
+        private final String paymentKey;
+        private final String method;
+        private final String errorCode;
+        private final String errorMessage;
+
+        private Outcome(String orderId, boolean success, String paymentKey, String method, String errorCode, String errorMessage) {
+            this.orderId = orderId;
+            this.success = success;
+            this.paymentKey = paymentKey;
+            this.method = method;
+            this.errorCode = errorCode;
+            this.errorMessage = errorMessage;
+        }
+
+        public static Outcome success(String orderId, String paymentKey, String method) {
+            return new Outcome(orderId, true, paymentKey, method, null, null);
+        }
+
+        public static Outcome failure(String orderId, String errorCode, String errorMessage) {
+            return new Outcome(orderId, false, null, null, errorCode, errorMessage);
+        }
+    }
+
+    /**
+     * 실행 결과
+     */
+    @Getter
+    public static final class Report {
+        /**
+         * 읽은 요청 수
+         */
+        private final long total;
+
+        /**
+         * 결제 성공 수
+         */
+        private final long charged;
+
+        /**
+         * 결제 실패 수 (카드 거절 등 결과가 확정된 실패)
+         */
+        private final long failed;
+
+        /**
+         * 이미 처리되어 건너뛴 수 (기록할 수 없는 요청 포함)
+         */
+        private final long skipped;
+
+        /**
+         * 결과가 확정되지 않아 다음 실행에서 다시 결제할 수
+         */
+        private final long retryLater;
+
+        private final long elapsedNanos;
+
+        /**
+         * 에러 코드별 건수
+         */
+        private final Map<String, Long> errors;
+
+        private Report(long total, long charged, long failed, long skipped, long retryLater, long elapsedNanos,
+                       Map<String, Long> errors) {
+            this.total = total;
+            this.charged = charged;
+            this.failed = failed;
+            this.skipped = skipped;
+            this.retryLater = retryLater;
+            this.elapsedNanos = elapsedNanos;
+            this.errors = errors;
+        }
+
+        /**
+         * 초당 결제 처리 수 (성공 + 확정 실패)
+         */
+        public double getThroughput() {
+            return elapsedNanos > 0 ? (charged + failed) / (elapsedNanos / 1_000_000_000.0) : 0;
+        }
+
+        public long getElapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        }
+    }
+
+    private static final class Counters {
+        private final LongAdder total = new LongAdder();
+        private final LongAdder charged = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+        private final LongAdder retryLater = new LongAdder();
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+        void error(String code) {
+            errors.computeIfAbsent(code, ignored -> new LongAdder()).increment();
+        }
+
+        Report toReport(long elapsedNanos) {
+            Map<String, Long> errorCounts = new TreeMap<>();
+            errors.forEach((code, count) -> errorCounts.put(code, count.sum()));
+            return new Report(total.sum(), charged.sum(), failed.sum(), skipped.sum(), retryLater.sum(), elapsedNanos,
+                Collections.unmodifiableMap(errorCounts));
+        }
+    }
+}
@@ -2,11 +2,8 @@ package com.example.rokdemo.toss;
 
 import com.example.rokdemo.toss.dto.TossBrandPayTokenResponse;
 import com.google.gson.Gson;
-import org.apache.http.client.methods.CloseableHttpResponse;
-import org.apache.http.client.methods.HttpGet;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.util.EntityUtils;
+import com.google.gson.JsonParseException;
+import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,21 +17,54 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import jakarta.servlet.http.HttpServletRequest;
+import javax.annotation.PostConstruct;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * 토스페이먼츠 브랜드페이 공통 컨트롤러
  */
 @Controller
+@RequiredArgsConstructor
 @RequestMapping("/payment/toss")
 public class TossBrandPayController {
     
     private static final Logger logger = LoggerFactory.getLogger(TossBrandPayController.class);
     
+    private static final Gson gson = new Gson();
+    
+    private final TossPaymentService tossPaymentService;
+    
     @Value("${nc.api.url}")
     private String apiUrl;
     
+    @Value("${nc.api.connect-timeout:5s}")
+    private Duration connectTimeout;
+    
+    @Value("${nc.api.timeout:10s}")
+    private Duration responseTimeout;
+    
+    /**
+     * API 호출용 공유 HttpClient (커넥션 재사용, 비동기 호출)
+     */
+    private HttpClient centralApiClient;
+    
+    @PostConstruct
+    public void init() {
+        centralApiClient = HttpClient.newBuilder()
+            .connectTimeout(connectTimeout)
+            .build();
+    }
+    
     /**
      * 브랜드페이 콜백 처리
      * 
@@ -45,17 +75,17 @@ public class TossBrandPayController {
      * @param errorMessage 에러 메시지
      * @param request
      * @param model
-     * @return JSON 응답 또는 브랜드페이 콜백페이지
+     * @return JSON 응답 또는 브랜드페이 콜백페이지 (Access Token 발급 API 응답 후 완료)
      */
 //    @Auth(isOptional = true)
     @RequestMapping("/brandpay/callback")
-    public Object brandpayCallback(@RequestAttribute(required = false) Integer userIdx,
-                                   @RequestParam(required = false) String code,
-                                   @RequestParam(required = false) String customerKey,
-                                   @RequestParam(required = false) String errorCode,
-                                   @RequestParam(required = false) String errorMessage,
-                                   HttpServletRequest request,
-                                   Model model) {
+    public CompletableFuture<Object> brandpayCallback(@RequestAttribute(required = false) Integer userIdx,
+                                                      @RequestParam(required = false) String code,
+                                                      @RequestParam(required = false) String customerKey,
+                                                      @RequestParam(required = false) String errorCode,
+                                                      @RequestParam(required = false) String errorMessage,
+                                                      HttpServletRequest request,
+                                                      Model model) {
         
         logger.info("=== 브랜드페이 콜백 요청 ===");
         logger.info("userIdx: {}, customerKey: {}, code: {}, errorCode: {}", 
@@ -78,14 +108,14 @@ public class TossBrandPayController {
                     errorResponse.put("error", true);
                     errorResponse.put("code", errorCode);
                     errorResponse.put("message", errorMessage);
-                    return ResponseEntity.badRequest()
+                    return CompletableFuture.completedFuture(ResponseEntity.badRequest()
                             .contentType(MediaType.APPLICATION_JSON)
-                            .body(errorResponse);
+                            .body(errorResponse));
                 }
                 
                 model.addAttribute("message", "브랜드페이 등록 실패: " + errorMessage + " (" + errorCode + ")");
                 model.addAttribute("closeWindow", true);
-                return "payment/brandpayCallback";
+                return CompletableFuture.completedFuture("payment/brandpayCallback");
             }
             
             // 2. 필수 파라미터 검증
@@ -97,14 +127,14 @@ public class TossBrandPayController {
                     errorResponse.put("error", true);
                     errorResponse.put("code", "MISSING_PARAMETER");
                     errorResponse.put("message", "code 파라미터가 필요합니다.");
-                    return ResponseEntity.badRequest()
+                    return CompletableFuture.completedFuture(ResponseEntity.badRequest()
                             .contentType(MediaType.APPLICATION_JSON)
-                            .body(errorResponse);
+                            .body(errorResponse));
                 }
                 
                 model.addAttribute("message", "브랜드페이 등록 중 오류가 발생했습니다. (파라미터 누락: code)");
                 model.addAttribute("closeWindow", true);
-                return "payment/brandpayCallback";
+                return CompletableFuture.completedFuture("payment/brandpayCallback");
             }
             
             if (customerKey == null || customerKey.isEmpty()) {
@@ -115,145 +145,216 @@ public class TossBrandPayController {
                     errorResponse.put("error", true);
                     errorResponse.put("code", "MISSING_PARAMETER");
                     errorResponse.put("message", "customerKey 파라미터가 필요합니다.");
-                    return ResponseEntity.badRequest()
+                    return CompletableFuture.completedFuture(ResponseEntity.badRequest()
                             .contentType(MediaType.APPLICATION_JSON)
-                            .body(errorResponse);
+                            .body(errorResponse));
                 }
                 
                 model.addAttribute("message", "브랜드페이 등록 중 오류가 발생했습니다. (파라미터 누락: customerKey)");
                 model.addAttribute("closeWindow", true);
-                return "payment/brandpayCallback";
+                return CompletableFuture.completedFuture("payment/brandpayCallback");
             }
             
-            // 3. API 호출 (Access Token 발급)
-            String centralApiUrl = apiUrl + "/auth/payment/toss/customerToken?code=" + code + "&customerKey=" + customerKey;
+            // 3. API 호출 (Access Token 발급, 응답을 기다리는 동안 요청 스레드 반환)
+            String centralApiUrl = apiUrl + "/auth/payment/toss/customerToken?code=" + encode(code)
+                + "&customerKey=" + encode(customerKey);
             
             logger.info("=== API 호출 시작 ===");
-            logger.info("API URL: {}", centralApiUrl);
             logger.info("customerKey: {}", customerKey);
             
-            TossBrandPayTokenResponse tokenResponse = callCentralApi(centralApiUrl);
-            
-            if (tokenResponse == null || tokenResponse.getAccessToken() == null) {
-                logger.error("API에서 유효하지 않은 응답 수신 - tokenResponse: {}", tokenResponse);
-                
-                if (isJsonRequest) {
-                    Map<String, Object> errorResponse = new HashMap<>();
-                    errorResponse.put("error", true);
-                    errorResponse.put("code", "API_ERROR");
-                    errorResponse.put("message", "Access Token 발급 실패");
-                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                            .contentType(MediaType.APPLICATION_JSON)
-                            .body(errorResponse);
-                }
-                
-                model.addAttribute("message", "브랜드페이 등록 중 오류가 발생했습니다. (API 응답 오류)");
-                model.addAttribute("closeWindow", true);
-                return "payment/brandpayCallback";
-            }
-            
-            logger.info("브랜드페이 Access Token 발급 완료 - customerKey: {}, accessToken: {}", 
-                customerKey, maskToken(tokenResponse.getAccessToken()));
-            
-            // 4. 성공 응답
-            if (isJsonRequest) {
-                // 토스 SDK가 기대하는 JSON 응답 형식
-                logger.info("JSON 응답 반환 (토스 SDK 요청)");
-                return ResponseEntity.ok()
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .body(tokenResponse);
-            }
-            
-            // 브라우저 리다이렉트용 HTML 응답
-            logger.info("HTML 응답 반환 (브라우저 리다이렉트)");
-            model.addAttribute("message", "브랜드페이 등록이 완료되었습니다.");
-            model.addAttribute("closeWindow", true);
-            
-            logger.info("=== 브랜드페이 콜백 처리 완료 ===");
-            return "payment/brandpayCallback";
+            return callCentralApi(centralApiUrl)
+                .handle((tokenResponse, throwable) -> {
+                    if (throwable != null) {
+                        return handleCallbackError(unwrap(throwable), isJsonRequest, model);
+                    }
+                    return handleTokenResponse(tokenResponse, customerKey, isJsonRequest, model);
+                });
             
         } catch (Exception e) {
-            logger.error("브랜드페이 콜백 처리 중 예상치 못한 오류 발생", e);
+            return CompletableFuture.completedFuture(handleCallbackError(e, isJsonRequest, model));
+        }
+    }
+    
+    /**
+     * Access Token 발급 결과 응답
+     */
+    private Object handleTokenResponse(TossBrandPayTokenResponse tokenResponse, String customerKey,
+                                       boolean isJsonRequest, Model model) {
+        if (tokenResponse == null || tokenResponse.getAccessToken() == null) {
+            logger.error("API에서 유효하지 않은 응답 수신 - tokenResponse: {}", tokenResponse);
             
             if (isJsonRequest) {
                 Map<String, Object> errorResponse = new HashMap<>();
                 errorResponse.put("error", true);
-                errorResponse.put("code", "INTERNAL_ERROR");
-                errorResponse.put("message", e.getMessage());
+                errorResponse.put("code", "API_ERROR");
+                errorResponse.put("message", "Access Token 발급 실패");
                 return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                         .contentType(MediaType.APPLICATION_JSON)
                         .body(errorResponse);
             }
             
-            model.addAttribute("message", "브랜드페이 등록 중 오류가 발생했습니다.");
+            model.addAttribute("message", "브랜드페이 등록 중 오류가 발생했습니다. (API 응답 오류)");
             model.addAttribute("closeWindow", true);
             return "payment/brandpayCallback";
         }
+        
+        logger.info("브랜드페이 Access Token 발급 완료 - customerKey: {}, accessToken: {}", 
+            customerKey, maskToken(tokenResponse.getAccessToken()));
+        
+        // 브랜드페이 등록 완료: 결제 화면에 새 결제수단이 보이도록 캐시 제거
+        tossPaymentService.invalidateBrandPayMethods(customerKey);
+        
+        // 4. 성공 응답
+        if (isJsonRequest) {
+            // 토스 SDK가 기대하는 JSON 응답 형식
+            logger.info("JSON 응답 반환 (토스 SDK 요청)");
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(tokenResponse);
+        }
+        
+        // 브라우저 리다이렉트용 HTML 응답
+        logger.info("HTML 응답 반환 (브라우저 리다이렉트)");
+        model.addAttribute("message", "브랜드페이 등록이 완료되었습니다.");
+        model.addAttribute("closeWindow", true);
+        
+        logger.info("=== 브랜드페이 콜백 처리 완료 ===");
+        return "payment/brandpayCallback";
     }
     
     /**
-     * Access Token 발급
+     * 콜백 처리 중 예외 응답
+     * TossPaymentException은 에러 코드를 그대로 내려주고, 요청 값 오류/토스 거절은 4xx로 응답한다.
+     */
+    private Object handleCallbackError(Throwable e, boolean isJsonRequest, Model model) {
+        TossPaymentException tossException = e instanceof TossPaymentException ? (TossPaymentException) e : null;
+        boolean businessError = tossException != null && tossException.isBusinessError();
+        
+        if (businessError) {
+            // 요청 값 오류/토스 거절은 정상 흐름이므로 스택 트레이스 없이 남긴다
+            logger.warn("브랜드페이 콜백 처리 실패 - 코드: {}, 메시지: {}", tossException.getErrorCode(), e.getMessage());
+        } else {
+            logger.error("브랜드페이 콜백 처리 중 예상치 못한 오류 발생", e);
+        }
+        
+        String errorCode = tossException != null && tossException.getErrorCode() != null
+            ? tossException.getErrorCode() : "INTERNAL_ERROR";
+        
+        if (isJsonRequest) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", true);
+            errorResponse.put("code", errorCode);
+            errorResponse.put("message", e.getMessage());
+            return ResponseEntity.status(errorStatus(tossException))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(errorResponse);
+        }
+        
+        model.addAttribute("message", businessError
+            ? "브랜드페이 등록 실패: " + e.getMessage() + " (" + errorCode + ")"
+            : "브랜드페이 등록 중 오류가 발생했습니다.");
+        model.addAttribute("closeWindow", true);
+        return "payment/brandpayCallback";
+    }
+    
+    /**
+     * 에러 코드 종류별 HTTP 상태
+     * 요청 값 오류/토스 거절: 400, 토스/카드사 장애: 502, 호출 제한: 503, 그 외: 500
+     */
+    private static HttpStatus errorStatus(TossPaymentException e) {
+        if (e == null) {
+            return HttpStatus.INTERNAL_SERVER_ERROR;
+        }
+        switch (e.getCode().getCategory()) {
+            case CLIENT:
+            case BUSINESS:
+                return HttpStatus.BAD_REQUEST;
+            case PROVIDER:
+                return HttpStatus.BAD_GATEWAY;
+            case THROTTLED:
+                return HttpStatus.SERVICE_UNAVAILABLE;
+            default:
+                return HttpStatus.INTERNAL_SERVER_ERROR;
+        }
+    }
+    
+    /**
+     * Access Token 발급 (비동기)
+     * 공유 HttpClient의 커넥션을 재사용하며, 응답은 HttpClient 스레드에서 전달된다.
      *
      * @param apiUrl
-     * @return Access Token 응답 객체
-     * @throws Exception API 호출 실패 시
+     * @return Access Token 응답 (실패 시 TossPaymentException으로 완료)
      */
-    private TossBrandPayTokenResponse callCentralApi(String apiUrl) throws Exception {
-        CloseableHttpClient httpClient = null;
-        CloseableHttpResponse response = null;
+    private CompletableFuture<TossBrandPayTokenResponse> callCentralApi(String apiUrl) {
+        HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(apiUrl))
+            .timeout(responseTimeout)
+            .GET()
+            .build();
         
-        try {
-            httpClient = HttpClients.createDefault();
-            HttpGet httpGet = new HttpGet(apiUrl);
-            
-            logger.debug("HTTP GET 요청 전송 중...");
-            response = httpClient.execute(httpGet);
-            
-            int statusCode = response.getStatusLine().getStatusCode();
-            String responseBody = EntityUtils.toString(response.getEntity(), "UTF-8");
-            
-            logger.info("=== API 응답 ===");
-            logger.info("Status Code: {}", statusCode);
-            logger.debug("Response Body: {}", responseBody);
-            
-            // HTTP 상태 코드 검증
-            if (statusCode != 200) {
-                logger.error("API 오류 응답 - Status: {}, Body: {}", statusCode, responseBody);
-                throw new TossPaymentException("CENTRAL_API_ERROR", 
-                    "중앙 API 호출 실패 (Status: " + statusCode + ")");
-            }
-            
-            // JSON 파싱
-            Gson gson = new Gson();
-            TossBrandPayTokenResponse tokenResponse = gson.fromJson(responseBody, TossBrandPayTokenResponse.class);
-            
-            if (tokenResponse == null) {
-                logger.error("JSON 파싱 실패 - responseBody: {}", responseBody);
-                throw new TossPaymentException("JSON_PARSE_ERROR", "응답 JSON 파싱 실패");
-            }
-            
-            logger.debug("JSON 파싱 완료 - accessToken: {}", 
-                tokenResponse.getAccessToken() != null ? "EXISTS" : "NULL");
-            
-            return tokenResponse;
-            
-        } finally {
-            // 리소스 정리
-            if (response != null) {
-                try {
-                    response.close();
-                } catch (Exception e) {
-                    logger.warn("CloseableHttpResponse 닫기 실패", e);
+        logger.debug("HTTP GET 요청 전송 중...");
+        return centralApiClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+            .thenApply(response -> {
+                int statusCode = response.statusCode();
+                String responseBody = response.body();
+                
+                logger.info("=== API 응답 ===");
+                logger.info("Status Code: {}", statusCode);
+                logger.debug("Response Body: {}", responseBody);
+                
+                // HTTP 상태 코드 검증 (토스 에러 코드가 담겨 있으면 그대로 전달)
+                if (statusCode != 200) {
+                    logger.error("API 오류 응답 - Status: {}, Body: {}", statusCode, responseBody);
+                    TossBrandPayTokenResponse errorResponse = parseErrorResponse(responseBody);
+                    if (errorResponse != null && errorResponse.getCode() != null) {
+                        throw new TossPaymentException(errorResponse.getCode(), errorResponse.getMessage() != null
+                            ? errorResponse.getMessage() : "Access Token 발급 실패: " + errorResponse.getCode());
+                    }
+                    throw new TossPaymentException(TossErrorCode.CENTRAL_API_ERROR, 
+                        "중앙 API 호출 실패 (Status: " + statusCode + ")");
                 }
-            }
-            if (httpClient != null) {
-                try {
-                    httpClient.close();
-                } catch (Exception e) {
-                    logger.warn("CloseableHttpClient 닫기 실패", e);
+                
+                // JSON 파싱
+                TossBrandPayTokenResponse tokenResponse = gson.fromJson(responseBody, TossBrandPayTokenResponse.class);
+                
+                if (tokenResponse == null) {
+                    logger.error("JSON 파싱 실패 - responseBody: {}", responseBody);
+                    throw new TossPaymentException(TossErrorCode.JSON_PARSE_ERROR, "응답 JSON 파싱 실패");
                 }
-            }
+                
+                logger.debug("JSON 파싱 완료 - accessToken: {}", 
+                    tokenResponse.getAccessToken() != null ? "EXISTS" : "NULL");
+                
+                return tokenResponse;
+            });
+    }
+    
+    /**
+     * 오류 응답 본문 파싱 (JSON이 아니면 null)
+     */
+    private static TossBrandPayTokenResponse parseErrorResponse(String responseBody) {
+        try {
+            return gson.fromJson(responseBody, TossBrandPayTokenResponse.class);
+        } catch (JsonParseException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * 쿼리 파라미터 값 인코딩
+     */
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * CompletableFuture 래핑 예외 해제
+     */
+    private static Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
         }
+        return cause;
     }
     
     /**
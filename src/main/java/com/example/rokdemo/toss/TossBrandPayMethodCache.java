@@ -0,0 +1,120 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import com.example.rokdemo.toss.dto.TossBrandPayMethodResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 브랜드페이 등록 결제수단 캐시 (customerKey 기준)
+ * 결제 화면마다 토스를 호출하지 않도록 조회 결과를 잠시 보관한다.
+ * - ttl 이내: 그대로 사용
+ * - ttl 경과 후 staleWhileRevalidate 이내: 이전 결과를 바로 돌려주고 뒤에서 다시 조회
+ * 브랜드페이 등록(콜백 완료), 결제수단 추가/삭제 시에는 invalidate로 즉시 제거한다.
+ * 캐시된 응답 객체는 여러 호출자가 공유하므로 수정하지 않고 읽기 용도로만 사용해야 한다.
+ */
+public class TossBrandPayMethodCache {
+
+    private final Cache<String, Entry> cache;
+    private final long ttlNanos;
+
+    /**
+     * 무효화 세대 (invalidate 호출마다 증가)
+     * 무효화 이전에 시작된 조회가 끝난 뒤 이전 결제수단 목록을 다시 저장하지 않도록 사용
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    public TossBrandPayMethodCache(TossPaymentConfig.BrandPayMethodCache settings) {
+        this.ttlNanos = settings.getTtl().toNanos();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(settings.getMaxSize())
+            .expireAfterWrite(settings.getTtl().plus(settings.getStaleWhileRevalidate()).toNanos(), TimeUnit.NANOSECONDS)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 캐시된 결제수단 목록
+     *
+     * @param customerKey 고객 식별자
+     * @return 캐시 항목, 없거나 만료되었으면 null
+     */
+    public Entry get(String customerKey) {
+        return cache.getIfPresent(customerKey);
+    }
+
+    /**
+     * 현재 무효화 세대 (조회 시작 전에 읽어 둔다)
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 조회 결과 저장
+     * 조회 시작 이후 무효화가 있었으면 저장하지 않는다 (등록 직전에 시작된 조회가 이전 목록을 다시 넣는 경우 방지).
+     *
+     * @param customerKey 고객 식별자
+     * @param response 조회 결과
+     * @param startGeneration 조회 시작 시점의 세대
+     */
+    public void put(String customerKey, TossBrandPayMethodResponse response, long startGeneration) {
+        if (generation.get() != startGeneration) {
+            return;
+        }
+        cache.put(customerKey, new Entry(response, System.nanoTime() + ttlNanos));
+        // 저장 직후 무효화가 끼어든 경우 되돌린다
+        if (generation.get() != startGeneration) {
+            cache.invalidate(customerKey);
+        }
+    }
+
+    /**
+     * 결제수단이 바뀌는 경우(브랜드페이 등록, 결제수단 추가/삭제) 해당 고객 캐시 제거
+     */
+    public void invalidate(String customerKey) {
+        if (customerKey != null) {
+            generation.incrementAndGet();
+            cache.invalidate(customerKey);
+        }
+    }
+
+    /**
+     * 적중/미스 통계
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 현재 캐시 항목 수 (추정치)
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public static final class Entry {
+        private final TossBrandPayMethodResponse response;
+        private final long freshUntil;
+
+        Entry(TossBrandPayMethodResponse response, long freshUntil) {
+            this.response = response;
+            this.freshUntil = freshUntil;
+        }
+
+        public TossBrandPayMethodResponse getResponse() {
+            return response;
+        }
+
+        /**
+         * ttl이 지나 다시 조회해야 하는지 여부
+         */
+        public boolean isStale() {
+            return System.nanoTime() - freshUntil >= 0;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import com.example.rokdemo.toss.dto.TossBrandPayTokenResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 브랜드페이 Access Token 캐시 (customerKey 기준)
+ * 발급 응답의 expiresIn 동안 토큰을 메모리에 두고 재사용하며, 만료가 가까워지면(refreshBefore) 갱신 대상으로 알려준다.
+ * 토큰은 문자열이 아닌 char[]로 보관하고, 만료/교체/제거된 항목은 즉시 0으로 덮어써 메모리에 남기지 않는다.
+ * (호출자에게 돌려준 응답 객체의 문자열은 지울 수 없으므로 캐시 보관분에만 해당)
+ */
+public class TossBrandPayTokenCache {
+
+    private final Cache<String, Entry> cache;
+    private final long refreshBeforeNanos;
+
+    public TossBrandPayTokenCache(TossPaymentConfig.BrandPayTokenCache settings) {
+        this.refreshBeforeNanos = settings.getRefreshBefore().toNanos();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(settings.getMaxSize())
+            .expireAfter(new Expiry<String, Entry>() {
+                @Override
+                public long expireAfterCreate(String customerKey, Entry entry, long currentTime) {
+                    return Math.max(0, entry.expiresAt - currentTime);
+                }
+
+                @Override
+                public long expireAfterUpdate(String customerKey, Entry entry, long currentTime, long currentDuration) {
+                    return expireAfterCreate(customerKey, entry, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String customerKey, Entry entry, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .removalListener((String customerKey, Entry entry, RemovalCause cause) -> {
+                if (entry != null) {
+                    entry.wipe();
+                }
+            })
+            .executor(Runnable::run)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 갱신 시점 전의 유효한 토큰
+     *
+     * @param customerKey 고객 식별자
+     * @return 토큰 응답 (호출마다 새 객체), 없거나 갱신이 필요하면 null
+     */
+    public TossBrandPayTokenResponse get(String customerKey) {
+        Entry entry = cache.getIfPresent(customerKey);
+        if (entry == null || entry.expiresAt - System.nanoTime() <= refreshBeforeNanos) {
+            return null;
+        }
+        return entry.toResponse();
+    }
+
+    /**
+     * 갱신에 사용할 Refresh Token (복사본, 사용 후 호출자가 지워야 한다)
+     *
+     * @param customerKey 고객 식별자
+     * @return Refresh Token, 캐시에 없으면 null
+     */
+    public char[] refreshToken(String customerKey) {
+        Entry entry = cache.getIfPresent(customerKey);
+        return entry != null ? entry.copyRefreshToken() : null;
+    }
+
+    /**
+     * 발급 결과 저장 (expiresIn이 없는 응답은 저장하지 않음, 이전 토큰은 지워진다)
+     */
+    public void put(String customerKey, TossBrandPayTokenResponse response) {
+        if (response.getExpiresIn() == null || response.getExpiresIn() <= 0 || response.getAccessToken() == null) {
+            return;
+        }
+        cache.put(customerKey, new Entry(response));
+    }
+
+    /**
+     * 고객 토큰 제거 (브랜드페이 해지, 인증 오류 등)
+     */
+    public void invalidate(String customerKey) {
+        cache.invalidate(customerKey);
+    }
+
+    /**
+     * 적중/미스 통계
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static final class Entry {
+        private final char[] accessToken;
+        private final char[] refreshToken;
+        private final String tokenType;
+        private final long expiresAt;
+        private boolean wiped;
+
+        Entry(TossBrandPayTokenResponse response) {
+            this.accessToken = response.getAccessToken().toCharArray();
+            this.refreshToken = response.getRefreshToken() != null ? response.getRefreshToken().toCharArray() : null;
+            this.tokenType = response.getTokenType();
+            this.expiresAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(response.getExpiresIn());
+        }
+
+        /**
+         * 응답 객체 생성 (expiresIn은 남은 시간, 이미 지워졌으면 null)
+         */
+        synchronized TossBrandPayTokenResponse toResponse() {
+            if (wiped) {
+                return null;
+            }
+            TossBrandPayTokenResponse response = new TossBrandPayTokenResponse();
+            response.setAccessToken(new String(accessToken));
+            response.setTokenType(tokenType);
+            response.setExpiresIn((int) TimeUnit.NANOSECONDS.toSeconds(expiresAt - System.nanoTime()));
+            return response;
+        }
+
+        synchronized char[] copyRefreshToken() {
+            return wiped || refreshToken == null ? null : refreshToken.clone();
+        }
+
+        synchronized void wipe() {
+            wiped = true;
+            Arrays.fill(accessToken, '\0');
+            if (refreshToken != null) {
+                Arrays.fill(refreshToken, '\0');
+            }
+        }
+    }
+}
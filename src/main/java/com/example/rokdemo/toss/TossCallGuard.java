@@ -0,0 +1,188 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 호출 종류별 격벽(Bulkhead) + 서킷 브레이커
+ * 호출 종류마다 동시 실행 수를 따로 제한해 조회 폭주가 결제 승인에 쓸 커넥션까지 차지하지 못하게 하고,
+ * 토스 장애 시에는 서킷 브레이커로 빠르게 실패시켜 요청 스레드가 타임아웃까지 묶이지 않도록 한다.
+ * 결제 승인 외 호출의 격벽 합계가 (호스트당 커넥션 수 - 결제 승인 격벽) 이하여야 결제 승인 몫의 커넥션이 항상 남는다.
+ */
+public class TossCallGuard {
+
+    private static final Logger logger = LoggerFactory.getLogger(TossCallGuard.class);
+
+    private final Map<TossOperation, Semaphore> bulkheads = new EnumMap<>(TossOperation.class);
+    private final Map<TossOperation, Integer> bulkheadLimits = new EnumMap<>(TossOperation.class);
+    private final Map<TossOperation, LongAdder> bulkheadRejections = new EnumMap<>(TossOperation.class);
+    private final Map<TossOperation, TossCircuitBreaker> circuitBreakers = new EnumMap<>(TossOperation.class);
+    private final long bulkheadMaxWaitNanos;
+
+    /**
+     * @param settings 격벽/서킷 브레이커 설정
+     * @param maxPerRoute 호스트당 최대 커넥션 수 (격벽 합계 확인용)
+     */
+    public TossCallGuard(TossPaymentConfig.Resilience settings, int maxPerRoute) {
+        this.bulkheadMaxWaitNanos = settings.getBulkheadMaxWait().toNanos();
+
+        TossPaymentConfig.CircuitBreaker breaker = settings.getCircuitBreaker();
+        for (TossOperation operation : TossOperation.values()) {
+            int limit = settings.getBulkheads().getOrDefault(operation, settings.getDefaultBulkhead());
+            bulkheads.put(operation, new Semaphore(limit, true));
+            bulkheadLimits.put(operation, limit);
+            bulkheadRejections.put(operation, new LongAdder());
+            circuitBreakers.put(operation, new TossCircuitBreaker(
+                operation,
+                breaker.getWindowSize(),
+                breaker.getMinimumCalls(),
+                breaker.getFailureRateThreshold(),
+                breaker.getSlowCallRateThreshold(),
+                breaker.getSlowCallDuration().toNanos(),
+                breaker.getOpenDuration().toNanos(),
+                breaker.getHalfOpenCalls()
+            ));
+        }
+        warnIfOverConnectionBudget(maxPerRoute);
+    }
+
+    /**
+     * 결제 승인 외 호출의 격벽 합계가 결제 승인 몫의 커넥션을 남기는지 확인
+     * 넘으면 다른 호출들이 호스트당 커넥션을 모두 차지해 결제 승인이 커넥션을 기다릴 수 있으므로 경고를 남긴다.
+     *
+     * @param maxPerRoute 호스트당 최대 커넥션 수
+     * @return 결제 승인 몫이 남으면 true
+     */
+    public boolean checkConnectionBudget(int maxPerRoute) {
+        return warnIfOverConnectionBudget(maxPerRoute);
+    }
+
+    /**
+     * 생성자에서도 호출하므로 재정의할 수 없는 private 메서드로 둔다
+     */
+    private boolean warnIfOverConnectionBudget(int maxPerRoute) {
+        int confirm = bulkheadLimits.get(TossOperation.CONFIRM);
+        int others = 0;
+        for (Map.Entry<TossOperation, Integer> entry : bulkheadLimits.entrySet()) {
+            if (entry.getKey() != TossOperation.CONFIRM) {
+                others += entry.getValue();
+            }
+        }
+        if (others > maxPerRoute - confirm) {
+            logger.warn("토스페이먼츠 격벽 설정이 호스트당 커넥션 수를 넘습니다 - 결제 승인 외 합계: {}, 허용: {} (호스트당 {} - 결제 승인 {}). "
+                + "결제 승인이 커넥션을 기다릴 수 있습니다.", others, maxPerRoute - confirm, maxPerRoute, confirm);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 호출 시작 (동기 호출, 격벽 자리가 날 때까지 최대 bulkheadMaxWait 대기)
+     *
+     * @param operation 호출 종류
+     * @throws TossPaymentException 서킷 차단(CIRCUIT_OPEN) 또는 격벽 초과(BULKHEAD_FULL) 시
+     */
+    public void acquire(TossOperation operation) throws TossPaymentException {
+        acquire(operation, bulkheadMaxWaitNanos);
+    }
+
+    /**
+     * 호출 시작 (비동기 호출, 대기 없이 즉시 판단)
+     *
+     * @param operation 호출 종류
+     * @throws TossPaymentException 서킷 차단(CIRCUIT_OPEN) 또는 격벽 초과(BULKHEAD_FULL) 시
+     */
+    public void tryAcquire(TossOperation operation) throws TossPaymentException {
+        acquire(operation, 0);
+    }
+
+    /**
+     * 호출 종료 (결과 집계 + 격벽 자리 반환)
+     *
+     * @param operation 호출 종류
+     * @param failure 네트워크 오류/5xx 등 토스 측 장애로 인한 실패 여부
+     * @param elapsedNanos 호출 소요 시간
+     */
+    public void release(TossOperation operation, boolean failure, long elapsedNanos) {
+        TossCircuitBreaker breaker = circuitBreakers.get(operation);
+        if (failure) {
+            breaker.onFailure(elapsedNanos);
+        } else {
+            breaker.onSuccess(elapsedNanos);
+        }
+        bulkheads.get(operation).release();
+    }
+
+    /**
+     * 호출하지 못하고 끝난 경우 (결과 집계 없이 격벽 자리만 반환)
+     */
+    public void releaseWithoutRecord(TossOperation operation) {
+        circuitBreakers.get(operation).onIgnored();
+        bulkheads.get(operation).release();
+    }
+
+    public TossCircuitBreaker.State getCircuitState(TossOperation operation) {
+        return circuitBreakers.get(operation).getState();
+    }
+
+    /**
+     * 서킷 차단으로 거절된 호출 수
+     */
+    public long getCircuitRejectedCount(TossOperation operation) {
+        return circuitBreakers.get(operation).getRejectedCount();
+    }
+
+    /**
+     * 격벽 초과로 거절된 호출 수
+     */
+    public long getBulkheadRejectedCount(TossOperation operation) {
+        return bulkheadRejections.get(operation).sum();
+    }
+
+    /**
+     * 격벽 동시 실행 한도
+     */
+    public int getBulkheadLimit(TossOperation operation) {
+        return bulkheadLimits.get(operation);
+    }
+
+    /**
+     * 현재 실행 중인 호출 수
+     */
+    public int getActiveCount(TossOperation operation) {
+        return bulkheadLimits.get(operation) - bulkheads.get(operation).availablePermits();
+    }
+
+    private void acquire(TossOperation operation, long maxWaitNanos) throws TossPaymentException {
+        TossCircuitBreaker breaker = circuitBreakers.get(operation);
+        if (!breaker.tryAcquire()) {
+            throw new TossPaymentException(TossErrorCode.CIRCUIT_OPEN,
+                operation.getDescription() + " 일시 중단: 토스페이먼츠 응답 지연/오류로 호출을 차단했습니다.");
+        }
+
+        boolean acquired;
+        try {
+            acquired = maxWaitNanos > 0
+                ? bulkheads.get(operation).tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)
+                : bulkheads.get(operation).tryAcquire();
+        } catch (InterruptedException e) {
+            breaker.onIgnored();
+            Thread.currentThread().interrupt();
+            throw new TossPaymentException(operation.getDescription() + " 처리 중 오류가 발생했습니다: 호출 대기 중 인터럽트", e);
+        }
+
+        if (!acquired) {
+            breaker.onIgnored();
+            bulkheadRejections.get(operation).increment();
+            throw new TossPaymentException(TossErrorCode.BULKHEAD_FULL,
+                operation.getDescription() + " 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.rokdemo.toss;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 토스페이먼츠 호출 서킷 브레이커 (호출 종류별 1개)
+ * 최근 N건의 호출 결과로 실패율/지연 호출 비율을 계산해 임계치를 넘으면 일정 시간 호출을 차단(OPEN)한다.
+ * 차단 시간이 지나면 제한된 수의 시험 호출(HALF_OPEN)을 허용하고, 모두 성공하면 다시 정상(CLOSED)으로 돌아간다.
+ * 실패로 집계하는 것은 네트워크 오류와 5xx/429 응답뿐이며 카드 한도 초과 같은 4xx 업무 오류는 성공으로 본다.
+ */
+public class TossCircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(TossCircuitBreaker.class);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final TossOperation operation;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final int slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenCalls;
+
+    /**
+     * 최근 호출 결과 (원형 버퍼, 비트 0: 실패, 비트 1: 지연)
+     */
+    private final byte[] outcomes;
+    private int position;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    public TossCircuitBreaker(TossOperation operation, int windowSize, int minimumCalls,
+                              int failureRateThreshold, int slowCallRateThreshold,
+                              long slowCallNanos, long openNanos, int halfOpenCalls) {
+        this.operation = operation;
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = slowCallNanos;
+        this.openNanos = openNanos;
+        this.halfOpenCalls = halfOpenCalls;
+        this.outcomes = new byte[windowSize];
+    }
+
+    /**
+     * 호출 허용 여부 확인
+     * 허용된 호출은 끝난 뒤 반드시 onSuccess/onFailure/onIgnored 중 하나를 호출해야 한다.
+     *
+     * @return 호출 허용 여부 (차단 시 false)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                rejectedCalls.increment();
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= halfOpenCalls) {
+                rejectedCalls.increment();
+                return false;
+            }
+            halfOpenPermits++;
+        }
+        return true;
+    }
+
+    /**
+     * 호출 성공 기록
+     *
+     * @param elapsedNanos 호출 소요 시간
+     */
+    public synchronized void onSuccess(long elapsedNanos) {
+        record(false, elapsedNanos);
+    }
+
+    /**
+     * 호출 실패 기록 (네트워크 오류, 5xx/429 응답)
+     *
+     * @param elapsedNanos 호출 소요 시간
+     */
+    public synchronized void onFailure(long elapsedNanos) {
+        record(true, elapsedNanos);
+    }
+
+    /**
+     * 호출 전에 중단된 경우 (결과를 집계하지 않고 시험 호출 자리만 반환)
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * 차단으로 거절된 호출 수
+     */
+    public long getRejectedCount() {
+        return rejectedCalls.sum();
+    }
+
+    private void record(boolean failure, long elapsedNanos) {
+        boolean slow = elapsedNanos >= slowCallNanos;
+
+        if (state == State.HALF_OPEN) {
+            if (failure || slow) {
+                transitionTo(State.OPEN);
+            } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            // 차단 전에 시작된 호출의 결과는 집계하지 않는다
+            return;
+        }
+
+        if (recorded == windowSize) {
+            byte evicted = outcomes[position];
+            failures -= evicted & 1;
+            slowCalls -= (evicted >> 1) & 1;
+        } else {
+            recorded++;
+        }
+        outcomes[position] = (byte) ((failure ? 1 : 0) | (slow ? 2 : 0));
+        failures += failure ? 1 : 0;
+        slowCalls += slow ? 1 : 0;
+        position = (position + 1) % windowSize;
+
+        if (recorded >= minimumCalls
+            && (failures * 100 >= failureRateThreshold * recorded || slowCalls * 100 >= slowCallRateThreshold * recorded)) {
+            logger.warn("토스페이먼츠 {} 서킷 브레이커 차단 - 실패: {}/{}, 지연: {}/{}",
+                operation.getDescription(), failures, recorded, slowCalls, recorded);
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State next) {
+        if (state != next) {
+            logger.info("토스페이먼츠 {} 서킷 브레이커 상태 변경: {} -> {}", operation.getDescription(), state, next);
+        }
+        state = next;
+        halfOpenPermits = 0;
+        halfOpenSuccesses = 0;
+
+        if (next == State.OPEN) {
+            openedAt = System.nanoTime();
+        } else if (next == State.CLOSED) {
+            position = 0;
+            recorded = 0;
+            failures = 0;
+            slowCalls = 0;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.rokdemo.toss;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.apache.http.pool.PoolStats;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 토스페이먼츠 HttpClient 커넥션 풀 메트릭
+ * toss.pool.connections{state=leased|pending|available|max}: 풀 현황 (pending이 늘면 풀 고갈)
+ * toss.pool.lease.wait: 커넥션 대여 대기 시간 분포 (대기는 짧은데 응답이 느리면 토스 측 지연)
+ * toss.pool.handshake: 새 커넥션 연결(TCP + TLS 핸드셰이크) 횟수/시간 (배포 직후 외에 계속 늘면 커넥션 재사용 문제)
+ * toss.cache.requests{cache, result=hit|miss}: 조회/토큰/결제수단 캐시 적중 현황 (hit / (hit + miss) = 적중률)
+ * toss.circuit.state{operation, state=closed|open|half_open}: 서킷 브레이커 상태 (현재 상태만 1)
+ * toss.calls.rejected{operation, reason=circuit_open|bulkhead_full|rate_limited}: 토스를 호출하지 않고 거절한 호출 수
+ * toss.calls.rate_limit.queued{operation}: 요청 수 제한에 걸려 토큰을 기다린 호출 수
+ * toss.calls.coalesced{operation}: 진행 중인 동일 요청에 합쳐져 생략된 호출 수
+ * toss.calls.hedged{operation} / toss.calls.hedge_wins{operation}: 헤지 요청 전송 수 / 헤지 요청이 먼저 응답한 수
+ * toss.webhook.queue{state=pending|retrying}: 웹훅 처리 대기/재확인 대기 이벤트 수
+ * toss.webhook.events{result=rejected|skipped|applied|failed|retried}: 웹훅 이벤트 처리 결과
+ */
+@Component
+@RequiredArgsConstructor
+public class TossClientMetrics implements MeterBinder {
+
+    private final TossPaymentService tossPaymentService;
+    private final TossWebhookProcessor webhookProcessor;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        poolGauge(registry, "leased", PoolStats::getLeased);
+        poolGauge(registry, "pending", PoolStats::getPending);
+        poolGauge(registry, "available", PoolStats::getAvailable);
+        poolGauge(registry, "max", PoolStats::getMax);
+
+        Timer leaseWait = Timer.builder("toss.pool.lease.wait")
+            .description("토스페이먼츠 커넥션 대여 대기 시간")
+            .publishPercentileHistogram()
+            .register(registry);
+        tossPaymentService.setConnectionLeaseWaitListener(nanos -> leaseWait.record(nanos, TimeUnit.NANOSECONDS));
+
+        FunctionTimer.builder("toss.pool.handshake", tossPaymentService,
+                TossPaymentService::getHandshakeCount, TossPaymentService::getHandshakeTotalNanos, TimeUnit.NANOSECONDS)
+            .description("토스페이먼츠 새 커넥션 연결(TCP + TLS 핸드셰이크) 시간")
+            .register(registry);
+        FunctionCounter.builder("toss.pool.handshake.failures", tossPaymentService, TossPaymentService::getHandshakeFailureCount)
+            .description("토스페이먼츠 새 커넥션 연결 실패 횟수")
+            .register(registry);
+
+        cacheCounters(registry, "lookup", TossPaymentService::getLookupCacheStats);
+        cacheCounters(registry, "brandpay-token", TossPaymentService::getBrandPayTokenCacheStats);
+        cacheCounters(registry, "brandpay-methods", TossPaymentService::getBrandPayMethodCacheStats);
+
+        for (TossOperation operation : TossOperation.values()) {
+            bindCallMeters(registry, operation);
+        }
+
+        webhookQueueGauge(registry, "pending", TossWebhookProcessor::getQueueSize);
+        webhookQueueGauge(registry, "retrying", TossWebhookProcessor::getRetryingCount);
+        webhookCounter(registry, "rejected", TossWebhookProcessor::getRejectedCount);
+        webhookCounter(registry, "skipped", TossWebhookProcessor::getSkippedCount);
+        webhookCounter(registry, "applied", TossWebhookProcessor::getAppliedCount);
+        webhookCounter(registry, "failed", TossWebhookProcessor::getFailedCount);
+        webhookCounter(registry, "retried", TossWebhookProcessor::getRetriedCount);
+    }
+
+    private void bindCallMeters(MeterRegistry registry, TossOperation operation) {
+        String tag = operation.name().toLowerCase();
+        for (TossCircuitBreaker.State state : TossCircuitBreaker.State.values()) {
+            Gauge.builder("toss.circuit.state", tossPaymentService, service -> service.getCircuitState(operation) == state ? 1 : 0)
+                .description("토스페이먼츠 서킷 브레이커 상태")
+                .tags("operation", tag, "state", state.name().toLowerCase())
+                .register(registry);
+        }
+
+        callCounter(registry, "toss.calls.rejected", operation, service -> service.getCircuitRejectedCount(operation),
+            "토스페이먼츠 호출 거절 수", "reason", "circuit_open");
+        callCounter(registry, "toss.calls.rejected", operation, service -> service.getBulkheadRejectedCount(operation),
+            "토스페이먼츠 호출 거절 수", "reason", "bulkhead_full");
+        callCounter(registry, "toss.calls.rejected", operation, service -> service.getRateLimitedCount(operation),
+            "토스페이먼츠 호출 거절 수", "reason", "rate_limited");
+        callCounter(registry, "toss.calls.rate_limit.queued", operation, service -> service.getRateLimitQueuedCount(operation),
+            "토스페이먼츠 요청 수 제한 대기 호출 수");
+        callCounter(registry, "toss.calls.coalesced", operation, service -> service.getCoalescedCallCount(operation),
+            "토스페이먼츠 동일 요청 합치기로 생략된 호출 수");
+        callCounter(registry, "toss.calls.hedged", operation, service -> service.getHedgedCallCount(operation),
+            "토스페이먼츠 헤지 요청 전송 수");
+        callCounter(registry, "toss.calls.hedge_wins", operation, service -> service.getHedgeWinCount(operation),
+            "토스페이먼츠 헤지 요청이 먼저 응답한 수");
+    }
+
+    private void callCounter(MeterRegistry registry, String name, TossOperation operation,
+                             ToDoubleFunction<TossPaymentService> count, String description, String... tags) {
+        FunctionCounter.builder(name, tossPaymentService, count)
+            .description(description)
+            .tag("operation", operation.name().toLowerCase())
+            .tags(tags)
+            .register(registry);
+    }
+
+    private void webhookQueueGauge(MeterRegistry registry, String state, ToIntFunction<TossWebhookProcessor> size) {
+        Gauge.builder("toss.webhook.queue", webhookProcessor, processor -> size.applyAsInt(processor))
+            .description("토스페이먼츠 웹훅 대기 이벤트 수")
+            .tag("state", state)
+            .register(registry);
+    }
+
+    private void webhookCounter(MeterRegistry registry, String result, ToLongFunction<TossWebhookProcessor> count) {
+        FunctionCounter.builder("toss.webhook.events", webhookProcessor, processor -> count.applyAsLong(processor))
+            .description("토스페이먼츠 웹훅 이벤트 처리 결과")
+            .tag("result", result)
+            .register(registry);
+    }
+
+    private void cacheCounters(MeterRegistry registry, String cache, Function<TossPaymentService, CacheStats> stats) {
+        FunctionCounter.builder("toss.cache.requests", tossPaymentService, service -> stats.apply(service).hitCount())
+            .description("토스페이먼츠 캐시 조회 수")
+            .tags("cache", cache, "result", "hit")
+            .register(registry);
+        FunctionCounter.builder("toss.cache.requests", tossPaymentService, service -> stats.apply(service).missCount())
+            .description("토스페이먼츠 캐시 조회 수")
+            .tags("cache", cache, "result", "miss")
+            .register(registry);
+    }
+
+    private void poolGauge(MeterRegistry registry, String state, ToIntFunction<PoolStats> value) {
+        Gauge.builder("toss.pool.connections", tossPaymentService, service -> value.applyAsInt(service.getPoolStats()))
+            .description("토스페이먼츠 커넥션 풀 커넥션 수")
+            .tag("state", state)
+            .register(registry);
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.rokdemo.toss;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.LayeredConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+/**
+ * 커넥션 대여 대기 시간 / 연결 수립 시간을 측정하는 커넥션 풀
+ * 풀에서 커넥션을 받기까지 걸린 시간을 리스너로 전달해 풀 고갈(대기 증가)과 토스 응답 지연을 구분할 수 있게 하고,
+ * 새 커넥션의 TCP 연결 + TLS 핸드셰이크 횟수와 시간을 집계해 커넥션 재사용이 잘 되는지 확인할 수 있게 한다.
+ */
+public class TossConnectionManager extends PoolingHttpClientConnectionManager {
+
+    private final HandshakeStats handshakeStats;
+    private volatile LongConsumer leaseWaitListener = nanos -> { };
+
+    /**
+     * @param timeToLive 커넥션 최대 수명 (0 이하이면 제한 없음)
+     */
+    public TossConnectionManager(long timeToLive, TimeUnit unit) {
+        this(new HandshakeStats(), timeToLive, unit);
+    }
+
+    private TossConnectionManager(HandshakeStats handshakeStats, long timeToLive, TimeUnit unit) {
+        super(socketFactoryRegistry(handshakeStats), null, null, null, timeToLive, unit);
+        this.handshakeStats = handshakeStats;
+    }
+
+    /**
+     * 커넥션 대여 대기 시간 리스너 (나노초, 대기 실패 포함)
+     */
+    public void setLeaseWaitListener(LongConsumer leaseWaitListener) {
+        this.leaseWaitListener = leaseWaitListener != null ? leaseWaitListener : nanos -> { };
+    }
+
+    /**
+     * 새 커넥션 연결(TCP + TLS 핸드셰이크) 성공 횟수
+     */
+    public long getHandshakeCount() {
+        return handshakeStats.count.sum();
+    }
+
+    /**
+     * 새 커넥션 연결 소요 시간 합계 (나노초)
+     */
+    public long getHandshakeTotalNanos() {
+        return handshakeStats.totalNanos.sum();
+    }
+
+    /**
+     * 새 커넥션 연결 실패 횟수
+     */
+    public long getHandshakeFailureCount() {
+        return handshakeStats.failures.sum();
+    }
+
+    /**
+     * 커넥션 미리 열기 (배포/오토스케일 직후 첫 요청들이 연결 비용을 치르지 않도록)
+     * 커넥션을 동시에 대여해 연결한 뒤 풀에 돌려놓는다. 일부가 실패해도 예외 없이 열린 수만 반환한다.
+     *
+     * @param route 대상 경로
+     * @param connections 열 커넥션 수 (호스트당 최대 커넥션 수 이내로 제한)
+     * @param connectTimeoutMillis 연결 타임아웃
+     * @param keepAliveMillis 풀에 돌려놓은 뒤 유지 시간
+     * @param timeoutMillis 전체 대기 시간
+     * @param threads 연결 스레드 생성기 (실행 모드에 맞는 가상/플랫폼 스레드)
+     * @return 열린(또는 이미 열려 있던) 커넥션 수
+     */
+    public int warmUp(HttpRoute route, int connections, int connectTimeoutMillis, long keepAliveMillis, long timeoutMillis,
+                      ThreadFactory threads) {
+        int target = Math.min(connections, getMaxPerRoute(route));
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        List<HttpClientConnection> opened = new ArrayList<>(target);
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(threads);
+        try {
+            List<Future<HttpClientConnection>> futures = new ArrayList<>(target);
+            for (int i = 0; i < target; i++) {
+                futures.add(executor.submit(() -> open(route, connectTimeoutMillis, timeoutMillis)));
+            }
+            for (Future<HttpClientConnection> future : futures) {
+                try {
+                    opened.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+                } catch (ExecutionException | TimeoutException e) {
+                    future.cancel(true);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            // 모두 연결한 뒤에 반환해야 같은 커넥션을 다시 대여하지 않는다
+            for (HttpClientConnection connection : opened) {
+                releaseConnection(connection, null, keepAliveMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        return opened.size();
+    }
+
+    private HttpClientConnection open(HttpRoute route, int connectTimeoutMillis, long leaseTimeoutMillis) throws Exception {
+        HttpClientConnection connection = requestConnection(route, null).get(leaseTimeoutMillis, TimeUnit.MILLISECONDS);
+        try {
+            if (!connection.isOpen()) {
+                HttpClientContext context = HttpClientContext.create();
+                connect(connection, route, connectTimeoutMillis, context);
+                routeComplete(connection, route, context);
+            }
+            return connection;
+        } catch (IOException | RuntimeException e) {
+            // 연결되지 않은 커넥션은 재사용되지 않고 풀에서 제거된다
+            releaseConnection(connection, null, 0, TimeUnit.MILLISECONDS);
+            throw e;
+        }
+    }
+
+    @Override
+    public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+        ConnectionRequest delegate = super.requestConnection(route, state);
+        return new ConnectionRequest() {
+            @Override
+            public HttpClientConnection get(long timeout, TimeUnit unit)
+                throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+                long startedAt = System.nanoTime();
+                try {
+                    return delegate.get(timeout, unit);
+                } finally {
+                    leaseWaitListener.accept(System.nanoTime() - startedAt);
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return delegate.cancel();
+            }
+        };
+    }
+
+    private static Registry<ConnectionSocketFactory> socketFactoryRegistry(HandshakeStats handshakeStats) {
+        return RegistryBuilder.<ConnectionSocketFactory>create()
+            .register("http", new TimedSocketFactory(PlainConnectionSocketFactory.getSocketFactory(), handshakeStats))
+            .register("https", new TimedLayeredSocketFactory(SSLConnectionSocketFactory.getSocketFactory(), handshakeStats))
+            .build();
+    }
+
+    private static class HandshakeStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+    }
+
+    /**
+     * 연결 시간 측정 소켓 팩토리 (http)
+     */
+    private static class TimedSocketFactory implements ConnectionSocketFactory {
+        private final ConnectionSocketFactory delegate;
+        private final HandshakeStats stats;
+
+        TimedSocketFactory(ConnectionSocketFactory delegate, HandshakeStats stats) {
+            this.delegate = delegate;
+            this.stats = stats;
+        }
+
+        @Override
+        public Socket createSocket(HttpContext context) throws IOException {
+            return delegate.createSocket(context);
+        }
+
+        @Override
+        public Socket connectSocket(int connectTimeout, Socket socket, HttpHost host, InetSocketAddress remoteAddress,
+                                    InetSocketAddress localAddress, HttpContext context) throws IOException {
+            long startedAt = System.nanoTime();
+            try {
+                Socket connected = delegate.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+                record(startedAt);
+                return connected;
+            } catch (IOException | RuntimeException e) {
+                recordFailure();
+                throw e;
+            }
+        }
+
+        void record(long startedAt) {
+            stats.count.increment();
+            stats.totalNanos.add(System.nanoTime() - startedAt);
+        }
+
+        void recordFailure() {
+            stats.failures.increment();
+        }
+    }
+
+    /**
+     * 연결 시간 측정 소켓 팩토리 (https, TCP 연결 + TLS 핸드셰이크)
+     */
+    private static class TimedLayeredSocketFactory extends TimedSocketFactory implements LayeredConnectionSocketFactory {
+        private final LayeredConnectionSocketFactory layeredDelegate;
+
+        TimedLayeredSocketFactory(LayeredConnectionSocketFactory delegate, HandshakeStats stats) {
+            super(delegate, stats);
+            this.layeredDelegate = delegate;
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context) throws IOException {
+            // 프록시 터널 위의 TLS 핸드셰이크
+            long startedAt = System.nanoTime();
+            try {
+                Socket layered = layeredDelegate.createLayeredSocket(socket, target, port, context);
+                record(startedAt);
+                return layered;
+            } catch (IOException | RuntimeException e) {
+                recordFailure();
+                throw e;
+            }
+        }
+    }
+}
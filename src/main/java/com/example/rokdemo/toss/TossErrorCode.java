@@ -0,0 +1,131 @@
+package com.example.rokdemo.toss;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 토스페이먼츠 에러 코드
+ * 토스 에러 응답의 code와 이 서버에서 만드는 에러 코드를 종류별로 나눈다.
+ * 목록에 없는 코드는 {@link #UNKNOWN}으로 조회되며, 원래 코드 문자열은 TossPaymentException.getErrorCode()로 확인한다.
+ */
+@Getter
+public enum TossErrorCode {
+    // 요청 검증 (토스 호출 전)
+    INVALID_BILLING_KEY(Category.CLIENT),
+    INVALID_CUSTOMER_KEY(Category.CLIENT),
+    INVALID_AMOUNT(Category.CLIENT),
+    INVALID_ORDER_ID(Category.CLIENT),
+    INVALID_ORDER_NAME(Category.CLIENT),
+    INVALID_CODE(Category.CLIENT),
+    BRANDPAY_TOKEN_NOT_FOUND(Category.CLIENT),
+
+    // 토스 결제/취소 거절
+    INVALID_REQUEST(Category.BUSINESS),
+    ALREADY_PROCESSED_PAYMENT(Category.BUSINESS),
+    ALREADY_CANCELED_PAYMENT(Category.BUSINESS),
+    NOT_FOUND_PAYMENT(Category.BUSINESS),
+    NOT_FOUND_PAYMENT_SESSION(Category.BUSINESS),
+    NOT_CANCELABLE_AMOUNT(Category.BUSINESS),
+    NOT_CANCELABLE_PAYMENT(Category.BUSINESS),
+    REJECT_CARD_PAYMENT(Category.BUSINESS),
+    REJECT_CARD_COMPANY(Category.BUSINESS),
+    REJECT_ACCOUNT_PAYMENT(Category.BUSINESS),
+    INVALID_CARD_NUMBER(Category.BUSINESS),
+    INVALID_CARD_EXPIRATION(Category.BUSINESS),
+    INVALID_STOPPED_CARD(Category.BUSINESS),
+    INVALID_CARD_LOST_OR_STOLEN(Category.BUSINESS),
+    INVALID_PASSWORD(Category.BUSINESS),
+    EXCEED_MAX_AMOUNT(Category.BUSINESS),
+    EXCEED_MAX_DAILY_PAYMENT_COUNT(Category.BUSINESS),
+    EXCEED_MAX_PAYMENT_AMOUNT(Category.BUSINESS),
+    BELOW_MINIMUM_AMOUNT(Category.BUSINESS),
+    NOT_AVAILABLE_PAYMENT(Category.BUSINESS),
+    FDS_ERROR(Category.BUSINESS),
+    PAYMENT_NOT_DONE(Category.BUSINESS),
+
+    // 토스/카드사 장애 (결과가 확정되지 않을 수 있음)
+    PROVIDER_ERROR(Category.PROVIDER),
+    CARD_PROCESSING_ERROR(Category.PROVIDER),
+    FAILED_INTERNAL_SYSTEM_PROCESSING(Category.PROVIDER),
+    FAILED_PAYMENT_INTERNAL_SYSTEM_PROCESSING(Category.PROVIDER),
+    UNKNOWN_PAYMENT_ERROR(Category.PROVIDER),
+
+    // 호출 제한 (토스 호출 없이 즉시 실패)
+    CIRCUIT_OPEN(Category.THROTTLED),
+    BULKHEAD_FULL(Category.THROTTLED),
+    RATE_LIMITED(Category.THROTTLED),
+
+    // 설정/내부 오류
+    UNAUTHORIZED_KEY(Category.INTERNAL),
+    INVALID_API_KEY(Category.INTERNAL),
+    FORBIDDEN_REQUEST(Category.INTERNAL),
+    REQUEST_BUILD_ERROR(Category.INTERNAL),
+    JSON_PARSE_ERROR(Category.INTERNAL),
+    EMPTY_RESPONSE(Category.INTERNAL),
+    IDEMPOTENCY_KEY_ERROR(Category.INTERNAL),
+    NO_ACCESS_TOKEN(Category.INTERNAL),
+    CENTRAL_API_ERROR(Category.INTERNAL),
+
+    /**
+     * 목록에 없는 코드 또는 코드가 없는 오류 (네트워크, 타임아웃 등)
+     */
+    UNKNOWN(Category.INTERNAL);
+
+    public enum Category {
+        /**
+         * 요청 값 오류
+         */
+        CLIENT,
+        /**
+         * 토스가 거절한 결제/취소 (카드 거절, 이미 취소된 결제 등)
+         */
+        BUSINESS,
+        /**
+         * 토스/카드사 장애
+         */
+        PROVIDER,
+        /**
+         * 서킷 차단, 격벽/요청 한도 초과
+         */
+        THROTTLED,
+        /**
+         * 설정/내부 오류
+         */
+        INTERNAL
+    }
+
+    private static final Map<String, TossErrorCode> BY_CODE = new HashMap<>();
+
+    static {
+        for (TossErrorCode errorCode : values()) {
+            BY_CODE.put(errorCode.name(), errorCode);
+        }
+    }
+
+    private final Category category;
+
+    TossErrorCode(Category category) {
+        this.category = category;
+    }
+
+    /**
+     * 에러 코드 문자열로 조회
+     * @param code 에러 코드 (토스 응답의 code)
+     * @return TossErrorCode, 없거나 null이면 UNKNOWN
+     */
+    public static TossErrorCode from(String code) {
+        if (code == null) {
+            return UNKNOWN;
+        }
+        return BY_CODE.getOrDefault(code, UNKNOWN);
+    }
+
+    /**
+     * 정상 업무 흐름에서 생기는 오류인지 (요청 값 오류, 토스 거절)
+     */
+    public boolean isBusinessError() {
+        return category == Category.CLIENT || category == Category.BUSINESS;
+    }
+}
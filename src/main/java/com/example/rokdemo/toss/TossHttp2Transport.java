@@ -0,0 +1,124 @@
+package com.example.rokdemo.toss;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.util.EntityUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * HTTP/2 전송 (JDK HttpClient)
+ * 동기 호출 경로에서 만든 Apache 요청(HttpRequestBase)을 그대로 받아 HTTP/2 스트림으로 보낸다.
+ * 동시 요청은 호스트당 하나의 커넥션에 다중화되므로 요청이 몰려도 새 TCP/TLS 연결을 열지 않는다.
+ * JDK HttpClient는 응답 압축을 풀어주지 않으므로 gzip 협상과 해제를 여기서 처리한다.
+ */
+public class TossHttp2Transport {
+
+    public static final String ACCEPT_ENCODING = "Accept-Encoding";
+    public static final String GZIP = "gzip";
+
+    /**
+     * JDK HttpClient가 직접 관리하는 헤더 (설정하면 IllegalArgumentException)
+     */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private final HttpClient client;
+
+    /**
+     * @param client HTTP/2로 설정된 JDK HttpClient (비동기 호출과 공유)
+     */
+    public TossHttp2Transport(HttpClient client) {
+        this.client = client;
+    }
+
+    /**
+     * 요청 실행 (응답 헤더 수신까지 대기)
+     * 응답 대기 타임아웃은 요청의 소켓 타임아웃(RequestConfig)을 그대로 사용하고,
+     * request.abort()가 호출되면 진행 중인 스트림을 취소한다.
+     *
+     * @param request 요청
+     * @return 응답 (본문은 decode()로 읽은 뒤 닫아야 한다)
+     * @throws IOException 연결/전송 오류 (ConnectException 등 원래 예외, 인터럽트 시 InterruptedIOException)
+     */
+    public HttpResponse<InputStream> execute(HttpRequestBase request) throws IOException {
+        CompletableFuture<HttpResponse<InputStream>> future =
+            client.sendAsync(toHttpRequest(request), HttpResponse.BodyHandlers.ofInputStream());
+        request.setCancellable(() -> future.cancel(true));
+        if (request.isAborted()) {
+            future.cancel(true);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException("응답 대기 중 인터럽트");
+            interrupted.initCause(e);
+            throw interrupted;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * 응답 본문 (Content-Encoding: gzip이면 압축 해제)
+     */
+    public static InputStream decode(HttpHeaders headers, InputStream body) throws IOException {
+        boolean gzip = headers.firstValue("Content-Encoding")
+            .map(encoding -> encoding.trim().equalsIgnoreCase(GZIP))
+            .orElse(false);
+        if (!gzip) {
+            return body;
+        }
+        try {
+            return new GZIPInputStream(body);
+        } catch (IOException e) {
+            body.close();
+            throw e;
+        }
+    }
+
+    private static HttpRequest toHttpRequest(HttpRequestBase request) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request.getURI());
+        int socketTimeout = request.getConfig() != null ? request.getConfig().getSocketTimeout() : -1;
+        if (socketTimeout > 0) {
+            builder.timeout(Duration.ofMillis(socketTimeout));
+        }
+
+        for (Header header : request.getAllHeaders()) {
+            if (!RESTRICTED_HEADERS.contains(header.getName().toLowerCase(Locale.ROOT))) {
+                builder.header(header.getName(), header.getValue());
+            }
+        }
+        builder.setHeader(ACCEPT_ENCODING, GZIP);
+
+        HttpRequest.BodyPublisher body = HttpRequest.BodyPublishers.noBody();
+        if (request instanceof HttpEntityEnclosingRequest enclosingRequest && enclosingRequest.getEntity() != null) {
+            HttpEntity entity = enclosingRequest.getEntity();
+            body = HttpRequest.BodyPublishers.ofByteArray(EntityUtils.toByteArray(entity));
+        }
+        return builder.method(request.getMethod(), body).build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.rokdemo.toss;
+
+/**
+ * Idempotency-Key 저장소
+ * 같은 호출 종류 + 주문번호에는 항상 같은 키를 돌려줘야 한다.
+ */
+public interface TossIdempotencyKeyStore {
+
+    /**
+     * 주문번호의 멱등키 조회 (없으면 새로 발급해 저장)
+     *
+     * @param operation 호출 종류 (승인, 빌링)
+     * @param orderId 주문번호
+     * @return 멱등키
+     */
+    String keyFor(TossOperation operation, String orderId);
+}
@@ -0,0 +1,92 @@
+package com.example.rokdemo.toss;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 호출 종류별 응답 시간 분포 (최근 N건 기준 p50/p95/p99)
+ * 헤지 요청 지연 시간과 적응형 타임아웃 계산에 사용한다.
+ * 백분위는 기록할 때마다 계산하지 않고 일정 건수마다 다시 계산해 둔 값을 읽는다.
+ */
+public class TossLatencyTracker {
+
+    /**
+     * 백분위 재계산 주기 (기록 건수)
+     */
+    private static final int RECOMPUTE_INTERVAL = 20;
+
+    private final Map<TossOperation, Window> windows = new EnumMap<>(TossOperation.class);
+    private final int minSamples;
+
+    public TossLatencyTracker(int windowSize, int minSamples) {
+        this.minSamples = Math.min(minSamples, windowSize);
+        for (TossOperation operation : TossOperation.values()) {
+            windows.put(operation, new Window(windowSize));
+        }
+    }
+
+    /**
+     * 정상 응답 소요 시간 기록
+     */
+    public void record(TossOperation operation, long elapsedNanos) {
+        windows.get(operation).record(elapsedNanos, minSamples);
+    }
+
+    /**
+     * 중간값 (표본이 부족하면 -1)
+     */
+    public long p50(TossOperation operation) {
+        return windows.get(operation).p50;
+    }
+
+    /**
+     * 95 백분위 (표본이 부족하면 -1)
+     */
+    public long p95(TossOperation operation) {
+        return windows.get(operation).p95;
+    }
+
+    /**
+     * 99 백분위 (표본이 부족하면 -1)
+     */
+    public long p99(TossOperation operation) {
+        return windows.get(operation).p99;
+    }
+
+    private static class Window {
+        private final long[] samples;
+        private int position;
+        private int count;
+        private int sinceRecompute;
+
+        private volatile long p50 = -1;
+        private volatile long p95 = -1;
+        private volatile long p99 = -1;
+
+        Window(int size) {
+            this.samples = new long[size];
+        }
+
+        synchronized void record(long elapsedNanos, int minSamples) {
+            samples[position] = elapsedNanos;
+            position = (position + 1) % samples.length;
+            if (count < samples.length) {
+                count++;
+            }
+            if (count >= minSamples && ++sinceRecompute >= Math.min(RECOMPUTE_INTERVAL, minSamples)) {
+                sinceRecompute = 0;
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                p50 = percentile(sorted, 50);
+                p95 = percentile(sorted, 95);
+                p99 = percentile(sorted, 99);
+            }
+        }
+
+        private static long percentile(long[] sorted, int percent) {
+            int index = (int) Math.ceil(percent / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.rokdemo.toss;
+
+import lombok.Getter;
+
+/**
+ * 토스페이먼츠 API 호출 종류
+ * 호출별로 고정된 메타데이터(로그/에러 메시지용 이름, HTTP 메서드, 멱등성, 요청 합치기 허용)를 정의
+ */
+@Getter
+public enum TossOperation {
+    CONFIRM("결제 승인", "POST", false, false),
+    CANCEL("결제 취소", "POST", false, false),
+    LOOKUP("결제 조회", "GET", true, true),
+    BILLING("빌링 결제", "POST", false, false),
+    BRANDPAY_TOKEN("브랜드페이 Access Token 발급", "POST", false, true),
+    BRANDPAY_METHODS("브랜드페이 결제수단 조회", "GET", true, true);
+
+    /**
+     * 로그 및 에러 메시지에 사용하는 이름
+     */
+    private final String description;
+
+    /**
+     * HTTP 메서드
+     */
+    private final String method;
+
+    /**
+     * 멱등 호출 여부 (같은 요청을 여러 번 보내도 결과가 같은 조회성 호출)
+     */
+    private final boolean idempotent;
+
+    /**
+     * 진행 중인 동일 요청에 합칠 수 있는지 (TossRequestCoalescer)
+     * 멱등 조회와, 같은 요청을 두 번 보내면 안 되는 일회성 교환(브랜드페이 인증 코드/Refresh Token → Access Token)이 해당한다.
+     */
+    private final boolean coalescable;
+
+    TossOperation(String description, String method, boolean idempotent, boolean coalescable) {
+        this.description = description;
+        this.method = method;
+        this.idempotent = idempotent;
+        this.coalescable = coalescable;
+    }
+}
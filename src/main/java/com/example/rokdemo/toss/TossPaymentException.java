@@ -4,6 +4,9 @@ import lombok.Getter;
 
 /**
  * 토스페이먼츠 결제 관련 예외 클래스
+ * 업무 오류(요청 값 오류, 토스 결제/취소 거절)는 정상 흐름에서 자주 생기고 던지는 위치가 정해져 있어
+ * 스택 트레이스를 만들지 않는다. 카드 거절이 몰릴 때 스택 트레이스 생성 비용을 줄이기 위함이며,
+ * 토스/카드사 장애, 호출 제한, 설정 오류, 목록에 없는 코드는 원인을 추적할 수 있도록 스택 트레이스를 남긴다.
  */
 @Getter
 public class TossPaymentException extends RuntimeException {
@@ -13,24 +16,45 @@ public class TossPaymentException extends RuntimeException {
      */
     private final String errorCode;
     
+    /**
+     * 에러 코드 종류 (목록에 없거나 코드가 없으면 UNKNOWN)
+     */
+    private final TossErrorCode code;
+    
     public TossPaymentException(String message) {
         super(message);
         this.errorCode = null;
+        this.code = TossErrorCode.UNKNOWN;
     }
     
     public TossPaymentException(String errorCode, String message) {
-        super(message);
+        this(errorCode, TossErrorCode.from(errorCode), message);
+    }
+    
+    private TossPaymentException(String errorCode, TossErrorCode code, String message) {
+        super(message, null, false, !code.isBusinessError());
         this.errorCode = errorCode;
+        this.code = code;
+    }
+    
+    public TossPaymentException(TossErrorCode code, String message) {
+        this(code.name(), message);
     }
     
     public TossPaymentException(String message, Throwable cause) {
         super(message, cause);
         this.errorCode = null;
+        this.code = TossErrorCode.UNKNOWN;
     }
     
     public TossPaymentException(String errorCode, String message, Throwable cause) {
         super(message, cause);
         this.errorCode = errorCode;
+        this.code = TossErrorCode.from(errorCode);
+    }
+    
+    public TossPaymentException(TossErrorCode code, String message, Throwable cause) {
+        this(code.name(), message, cause);
     }
     
     /**
@@ -47,6 +71,14 @@ public class TossPaymentException extends RuntimeException {
      * @return 이미 취소된 결제인지 여부
      */
     public boolean isAlreadyCanceled() {
-        return hasErrorCode("ALREADY_CANCELED_PAYMENT");
+        return code == TossErrorCode.ALREADY_CANCELED_PAYMENT;
+    }
+    
+    /**
+     * 정상 업무 흐름에서 생기는 오류인지 확인 (요청 값 오류, 토스 거절)
+     * @return 업무 오류 여부 (error 로그/알림 대상이 아님)
+     */
+    public boolean isBusinessError() {
+        return code.isBusinessError();
     }
 }
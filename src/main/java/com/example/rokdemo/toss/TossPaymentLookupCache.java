@@ -0,0 +1,114 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import com.example.rokdemo.toss.dto.TossPaymentResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 결제 조회 결과 캐시 (paymentKey 기준)
+ * 결제 상태에 따라 유효 시간을 다르게 둔다.
+ * - 종료 상태(DONE, CANCELED, EXPIRED, ABORTED): 거의 변하지 않으므로 길게
+ * - 그 외(입금 대기, 진행 중, 부분 취소 등): 곧 바뀔 수 있으므로 짧게
+ * 캐시된 응답 객체는 여러 호출자가 공유하므로 수정하지 않고 읽기 용도로만 사용해야 한다.
+ */
+public class TossPaymentLookupCache {
+
+    private final Cache<String, TossPaymentResponse> cache;
+
+    /**
+     * 무효화 세대 (invalidate 호출마다 증가)
+     * 무효화 이전에 시작된 조회가 끝난 뒤 이전 상태를 다시 저장하지 않도록 사용
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    public TossPaymentLookupCache(TossPaymentConfig.LookupCache settings) {
+        long terminalTtlNanos = settings.getTerminalTtl().toNanos();
+        long pendingTtlNanos = settings.getPendingTtl().toNanos();
+
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(settings.getMaxSize())
+            .expireAfter(new Expiry<String, TossPaymentResponse>() {
+                @Override
+                public long expireAfterCreate(String paymentKey, TossPaymentResponse response, long currentTime) {
+                    return response.getStatus() != null && response.getStatus().isTerminal() ? terminalTtlNanos : pendingTtlNanos;
+                }
+
+                @Override
+                public long expireAfterUpdate(String paymentKey, TossPaymentResponse response, long currentTime, long currentDuration) {
+                    return expireAfterCreate(paymentKey, response, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String paymentKey, TossPaymentResponse response, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 캐시된 조회 결과
+     *
+     * @param paymentKey 결제 키
+     * @return 조회 결과, 없거나 만료되었으면 null
+     */
+    public TossPaymentResponse get(String paymentKey) {
+        return cache.getIfPresent(paymentKey);
+    }
+
+    /**
+     * 현재 무효화 세대 (조회 시작 전에 읽어 둔다)
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 조회 결과 저장
+     * 조회 시작 이후 무효화가 있었으면 저장하지 않는다 (취소 직전에 시작된 조회가 DONE 상태를 다시 넣는 경우 방지).
+     *
+     * @param paymentKey 결제 키
+     * @param response 조회 결과
+     * @param startGeneration 조회 시작 시점의 세대
+     */
+    public void put(String paymentKey, TossPaymentResponse response, long startGeneration) {
+        if (generation.get() != startGeneration) {
+            return;
+        }
+        cache.put(paymentKey, response);
+        // 저장 직후 무효화가 끼어든 경우 되돌린다
+        if (generation.get() != startGeneration) {
+            cache.invalidate(paymentKey);
+        }
+    }
+
+    /**
+     * 결제 상태가 바뀌는 호출(승인, 취소) 후 해당 결제 캐시 제거
+     */
+    public void invalidate(String paymentKey) {
+        if (paymentKey != null) {
+            generation.incrementAndGet();
+            cache.invalidate(paymentKey);
+        }
+    }
+
+    /**
+     * 적중/미스 통계
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 현재 캐시 항목 수 (추정치)
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
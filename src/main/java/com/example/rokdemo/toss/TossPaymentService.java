@@ -2,28 +2,73 @@ package com.example.rokdemo.toss;
 
 import com.example.rokdemo.toss.config.TossPaymentConfig;
 import com.example.rokdemo.toss.dto.*;
+import com.example.rokdemo.toss.util.TossPaymentStatus;
+import com.example.rokdemo.toss.util.TossRequestBodyWriter;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import lombok.RequiredArgsConstructor;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
+import org.apache.http.NoHttpResponseException;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
-import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpRequestBase;
-import org.apache.http.entity.StringEntity;
+import org.apache.http.config.SocketConfig;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
-import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
-import org.apache.http.util.EntityUtils;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.SocketException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
-import java.util.Base64;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
 
 /**
  * 토스페이먼츠 결제 공통 서비스
@@ -35,37 +80,306 @@ public class TossPaymentService {
     private static final Logger logger = LoggerFactory.getLogger(TossPaymentService.class);
     private static final Gson gson = new Gson();
     
-    // HTTP 요청 타임아웃 설정
-    private static final int CONNECTION_TIMEOUT = 5000;
-    private static final int SOCKET_TIMEOUT = 30000;
-    private static final int CONNECTION_REQUEST_TIMEOUT = 5000;
-    
     private final TossPaymentConfig config;
     
+    /**
+     * 결제 승인/빌링 Idempotency-Key 저장소 (주문번호별)
+     */
+    private final TossIdempotencyKeyStore idempotencyKeyStore;
+    
+    /**
+     * 호출별 요청 템플릿 (인증 헤더, URL 템플릿 사전 계산)
+     */
+    private TossRequestTemplates requestTemplates;
+    
     private CloseableHttpClient httpClient;
-    private PoolingHttpClientConnectionManager connectionManager;
+    private TossConnectionManager connectionManager;
+    
+    /**
+     * 비동기(Non-blocking) 호출용 HttpClient
+     * 요청 스레드를 점유하지 않고 CompletableFuture로 응답을 전달
+     */
+    private HttpClient asyncHttpClient;
+    
+    /**
+     * HTTP/2 전송 (transport: HTTP2일 때만 사용, 비동기 HttpClient 공유)
+     */
+    private TossHttp2Transport http2Transport;
+    
+    /**
+     * 가상 스레드 모드 Executor (비동기 응답 처리용)
+     */
+    private ExecutorService virtualThreadExecutor;
+    
+    /**
+     * 가상 스레드 모드의 커넥션 대기 게이트
+     * HttpClient 4.x 커넥션 풀은 synchronized 블록 안에서 커넥션을 기다리므로 가상 스레드가 캐리어 스레드에 고정(pinning)된다.
+     * 풀에 들어가기 전에 Semaphore에서 먼저 대기시켜 풀 내부에서는 대기가 발생하지 않도록 한다.
+     */
+    private ConnectionPermits connectionPermits;
+    
+    /**
+     * 결제 조회 결과 캐시 (비활성화 시 null)
+     */
+    private TossPaymentLookupCache lookupCache;
+    
+    /**
+     * 브랜드페이 Access Token 캐시 (비활성화 시 null)
+     */
+    private TossBrandPayTokenCache brandPayTokenCache;
+    
+    /**
+     * 브랜드페이 등록 결제수단 캐시 (비활성화 시 null)
+     */
+    private TossBrandPayMethodCache brandPayMethodCache;
+    
+    /**
+     * 동일 조회 요청 합치기 (비활성화 시 null)
+     */
+    private TossRequestCoalescer requestCoalescer;
+    
+    /**
+     * 호출 종류별 격벽 + 서킷 브레이커
+     */
+    private TossCallGuard callGuard;
+    
+    /**
+     * 토스 호출 요청 수 제한 (비활성화 시 null)
+     */
+    private TossRateLimiter rateLimiter;
+    
+    /**
+     * 요청 설정 (타임아웃, applyPoolSettings()로 교체 가능)
+     */
+    private volatile RequestConfig requestConfig;
+    
+    /**
+     * 호출 종류별 응답 시간 분포
+     */
+    private TossLatencyTracker latencyTracker;
+    
+    /**
+     * 멱등 조회 헤지 요청 (비활성화 시 null)
+     */
+    private TossRequestHedger requestHedger;
+    private ExecutorService hedgeExecutor;
     
     /**
      * HttpClient 초기화
      */
     @PostConstruct
     public void init() {
-        connectionManager = new PoolingHttpClientConnectionManager();
-        connectionManager.setMaxTotal(100);  // 최대 커넥션 수 : 트레픽 많으면 100~200 사이로 고려하면 됨
-        connectionManager.setDefaultMaxPerRoute(20);  // 호스트당 최대 커넥션 수 : 이것도 트레픽 많으면 20~50 사이로 고려하면 됨
+        requestTemplates = new TossRequestTemplates(config);
+        
+        TossPaymentConfig.Pool pool = config.getPool();
+        connectionManager = new TossConnectionManager(pool.getTimeToLive().toMillis(), TimeUnit.MILLISECONDS);
+        connectionManager.setMaxTotal(pool.getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(pool.getMaxPerRoute());
+        connectionManager.setDefaultSocketConfig(buildSocketConfig(pool));
+        // 오래 쉰 커넥션은 서버가 이미 닫았을 수 있으므로 사용 전에 확인 (NoHttpResponseException 방지)
+        connectionManager.setValidateAfterInactivity(millis(pool.getValidateAfterInactivity()));
 
-        RequestConfig requestConfig = RequestConfig.custom()
-            .setConnectTimeout(CONNECTION_TIMEOUT)
-            .setSocketTimeout(SOCKET_TIMEOUT)
-            .setConnectionRequestTimeout(CONNECTION_REQUEST_TIMEOUT)
-            .build();
+        requestConfig = buildRequestConfig(pool);
         
-        httpClient = HttpClients.custom()
+        HttpClientBuilder httpClientBuilder = HttpClients.custom()
             .setConnectionManager(connectionManager)
             .setDefaultRequestConfig(requestConfig)
-            .build();
+            .setKeepAliveStrategy(this::keepAliveMillis);
+        if (!pool.getMaxIdleTime().isZero()) {
+            // Keep-Alive가 끝났거나 오래 쉰 커넥션을 백그라운드 스레드가 주기적으로 닫는다
+            httpClientBuilder
+                .evictExpiredConnections()
+                .evictIdleConnections(pool.getMaxIdleTime().toMillis(), TimeUnit.MILLISECONDS);
+        }
+        httpClient = httpClientBuilder.build();
+        
+        boolean http2 = config.getTransport() == TossPaymentConfig.Transport.HTTP2;
+        HttpClient.Builder asyncBuilder = HttpClient.newBuilder()
+            .version(http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+            .connectTimeout(pool.getConnectTimeout());
+        
+        if (config.isVirtualThreads()) {
+            virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+            asyncBuilder.executor(virtualThreadExecutor);
+            // HTTP/2 전송은 커넥션 풀 대기가 없으므로 게이트가 필요 없다
+            if (!http2) {
+                connectionPermits = new ConnectionPermits(connectionManager.getDefaultMaxPerRoute());
+            }
+        }
         
-        logger.info("토스페이먼츠 HttpClient 초기화 완료");
+        asyncHttpClient = asyncBuilder.build();
+        if (http2) {
+            http2Transport = new TossHttp2Transport(asyncHttpClient);
+        }
+        
+        if (config.getLookupCache().isEnabled()) {
+            lookupCache = new TossPaymentLookupCache(config.getLookupCache());
+        }
+        if (config.getBrandPayTokenCache().isEnabled()) {
+            brandPayTokenCache = new TossBrandPayTokenCache(config.getBrandPayTokenCache());
+        }
+        if (config.getBrandPayMethodCache().isEnabled()) {
+            brandPayMethodCache = new TossBrandPayMethodCache(config.getBrandPayMethodCache());
+        }
+        if (config.isRequestCoalescing()) {
+            requestCoalescer = new TossRequestCoalescer();
+        }
+        callGuard = new TossCallGuard(config.getResilience(), pool.getMaxPerRoute());
+        if (config.getRateLimit().isEnabled()) {
+            rateLimiter = new TossRateLimiter(config.getRateLimit());
+        }
+        
+        TossPaymentConfig.TailLatency tailLatency = config.getTailLatency();
+        latencyTracker = new TossLatencyTracker(tailLatency.getWindowSize(), tailLatency.getMinSamples());
+        if (tailLatency.isHedgingEnabled()) {
+            hedgeExecutor = newTaskExecutor("toss-hedge");
+            requestHedger = new TossRequestHedger(latencyTracker, hedgeExecutor,
+                tailLatency.getHedgeMinDelay().toNanos(), tailLatency.getHedgeBudgetPercent());
+        }
+        
+        logger.info("토스페이먼츠 HttpClient 초기화 완료 (전송: {}, 가상 스레드 모드: {}, 최대 커넥션: {}, 호스트당: {})",
+            config.getTransport(), config.isVirtualThreads(), pool.getMaxTotal(), pool.getMaxPerRoute());
+        
+        if (pool.getWarmupConnections() > 0 && !http2) {
+            warmUpConnections(pool);
+        }
+    }
+    
+    /**
+     * 커넥션 미리 열기 (초기화 중에 수행되므로 끝나기 전에는 헬스체크가 응답하지 않는다)
+     * 실패해도 시작은 계속하며, 열지 못한 커넥션은 첫 요청에서 연결된다.
+     */
+    private void warmUpConnections(TossPaymentConfig.Pool pool) {
+        HttpRoute route;
+        try {
+            URI uri = URI.create(config.getConfirmUrl());
+            HttpHost host = new HttpHost(uri.getHost(), uri.getPort(), uri.getScheme());
+            HttpHost target = new HttpHost(host.getHostName(), DefaultSchemePortResolver.INSTANCE.resolve(host), host.getSchemeName());
+            route = new HttpRoute(target, null, "https".equalsIgnoreCase(target.getSchemeName()));
+        } catch (Exception e) {
+            logger.warn("토스페이먼츠 커넥션 미리 열기 생략 - 승인 URL 해석 실패: {}", e.getMessage());
+            return;
+        }
+        
+        long startedAt = System.nanoTime();
+        int opened = connectionManager.warmUp(route, pool.getWarmupConnections(), millis(pool.getConnectTimeout()),
+            pool.getKeepAlive().toMillis(), pool.getWarmupTimeout().toMillis(), taskThreadFactory("toss-warmup"));
+        logger.info("토스페이먼츠 커넥션 미리 열기 완료 - {}: {}/{}개, {}ms", route.getTargetHost(), opened,
+            Math.min(pool.getWarmupConnections(), pool.getMaxPerRoute()), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+    
+    /**
+     * 작업 실행기 (헤지 요청, 일괄 조회, 정기결제 일괄 실행)
+     * 가상 스레드 모드면 작업마다 가상 스레드, 아니면 플랫폼 스레드를 재사용하는 캐시 풀을 사용해
+     * virtualThreads 설정 하나로 함께 전환된다. (헤지 대상 조회는 매번 실행기에서 돌므로 플랫폼 스레드를 매번 만들지 않는다)
+     *
+     * @param name 스레드 이름 접두사
+     */
+    ExecutorService newTaskExecutor(String name) {
+        return config.isVirtualThreads()
+            ? Executors.newThreadPerTaskExecutor(taskThreadFactory(name))
+            : Executors.newCachedThreadPool(taskThreadFactory(name));
+    }
+    
+    private ThreadFactory taskThreadFactory(String name) {
+        return config.isVirtualThreads()
+            ? Thread.ofVirtual().name(name + "-", 0).factory()
+            : Thread.ofPlatform().name(name + "-", 0).daemon().factory();
+    }
+    
+    /**
+     * 커넥션 풀 / 타임아웃 설정 다시 적용 (운영 중 변경)
+     * config.getPool() 값을 바꾼 뒤 호출한다. 최대 커넥션 수와 타임아웃은 이후 요청부터 적용되며,
+     * 비동기 클라이언트의 연결 타임아웃과 커넥션 최대 수명(timeToLive)은 재시작해야 적용된다.
+     */
+    public synchronized void applyPoolSettings() {
+        TossPaymentConfig.Pool pool = config.getPool();
+        if (pool.getMaxTotal() <= 0 || pool.getMaxPerRoute() <= 0 || pool.getMaxPerRoute() > pool.getMaxTotal()) {
+            throw new IllegalArgumentException("커넥션 수 설정이 올바르지 않습니다. maxTotal: " + pool.getMaxTotal()
+                + ", maxPerRoute: " + pool.getMaxPerRoute());
+        }
+        
+        connectionManager.setMaxTotal(pool.getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(pool.getMaxPerRoute());
+        connectionManager.setDefaultSocketConfig(buildSocketConfig(pool));
+        requestConfig = buildRequestConfig(pool);
+        if (connectionPermits != null) {
+            connectionPermits.resize(pool.getMaxPerRoute());
+        }
+        callGuard.checkConnectionBudget(pool.getMaxPerRoute());
+        
+        logger.info("토스페이먼츠 커넥션 풀 설정 변경 - 최대 커넥션: {}, 호스트당: {}, 연결/응답/대여 타임아웃: {}/{}/{}ms",
+            pool.getMaxTotal(), pool.getMaxPerRoute(), pool.getConnectTimeout().toMillis(),
+            pool.getSocketTimeout().toMillis(), pool.getConnectionRequestTimeout().toMillis());
+    }
+    
+    /**
+     * 커넥션 풀 현황 (대여 중 / 대기 중 / 유휴 / 최대)
+     */
+    public PoolStats getPoolStats() {
+        return connectionManager.getTotalStats();
+    }
+    
+    /**
+     * 커넥션 대여 대기 시간 리스너 등록 (나노초, 메트릭 수집용)
+     */
+    public void setConnectionLeaseWaitListener(LongConsumer listener) {
+        connectionManager.setLeaseWaitListener(listener);
+    }
+    
+    /**
+     * 새 커넥션 연결(TCP + TLS 핸드셰이크) 횟수
+     */
+    public long getHandshakeCount() {
+        return connectionManager.getHandshakeCount();
+    }
+    
+    /**
+     * 새 커넥션 연결 소요 시간 합계 (나노초)
+     */
+    public long getHandshakeTotalNanos() {
+        return connectionManager.getHandshakeTotalNanos();
+    }
+    
+    /**
+     * 새 커넥션 연결 실패 횟수
+     */
+    public long getHandshakeFailureCount() {
+        return connectionManager.getHandshakeFailureCount();
+    }
+    
+    /**
+     * 소켓 설정 (TLS 핸드셰이크 중에도 응답 대기 타임아웃 적용)
+     */
+    private static SocketConfig buildSocketConfig(TossPaymentConfig.Pool pool) {
+        return SocketConfig.custom()
+            .setSoTimeout(millis(pool.getSocketTimeout()))
+            .setTcpNoDelay(true)
+            .build();
+    }
+    
+    /**
+     * 설정 시간 → 밀리초 (HttpClient 설정은 int, 넘치는 값은 잘못된 설정이므로 예외)
+     */
+    private static int millis(Duration duration) {
+        return Math.toIntExact(duration.toMillis());
+    }
+    
+    private static RequestConfig buildRequestConfig(TossPaymentConfig.Pool pool) {
+        return RequestConfig.custom()
+            .setConnectTimeout(millis(pool.getConnectTimeout()))
+            .setSocketTimeout(millis(pool.getSocketTimeout()))
+            .setConnectionRequestTimeout(millis(pool.getConnectionRequestTimeout()))
+            .build();
+    }
+    
+    /**
+     * Keep-Alive 유지 시간 (서버 Keep-Alive 헤더의 timeout 값 우선, 없으면 pool.keepAlive)
+     */
+    private long keepAliveMillis(org.apache.http.HttpResponse response, HttpContext context) {
+        long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+        long configured = config.getPool().getKeepAlive().toMillis();
+        return serverKeepAlive > 0 ? Math.min(serverKeepAlive, configured) : configured;
     }
     
     /**
@@ -80,6 +394,12 @@ public class TossPaymentService {
             if (connectionManager != null) {
                 connectionManager.close();
             }
+            if (virtualThreadExecutor != null) {
+                virtualThreadExecutor.shutdown();
+            }
+            if (hedgeExecutor != null) {
+                hedgeExecutor.shutdown();
+            }
             logger.info("토스페이먼츠 HttpClient 종료 완료");
         } catch (Exception e) {
             logger.warn("토스페이먼츠 HttpClient 종료 중 오류: {}", e.getMessage());
@@ -87,53 +407,480 @@ public class TossPaymentService {
     }
     
     /**
-     * Basic Auth 헤더 생성
+     * 시크릿 키 교체 (재배포 없이 키 롤링)
+     * @param secretKey 새 시크릿 키
+     */
+    public void rotateSecretKey(String secretKey) {
+        requestTemplates.rotateSecretKey(secretKey);
+        logger.info("토스페이먼츠 시크릿 키 교체 완료");
+    }
+    
+    /**
+     * 결제 조회 캐시 적중/미스 통계
+     * @return 캐시 통계 (캐시 비활성화 시 빈 통계)
+     */
+    public CacheStats getLookupCacheStats() {
+        return lookupCache != null ? lookupCache.stats() : CacheStats.empty();
+    }
+    
+    /**
+     * 브랜드페이 등록 결제수단 캐시 적중/미스 통계
+     * @return 캐시 통계 (캐시 비활성화 시 빈 통계)
      */
-    private String createAuthHeader() {
-        return "Basic " + Base64.getEncoder().encodeToString(
-            (config.getSecretKey() + ":").getBytes(StandardCharsets.UTF_8)
-        );
+    public CacheStats getBrandPayMethodCacheStats() {
+        return brandPayMethodCache != null ? brandPayMethodCache.stats() : CacheStats.empty();
     }
     
     /**
-     * 공통 헤더 설정
+     * 진행 중인 동일 요청에 합쳐져 생략된 호출 수
+     * @param operation 호출 종류 (결제 조회, 브랜드페이 결제수단 조회)
+     * @return 생략된 호출 수 (합치기 비활성화 시 0)
      */
-    private void setCommonHeaders(HttpRequestBase request) {
-        request.setHeader("Authorization", createAuthHeader());
-        request.setHeader("Content-Type", "application/json");
+    public long getCoalescedCallCount(TossOperation operation) {
+        return requestCoalescer != null ? requestCoalescer.getCollapsedCount(operation) : 0;
+    }
+    
+    /**
+     * 서킷 브레이커 상태
+     * @param operation 호출 종류
+     * @return CLOSED(정상), OPEN(차단), HALF_OPEN(시험 호출 중)
+     */
+    public TossCircuitBreaker.State getCircuitState(TossOperation operation) {
+        return callGuard.getCircuitState(operation);
+    }
+    
+    /**
+     * 서킷 차단(CIRCUIT_OPEN)으로 거절된 호출 수
+     */
+    public long getCircuitRejectedCount(TossOperation operation) {
+        return callGuard.getCircuitRejectedCount(operation);
+    }
+    
+    /**
+     * 격벽 초과(BULKHEAD_FULL)로 거절된 호출 수
+     */
+    public long getBulkheadRejectedCount(TossOperation operation) {
+        return callGuard.getBulkheadRejectedCount(operation);
+    }
+    
+    /**
+     * 격벽 동시 실행 한도
+     */
+    public int getBulkheadLimit(TossOperation operation) {
+        return callGuard.getBulkheadLimit(operation);
+    }
+    
+    /**
+     * 요청 수 제한(RATE_LIMITED)으로 거절된 호출 수
+     */
+    public long getRateLimitedCount(TossOperation operation) {
+        return rateLimiter != null ? rateLimiter.getRejectedCount(operation) : 0;
+    }
+    
+    /**
+     * 요청 수 제한에 걸려 토큰을 기다린 호출 수
+     */
+    public long getRateLimitQueuedCount(TossOperation operation) {
+        return rateLimiter != null ? rateLimiter.getQueuedCount(operation) : 0;
+    }
+    
+    /**
+     * 최근 응답 시간 백분위 (ms)
+     * @param operation 호출 종류
+     * @param percentile 50, 95, 99 중 하나
+     * @return 응답 시간 (표본이 부족하면 -1)
+     */
+    public long getLatencyMillis(TossOperation operation, int percentile) {
+        long nanos;
+        switch (percentile) {
+            case 50:
+                nanos = latencyTracker.p50(operation);
+                break;
+            case 95:
+                nanos = latencyTracker.p95(operation);
+                break;
+            case 99:
+                nanos = latencyTracker.p99(operation);
+                break;
+            default:
+                throw new IllegalArgumentException("지원하지 않는 백분위입니다: " + percentile);
+        }
+        return nanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+    
+    /**
+     * 헤지 요청 전송 횟수
+     */
+    public long getHedgedCallCount(TossOperation operation) {
+        return requestHedger != null ? requestHedger.getHedgedCount(operation) : 0;
+    }
+    
+    /**
+     * 헤지 요청이 첫 요청보다 먼저 응답한 횟수
+     */
+    public long getHedgeWinCount(TossOperation operation) {
+        return requestHedger != null ? requestHedger.getHedgeWinCount(operation) : 0;
     }
     
     /**
      * HTTP 응답 처리 공통 로직
+     * 전송 방식(HTTP/1.1 커넥션 풀, HTTP/2)과 관계없이 격벽/서킷 브레이커 집계와 예외 변환은 동일하다.
      */
-    private <T> T executeRequest(HttpRequestBase request, Class<T> responseType, String operationType) throws TossPaymentException {
-        setCommonHeaders(request);
-
-        try (CloseableHttpResponse response = httpClient.execute(request)) {
-            HttpEntity entity = response.getEntity();
-            String responseBody = entity != null ? EntityUtils.toString(entity, StandardCharsets.UTF_8) : "";
-
-            int statusCode = response.getStatusLine().getStatusCode();
-            logger.debug("토스페이먼츠 {} 응답 - HTTP {}: {}", operationType, statusCode, responseBody);
+    private <T> T executeRequest(TossOperation operation, HttpRequestBase request, Class<T> responseType) throws TossPaymentException {
+        String operationType = operation.getDescription();
+        if (rateLimiter != null) {
+            rateLimiter.acquire(operation);
+        }
+        callGuard.acquire(operation);
+        try {
+            acquireConnectionPermit(operationType);
+        } catch (TossPaymentException e) {
+            callGuard.releaseWithoutRecord(operation);
+            throw e;
+        }
+        
+        if (request.getConfig() == null) {
+            request.setConfig(requestConfig);
+        }
 
-            if (statusCode < 200 || statusCode >= 300) {
-                handleErrorResponse(responseBody, statusCode, operationType);
+        long startedAt = System.nanoTime();
+        boolean failure = true;
+        try {
+            if (http2Transport != null) {
+                HttpResponse<InputStream> response = http2Transport.execute(request);
+                failure = isServerFailure(response.statusCode());
+                
+                InputStream content = TossHttp2Transport.decode(response.headers(), response.body());
+                return readResponse(response.statusCode(), content, responseType, operationType);
             }
 
-            if (responseType == Void.class || responseBody.isEmpty()) {
-                return null;
+            try (CloseableHttpResponse response = httpClient.execute(request)) {
+                int statusCode = response.getStatusLine().getStatusCode();
+                failure = isServerFailure(statusCode);
+                
+                HttpEntity entity = response.getEntity();
+                InputStream content = entity != null ? entity.getContent() : null;
+                
+                return readResponse(statusCode, content, responseType, operationType);
             }
 
-            return gson.fromJson(responseBody, responseType);
-
         } catch (TossPaymentException e) {
             throw e;
         } catch (Exception e) {
-            logger.error("토스페이먼츠 {} 처리 중 오류: {}", operationType, e.getMessage(), e);
-            throw new TossPaymentException(operationType + " 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
+            if (request.isAborted()) {
+                // 헤지 요청에서 진 쪽 요청: 오류가 아니므로 로그를 남기지 않는다
+                throw new TossPaymentException(operationType + " 요청이 취소되었습니다.", e);
+            }
+            throw wrapException(e, operationType);
+        } finally {
+            releaseConnectionPermit();
+            long elapsed = System.nanoTime() - startedAt;
+            if (request.isAborted()) {
+                callGuard.releaseWithoutRecord(operation);
+            } else {
+                callGuard.release(operation, failure, elapsed);
+                if (!failure) {
+                    latencyTracker.record(operation, elapsed);
+                }
+            }
+        }
+    }
+    
+    /**
+     * 멱등 조회 요청 처리 (적응형 타임아웃 + 헤지 요청)
+     * @param requestFactory 요청 생성 (헤지 요청용으로 한 번 더 호출될 수 있음)
+     */
+    private <T> T executeIdempotentRequest(TossOperation operation, Supplier<HttpRequestBase> requestFactory,
+                                           Class<T> responseType) throws TossPaymentException {
+        Supplier<HttpRequestBase> timedRequestFactory = () -> withAdaptiveTimeout(operation, requestFactory.get());
+        if (requestHedger == null) {
+            return executeRequest(operation, timedRequestFactory.get(), responseType);
+        }
+        return requestHedger.execute(operation, timedRequestFactory, request -> executeRequest(operation, request, responseType));
+    }
+    
+    /**
+     * 상태 변경 요청 처리 (연결 오류 시 재시도)
+     * 요청에 Idempotency-Key가 들어 있으므로 토스에 이미 도달한 요청을 다시 보내도 중복 처리되지 않는다.
+     * 연결 단계 오류(연결 실패, 연결 끊김, 응답 없음)만 재시도하며, 대기 시간은 지수 증가 + 임의 분산(jitter)을 적용하고
+     * 전체 허용 시간(budget)을 넘기게 되면 재시도하지 않는다.
+     * @param requestFactory 요청 생성 (시도마다 새로 생성)
+     */
+    private <T> T executeWithRetry(TossOperation operation, Supplier<HttpRequestBase> requestFactory,
+                                   Class<T> responseType) throws TossPaymentException {
+        TossPaymentConfig.Retry retry = config.getRetry();
+        int maxAttempts = retry.isEnabled() ? Math.max(1, retry.getMaxAttempts()) : 1;
+        long deadline = System.nanoTime() + retry.getBudget().toNanos();
+        
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return executeRequest(operation, requestFactory.get(), responseType);
+            } catch (TossPaymentException e) {
+                if (attempt >= maxAttempts || !isConnectionFailure(e.getCause())) {
+                    throw e;
+                }
+                long backoff = retryBackoffNanos(retry, attempt);
+                if (System.nanoTime() + backoff > deadline) {
+                    throw e;
+                }
+                logger.warn("토스페이먼츠 {} 연결 오류로 재시도 ({}/{}) - {}ms 후: {}",
+                    operation.getDescription(), attempt + 1, maxAttempts, TimeUnit.NANOSECONDS.toMillis(backoff), e.getCause().toString());
+                try {
+                    TimeUnit.NANOSECONDS.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+    
+    /**
+     * 재시도 대기 시간 (full jitter: 0 ~ min(maxBackoff, initialBackoff x 2^(attempt-1)))
+     */
+    private static long retryBackoffNanos(TossPaymentConfig.Retry retry, int attempt) {
+        long ceiling = Math.min(retry.getMaxBackoff().toNanos(), retry.getInitialBackoff().toNanos() << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+    
+    /**
+     * 재시도 가능한 연결 단계 오류 여부
+     * 응답 대기 타임아웃(SocketTimeoutException)과 커넥션 풀 대기 타임아웃은 재시도하지 않는다.
+     */
+    private static boolean isConnectionFailure(Throwable cause) {
+        return cause instanceof SocketException            // 연결 실패(ConnectException 포함), Connection reset
+            || cause instanceof ConnectTimeoutException
+            || cause instanceof HttpConnectTimeoutException // HTTP/2 전송 연결 타임아웃
+            || cause instanceof NoHttpResponseException;   // 재사용한 커넥션이 이미 끊겨 있던 경우
+    }
+    
+    /**
+     * 주문번호별 Idempotency-Key (주문번호가 없으면 이번 호출에서만 사용하는 키)
+     */
+    private String idempotencyKey(TossOperation operation, String orderId) throws TossPaymentException {
+        if (orderId == null || orderId.isEmpty()) {
+            return UUID.randomUUID().toString();
+        }
+        try {
+            return idempotencyKeyStore.keyFor(operation, orderId);
+        } catch (RuntimeException e) {
+            throw new TossPaymentException(TossErrorCode.IDEMPOTENCY_KEY_ERROR, operation.getDescription() + " 멱등키 발급 실패", e);
+        }
+    }
+    
+    /**
+     * JSON Body POST 요청 생성 (멱등키 포함)
+     */
+    private HttpPost jsonPost(TossOperation operation, String variable, byte[] requestBody, String idempotencyKey) {
+        HttpPost httpPost = requestTemplates.post(operation, variable, idempotencyKey);
+        httpPost.setEntity(new ByteArrayEntity(requestBody, ContentType.APPLICATION_JSON));
+        return httpPost;
+    }
+    
+    /**
+     * 적응형 소켓 타임아웃 적용 (동기)
+     */
+    private HttpRequestBase withAdaptiveTimeout(TossOperation operation, HttpRequestBase request) {
+        int timeout = adaptiveTimeoutMillis(operation);
+        if (timeout > 0) {
+            request.setConfig(RequestConfig.copy(requestConfig).setSocketTimeout(timeout).build());
+        }
+        return request;
+    }
+    
+    /**
+     * 적응형 응답 타임아웃 적용 (비동기)
+     */
+    private HttpRequest withAdaptiveTimeout(TossOperation operation, HttpRequest request) {
+        int timeout = adaptiveTimeoutMillis(operation);
+        if (timeout <= 0) {
+            return request;
+        }
+        return HttpRequest.newBuilder(request, (name, value) -> true)
+            .timeout(Duration.ofMillis(timeout))
+            .build();
+    }
+    
+    /**
+     * 적응형 타임아웃 (p99 x 배수, 최솟값 ~ 기본 소켓 타임아웃 범위)
+     * 멱등 호출에만 적용하며 표본이 부족하면 -1 (기본 타임아웃 사용)
+     */
+    private int adaptiveTimeoutMillis(TossOperation operation) {
+        TossPaymentConfig.TailLatency tailLatency = config.getTailLatency();
+        if (!tailLatency.isAdaptiveTimeoutEnabled() || !operation.isIdempotent()) {
+            return -1;
+        }
+        long p99 = latencyTracker.p99(operation);
+        if (p99 < 0) {
+            return -1;
+        }
+        long timeout = TimeUnit.NANOSECONDS.toMillis(p99) * tailLatency.getTimeoutMultiplier();
+        return Math.toIntExact(Math.min(config.getPool().getSocketTimeout().toMillis(), Math.max(tailLatency.getMinTimeout().toMillis(), timeout)));
+    }
+    
+    /**
+     * 서킷 브레이커 실패로 집계할 응답 (토스 측 장애/과부하)
+     * 4xx 업무 오류(잔액 부족, 이미 취소된 결제 등)는 정상 응답으로 본다.
+     */
+    private static boolean isServerFailure(int statusCode) {
+        return statusCode >= 500 || statusCode == 429;
+    }
+    
+    /**
+     * 커넥션 사용 허가 획득 (가상 스레드 모드)
+     * 대기 시간은 커넥션 풀 대여 대기 타임아웃(pool.connectionRequestTimeout)과 동일하게 적용
+     */
+    private void acquireConnectionPermit(String operationType) throws TossPaymentException {
+        if (connectionPermits == null) {
+            return;
+        }
+        try {
+            if (!connectionPermits.tryAcquire(config.getPool().getConnectionRequestTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new TossPaymentException(operationType + " 처리 중 오류가 발생했습니다: Timeout waiting for connection from pool");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TossPaymentException(operationType + " 처리 중 오류가 발생했습니다: 커넥션 대기 중 인터럽트", e);
+        }
+    }
+    
+    /**
+     * 커넥션 사용 허가 반환 (가상 스레드 모드)
+     */
+    private void releaseConnectionPermit() {
+        if (connectionPermits != null) {
+            connectionPermits.release();
         }
     }
     
+    /**
+     * 비동기 HTTP 요청 처리 공통 로직
+     * 에러 매핑은 executeRequest와 동일하게 TossPaymentException으로 전달된다.
+     */
+    private <T> CompletableFuture<T> executeRequestAsync(TossOperation operation, HttpRequest request, Class<T> responseType) {
+        String operationType = operation.getDescription();
+        try {
+            if (rateLimiter != null) {
+                rateLimiter.tryAcquire(operation);
+            }
+            callGuard.tryAcquire(operation);
+        } catch (TossPaymentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        
+        long startedAt = System.nanoTime();
+        CompletableFuture<HttpResponse<byte[]>> sent;
+        try {
+            sent = asyncHttpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (RuntimeException e) {
+            // 요청을 보내기도 전에 실패한 경우 (잘못된 요청, 클라이언트 종료 등): 격벽 자리만 반환
+            // 요청 한도 토큰은 돌려주지 않는다 (토큰은 호출 시도 횟수 기준)
+            callGuard.releaseWithoutRecord(operation);
+            return CompletableFuture.failedFuture(wrapException(e, operationType));
+        }
+        return sent
+            .handle((response, throwable) -> {
+                Throwable cause = throwable != null ? unwrap(throwable) : null;
+                long elapsed = System.nanoTime() - startedAt;
+                boolean failure = cause != null || isServerFailure(response.statusCode());
+                callGuard.release(operation, failure, elapsed);
+                if (!failure) {
+                    latencyTracker.record(operation, elapsed);
+                }
+                
+                if (cause == null) {
+                    byte[] body = response.body();
+                    try {
+                        InputStream content = body != null
+                            ? TossHttp2Transport.decode(response.headers(), new ByteArrayInputStream(body))
+                            : null;
+                        return readResponse(response.statusCode(), content, responseType, operationType);
+                    } catch (TossPaymentException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        cause = e;
+                    }
+                }
+                if (cause instanceof TossPaymentException) {
+                    throw (TossPaymentException) cause;
+                }
+                throw wrapException(cause, operationType);
+            });
+    }
+    
+    /**
+     * 응답 본문 해석 (동기/비동기 공통)
+     * 정상 응답은 InputStream에서 DTO로 바로 파싱하고, 에러 응답이거나 디버그 로그가 켜진 경우에만 본문 전체를 문자열로 읽는다.
+     */
+    private <T> T readResponse(int statusCode, InputStream content, Class<T> responseType, String operationType) throws IOException {
+        boolean success = statusCode >= 200 && statusCode < 300;
+        
+        if (!success || logger.isDebugEnabled()) {
+            String responseBody = "";
+            if (content != null) {
+                try (InputStream in = content) {
+                    responseBody = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            }
+            return readResponse(statusCode, responseBody, responseType, operationType);
+        }
+        
+        if (content == null) {
+            return null;
+        }
+        
+        // 스트림을 닫으면 남은 본문까지 소비되어 커넥션이 풀로 반환된다
+        try (Reader reader = new InputStreamReader(content, StandardCharsets.UTF_8)) {
+            if (responseType == Void.class) {
+                return null;
+            }
+            return gson.fromJson(reader, responseType);
+        }
+    }
+    
+    /**
+     * 버퍼링된 응답 본문 해석
+     */
+    private <T> T readResponse(int statusCode, String responseBody, Class<T> responseType, String operationType) throws TossPaymentException {
+        logger.debug("토스페이먼츠 {} 응답 - HTTP {}: {}", operationType, statusCode, responseBody);
+        
+        if (statusCode < 200 || statusCode >= 300) {
+            handleErrorResponse(responseBody, statusCode, operationType);
+        }
+        
+        if (responseType == Void.class || responseBody.isEmpty()) {
+            return null;
+        }
+        
+        return gson.fromJson(responseBody, responseType);
+    }
+    
+    /**
+     * 처리 중 발생한 예외를 TossPaymentException으로 변환
+     */
+    private TossPaymentException wrapException(Throwable e, String operationType) {
+        logger.error("토스페이먼츠 {} 처리 중 오류: {}", operationType, e.getMessage(), e);
+        return new TossPaymentException(operationType + " 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
+    }
+    
+    /**
+     * 요청 본문/HttpRequest 생성 실패 변환 (비동기 호출은 예외를 던지지 않고 실패한 Future로 돌려준다)
+     */
+    private static TossPaymentException requestBuildError(Exception e) {
+        return new TossPaymentException(TossErrorCode.REQUEST_BUILD_ERROR, "요청 데이터 생성 실패", e);
+    }
+    
+    /**
+     * CompletableFuture 래핑 예외 해제
+     */
+    private static Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+    
     /**
      * 에러 응답 처리
      */
@@ -165,121 +912,400 @@ public class TossPaymentService {
     public TossPaymentResponse confirmPayment(TossPaymentRequest req) throws TossPaymentException {
         logger.info("토스페이먼츠 결제 승인 요청 - orderId: {}, amount: {}", req.getOrderId(), req.getAmount());
         
-        HttpPost httpPost = new HttpPost(config.getConfirmUrl());
+        byte[] requestBody;
+        try {
+            requestBody = TossRequestBodyWriter.write(req);
+        } catch (Exception e) {
+            throw new TossPaymentException(TossErrorCode.REQUEST_BUILD_ERROR, "요청 데이터 생성 실패", e);
+        }
+        String idempotencyKey = idempotencyKey(TossOperation.CONFIRM, req.getOrderId());
+        
+        TossPaymentResponse paymentResponse = executeWithRetry(TossOperation.CONFIRM,
+            () -> jsonPost(TossOperation.CONFIRM, null, requestBody, idempotencyKey), TossPaymentResponse.class);
+        
+        return verifyConfirmResponse(paymentResponse);
+    }
+    
+    /**
+     * 결제 승인 처리 (비동기)
+     * @param req 결제 승인 요청 정보
+     * @return 결제 승인 결과 Future (실패 시 TossPaymentException으로 완료)
+     */
+    public CompletableFuture<TossPaymentResponse> confirmPaymentAsync(TossPaymentRequest req) {
+        logger.info("토스페이먼츠 결제 승인 요청(비동기) - orderId: {}, amount: {}", req.getOrderId(), req.getAmount());
+        
+        HttpRequest request;
+        try {
+            String idempotencyKey = idempotencyKey(TossOperation.CONFIRM, req.getOrderId());
+            request = requestTemplates.asyncPost(TossOperation.CONFIRM, null, TossRequestBodyWriter.write(req), idempotencyKey);
+        } catch (TossPaymentException e) {
+            return CompletableFuture.failedFuture(e);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(requestBuildError(e));
+        }
+        
+        return executeRequestAsync(TossOperation.CONFIRM, request, TossPaymentResponse.class)
+            .thenApply(this::verifyConfirmResponse);
+    }
+    
+    /**
+     * 결제 승인 응답 검증
+     */
+    private TossPaymentResponse verifyConfirmResponse(TossPaymentResponse paymentResponse) {
+        // 응답 null 체크
+        if (paymentResponse == null) {
+            throw new TossPaymentException("결제 승인 응답이 비어있습니다.");
+        }
+
+        // 결제 상태 확인 (에러 코드가 있으면 실패)
+        if (paymentResponse.getCode() != null) {
+            throw new TossPaymentException(
+                paymentResponse.getCode(),
+                paymentResponse.getMessage() != null ? paymentResponse.getMessage() : "결제 승인 실패: " + paymentResponse.getCode()
+            );
+        }
+        
+        logger.info("토스페이먼츠 결제 승인 성공 - paymentKey: {}, status: {}", 
+            paymentResponse.getPaymentKey(), paymentResponse.getStatus());
+        
+        // 승인 전 조회 결과(진행 중 상태)가 남아 있지 않도록 제거
+        invalidateLookupCache(paymentResponse.getPaymentKey());
+        
+        return paymentResponse;
+    }
+    
+    /**
+     * 결제 취소 처리
+     * @param paymentKey 결제 키
+     * @param req 취소 요청 정보
+     * @return 취소 결과
+     * @throws TossPaymentException 결제 취소 실패 시
+     */
+    public TossCancelResponse cancelPayment(String paymentKey, TossCancelRequest req) throws TossPaymentException {
+        logger.info("토스페이먼츠 결제 취소 요청 - paymentKey: {}, cancelReason: {}, cancelAmount: {}", 
+            paymentKey, req.getCancelReason(), req.getCancelAmount());
+        
+        byte[] requestBody;
+        try {
+            requestBody = TossRequestBodyWriter.write(req);
+        } catch (Exception e) {
+            throw new TossPaymentException(TossErrorCode.REQUEST_BUILD_ERROR, "요청 데이터 생성 실패", e);
+        }
+        // 같은 결제를 여러 번 부분 취소할 수 있으므로 취소 요청마다 키를 새로 만들고 재시도에만 같은 키를 사용
+        String idempotencyKey = UUID.randomUUID().toString();
+        
+        TossCancelResponse cancelResponse = executeWithRetry(TossOperation.CANCEL,
+            () -> jsonPost(TossOperation.CANCEL, paymentKey, requestBody, idempotencyKey), TossCancelResponse.class);
         
-        // 요청 Body 생성
-        JsonObject requestBody = new JsonObject();
-        requestBody.addProperty("paymentKey", req.getPaymentKey());
-        requestBody.addProperty("orderId", req.getOrderId());
-        requestBody.addProperty("amount", req.getAmount());
+        return verifyCancelResponse(paymentKey, cancelResponse);
+    }
+    
+    /**
+     * 결제 취소 처리 (비동기)
+     * @param paymentKey 결제 키
+     * @param req 취소 요청 정보
+     * @return 취소 결과 Future (실패 시 TossPaymentException으로 완료)
+     */
+    public CompletableFuture<TossCancelResponse> cancelPaymentAsync(String paymentKey, TossCancelRequest req) {
+        logger.info("토스페이먼츠 결제 취소 요청(비동기) - paymentKey: {}, cancelReason: {}, cancelAmount: {}",
+            paymentKey, req.getCancelReason(), req.getCancelAmount());
         
+        HttpRequest request;
         try {
-            httpPost.setEntity(new StringEntity(requestBody.toString(), StandardCharsets.UTF_8));
+            request = requestTemplates.asyncPost(TossOperation.CANCEL, paymentKey, TossRequestBodyWriter.write(req),
+                UUID.randomUUID().toString());
         } catch (Exception e) {
-            throw new TossPaymentException("요청 데이터 생성 실패", e);
+            return CompletableFuture.failedFuture(requestBuildError(e));
+        }
+        
+        return executeRequestAsync(TossOperation.CANCEL, request, TossCancelResponse.class)
+            .thenApply(cancelResponse -> verifyCancelResponse(paymentKey, cancelResponse));
+    }
+        
+    /**
+     * 결제 취소 응답 검증
+     */
+    private TossCancelResponse verifyCancelResponse(String paymentKey, TossCancelResponse cancelResponse) {
+        // 응답 null 체크
+        if (cancelResponse == null) {
+            throw new TossPaymentException("결제 취소 응답이 비어있습니다.");
+        }
+        
+        logger.info("토스페이먼츠 결제 취소 성공 - paymentKey: {}, status: {}", paymentKey, cancelResponse.getStatus());
+        
+        invalidateLookupCache(paymentKey);
+        
+        return cancelResponse;
+    }
+    
+    /**
+     * 결제 조회
+     * @param paymentKey 결제 키
+     * @return 결제 정보
+     * @throws TossPaymentException 결제 조회 실패 시
+     */
+    public TossPaymentResponse lookupPayment(String paymentKey) throws TossPaymentException {
+        TossPaymentResponse cached = getCachedLookup(paymentKey);
+        if (cached != null) {
+            return cached;
+        }
+        
+        return coalesce(TossOperation.LOOKUP, paymentKey, () -> {
+            logger.info("토스페이먼츠 결제 조회 요청 - paymentKey: {}", paymentKey);
+            long cacheGeneration = lookupCacheGeneration();
+        
+            TossPaymentResponse paymentResponse = executeIdempotentRequest(TossOperation.LOOKUP,
+                () -> requestTemplates.get(TossOperation.LOOKUP, paymentKey), TossPaymentResponse.class);
+        
+            return cacheLookup(paymentKey, verifyLookupResponse(paymentKey, paymentResponse), cacheGeneration);
+        });
+    }
+    
+    /**
+     * 결제 조회 (비동기)
+     * @param paymentKey 결제 키
+     * @return 결제 정보 Future (실패 시 TossPaymentException으로 완료)
+     */
+    public CompletableFuture<TossPaymentResponse> lookupPaymentAsync(String paymentKey) {
+        TossPaymentResponse cached = getCachedLookup(paymentKey);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        
+        return coalesceAsync(TossOperation.LOOKUP, paymentKey, () -> {
+            logger.info("토스페이먼츠 결제 조회 요청(비동기) - paymentKey: {}", paymentKey);
+            long cacheGeneration = lookupCacheGeneration();
+        
+            HttpRequest request = withAdaptiveTimeout(TossOperation.LOOKUP, requestTemplates.asyncGet(TossOperation.LOOKUP, paymentKey));
+        
+            return executeRequestAsync(TossOperation.LOOKUP, request, TossPaymentResponse.class)
+                .thenApply(paymentResponse -> cacheLookup(paymentKey, verifyLookupResponse(paymentKey, paymentResponse), cacheGeneration));
+        });
+    }
+    
+    /**
+     * 결제 조회 (캐시를 거치지 않고 결과도 캐시에 넣지 않음)
+     * 대사처럼 많은 결제를 한 번씩 조회할 때 사용해 자주 조회되는 결제의 캐시가 밀려나지 않도록 한다.
+     * @param paymentKey 결제 키
+     * @return 결제 정보
+     * @throws TossPaymentException 결제 조회 실패 시
+     */
+    public TossPaymentResponse fetchPayment(String paymentKey) throws TossPaymentException {
+        logger.debug("토스페이먼츠 결제 조회 요청(캐시 제외) - paymentKey: {}", paymentKey);
+        TossPaymentResponse paymentResponse = executeIdempotentRequest(TossOperation.LOOKUP,
+            () -> requestTemplates.get(TossOperation.LOOKUP, paymentKey), TossPaymentResponse.class);
+        
+        return verifyLookupResponse(paymentKey, paymentResponse);
+    }
+    
+    /**
+     * 캐시된 결제 조회 결과
+     */
+    private TossPaymentResponse getCachedLookup(String paymentKey) {
+        if (lookupCache == null) {
+            return null;
+        }
+        TossPaymentResponse cached = lookupCache.get(paymentKey);
+        if (cached != null) {
+            logger.debug("토스페이먼츠 결제 조회 캐시 적중 - paymentKey: {}, status: {}", paymentKey, cached.getStatus());
+        }
+        return cached;
+    }
+    
+    /**
+     * 결제 조회 캐시 무효화 세대 (조회 시작 시점 기록용)
+     */
+    private long lookupCacheGeneration() {
+        return lookupCache != null ? lookupCache.generation() : 0;
+    }
+    
+    /**
+     * 결제 조회 결과 캐시 저장 (상태별 유효 시간 적용)
+     */
+    private TossPaymentResponse cacheLookup(String paymentKey, TossPaymentResponse paymentResponse, long cacheGeneration) {
+        if (lookupCache != null) {
+            lookupCache.put(paymentKey, paymentResponse, cacheGeneration);
+        }
+        return paymentResponse;
+    }
+    
+    /**
+     * 동일 요청 합치기 (동기, 조회/브랜드페이 토큰 교환)
+     */
+    private <T> T coalesce(TossOperation operation, String key, Supplier<T> call) {
+        return requestCoalescer != null ? requestCoalescer.execute(operation, key, call) : call.get();
+    }
+    
+    /**
+     * 동일 요청 합치기 (비동기, 조회/브랜드페이 토큰 교환)
+     */
+    private <T> CompletableFuture<T> coalesceAsync(TossOperation operation, String key, Supplier<CompletableFuture<T>> call) {
+        return requestCoalescer != null ? requestCoalescer.executeAsync(operation, key, call) : call.get();
+    }
+    
+    /**
+     * 결제 조회 캐시 제거 (승인/취소 후, 웹훅으로 상태 변경을 알게 된 경우)
+     * @param paymentKey 결제 키
+     */
+    public void invalidateLookupCache(String paymentKey) {
+        if (lookupCache != null) {
+            lookupCache.invalidate(paymentKey);
         }
-        
-        TossPaymentResponse paymentResponse = executeRequest(httpPost, TossPaymentResponse.class, "결제 승인");
-        
+    }
+    
+    /**
+     * 결제 조회 응답 검증
+     */
+    private TossPaymentResponse verifyLookupResponse(String paymentKey, TossPaymentResponse paymentResponse) {
         // 응답 null 체크
         if (paymentResponse == null) {
-            throw new TossPaymentException("결제 승인 응답이 비어있습니다.");
+            throw new TossPaymentException("결제 조회 응답이 비어있습니다.");
         }
-
+        
         // 결제 상태 확인 (에러 코드가 있으면 실패)
         if (paymentResponse.getCode() != null) {
             throw new TossPaymentException(
                 paymentResponse.getCode(),
-                paymentResponse.getMessage() != null ? paymentResponse.getMessage() : "결제 승인 실패: " + paymentResponse.getCode()
+                paymentResponse.getMessage() != null ? paymentResponse.getMessage() : "결제 조회 실패: " + paymentResponse.getCode()
             );
         }
         
-        logger.info("토스페이먼츠 결제 승인 성공 - paymentKey: {}, status: {}", 
-            paymentResponse.getPaymentKey(), paymentResponse.getStatus());
+        logger.info("토스페이먼츠 결제 조회 성공 - paymentKey: {}, status: {}", paymentKey, paymentResponse.getStatus());
         
         return paymentResponse;
     }
     
     /**
-     * 결제 취소 처리
-     * @param paymentKey 결제 키
-     * @param req 취소 요청 정보
-     * @return 취소 결과
-     * @throws TossPaymentException 결제 취소 실패 시
+     * 결제 일괄 조회
+     * @param paymentKeys 결제 키 목록
+     * @return 결제 키별 조회 결과 (입력 순서 유지)
+     * @see #lookupPayments(Collection, Consumer)
      */
-    public TossCancelResponse cancelPayment(String paymentKey, TossCancelRequest req) throws TossPaymentException {
-        logger.info("토스페이먼츠 결제 취소 요청 - paymentKey: {}, cancelReason: {}, cancelAmount: {}", 
-            paymentKey, req.getCancelReason(), req.getCancelAmount());
-        
-        String cancelUrl = config.getCancelUrl().replace("{paymentKey}", paymentKey);
-        HttpPost httpPost = new HttpPost(cancelUrl);
+    public Map<String, TossPaymentLookupResult> lookupPayments(Collection<String> paymentKeys) {
+        return lookupPayments(paymentKeys, null);
+    }
+    
+    /**
+     * 결제 일괄 조회 (건별 결과 콜백)
+     * 동시 조회 수를 제한해 여러 건을 병렬로 조회한다. 건별 실패는 결과에 담기고 전체 조회는 계속 진행된다.
+     * 동시 조회 수는 호스트당 최대 커넥션 수보다 작게 제한되어 일반 요청이 사용할 커넥션을 남겨 둔다.
+     * 
+     * @param paymentKeys 결제 키 목록 (null/빈 값과 중복은 제외)
+     * @param onResult 건별 결과 콜백 (완료되는 순서대로 한 번에 하나씩 호출되므로 콜백은 스레드 안전하지 않아도 된다, null 가능)
+     * @return 결제 키별 조회 결과 (입력 순서 유지)
+     * @throws TossPaymentException 일괄 조회 중 인터럽트된 경우
+     */
+    public Map<String, TossPaymentLookupResult> lookupPayments(Collection<String> paymentKeys,
+                                                               Consumer<TossPaymentLookupResult> onResult) throws TossPaymentException {
+        return lookupPayments(paymentKeys, onResult, this::lookupPayment);
+    }
+    
+    /**
+     * 결제 일괄 조회 (캐시 제외, 건별 결과 콜백)
+     * 대사처럼 많은 결제를 한 번씩 조회할 때 사용한다. 동시 조회 수 제한과 콜백 방식은 lookupPayments와 같다.
+     * 
+     * @param paymentKeys 결제 키 목록 (null/빈 값과 중복은 제외)
+     * @param onResult 건별 결과 콜백 (한 번에 하나씩 호출, null 가능)
+     * @return 결제 키별 조회 결과 (입력 순서 유지)
+     * @throws TossPaymentException 일괄 조회 중 인터럽트된 경우
+     * @see #fetchPayment(String)
+     */
+    public Map<String, TossPaymentLookupResult> fetchPayments(Collection<String> paymentKeys,
+                                                              Consumer<TossPaymentLookupResult> onResult) throws TossPaymentException {
+        return lookupPayments(paymentKeys, onResult, this::fetchPayment);
+    }
+    
+    private Map<String, TossPaymentLookupResult> lookupPayments(Collection<String> paymentKeys,
+                                                                Consumer<TossPaymentLookupResult> onResult,
+                                                                Function<String, TossPaymentResponse> lookup) throws TossPaymentException {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String paymentKey : paymentKeys) {
+            if (paymentKey != null && !paymentKey.isEmpty()) {
+                keys.add(paymentKey);
+            }
+        }
         
-        // 요청 Body 생성
-        JsonObject requestBody = new JsonObject();
-        requestBody.addProperty("cancelReason", req.getCancelReason());
+        int concurrency = bulkLookupConcurrency();
+        logger.info("토스페이먼츠 결제 일괄 조회 시작 - 건수: {}, 동시 조회 수: {}", keys.size(), concurrency);
+        long startedAt = System.nanoTime();
         
-        // 취소 금액이 지정된 경우 (부분 취소)
-        if (req.getCancelAmount() != null) {
-            requestBody.addProperty("cancelAmount", req.getCancelAmount());
-        }
+        Map<String, TossPaymentLookupResult> results = new ConcurrentHashMap<>();
+        Semaphore permits = new Semaphore(concurrency);
+        Lock callbackLock = new ReentrantLock(); // 가상 스레드 고정(pinning)을 피하기 위해 synchronized 대신 사용
+        boolean interrupted = false;
         
-        // 환불 계좌 정보가 있는 경우 (가상계좌 결제 취소 시)
-        if (req.getRefundReceiveAccount() != null) {
-            JsonObject account = new JsonObject();
-            account.addProperty("bank", req.getRefundReceiveAccount().getBank());
-            account.addProperty("accountNumber", req.getRefundReceiveAccount().getAccountNumber());
-            account.addProperty("holderName", req.getRefundReceiveAccount().getHolderName());
-            requestBody.add("refundReceiveAccount", account);
+        // 건별로 스레드(가상 스레드 모드면 가상 스레드)를 사용하고, 동시 실행 수는 Semaphore로 제한
+        try (ExecutorService executor = newTaskExecutor("toss-lookup")) {
+            for (String paymentKey : keys) {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    break;
+                }
+                // 호출한 쪽의 요청 수 제한 우선순위(배치 등)를 조회 스레드에도 적용
+                executor.execute(TossRateLimiter.propagate(() -> {
+                    try {
+                        TossPaymentLookupResult result = lookupPaymentForBatch(paymentKey, lookup);
+                        results.put(paymentKey, result);
+                        if (onResult != null) {
+                            callbackLock.lock();
+                            try {
+                                onResult.accept(result);
+                            } finally {
+                                callbackLock.unlock();
+                            }
+                        }
+                    } catch (Exception e) {
+                        logger.error("토스페이먼츠 결제 일괄 조회 콜백 오류 - paymentKey: {}", paymentKey, e);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
         }
         
-        try {
-            httpPost.setEntity(new StringEntity(requestBody.toString(), StandardCharsets.UTF_8));
-        } catch (Exception e) {
-            throw new TossPaymentException("요청 데이터 생성 실패", e);
+        Map<String, TossPaymentLookupResult> orderedResults = new LinkedHashMap<>();
+        int failed = 0;
+        for (String paymentKey : keys) {
+            TossPaymentLookupResult result = results.get(paymentKey);
+            if (result != null) {
+                orderedResults.put(paymentKey, result);
+                if (!result.isSuccess()) {
+                    failed++;
+                }
+            }
         }
         
-        TossCancelResponse cancelResponse = executeRequest(httpPost, TossCancelResponse.class, "결제 취소");
+        logger.info("토스페이먼츠 결제 일괄 조회 완료 - 처리: {}/{}, 실패: {}, 소요: {}ms",
+            orderedResults.size(), keys.size(), failed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
         
-        // 응답 null 체크
-        if (cancelResponse == null) {
-            throw new TossPaymentException("결제 취소 응답이 비어있습니다.");
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+            throw new TossPaymentException("결제 일괄 조회 중 인터럽트되었습니다. 처리: " + orderedResults.size() + "/" + keys.size());
         }
-        
-        logger.info("토스페이먼츠 결제 취소 성공 - paymentKey: {}, status: {}", paymentKey, cancelResponse.getStatus());
-        
-        return cancelResponse;
+        return orderedResults;
     }
     
     /**
-     * 결제 조회
-     * @param paymentKey 결제 키
-     * @return 결제 정보
-     * @throws TossPaymentException 결제 조회 실패 시
+     * 일괄 조회 건별 처리 (예외를 결과로 변환)
      */
-    public TossPaymentResponse lookupPayment(String paymentKey) throws TossPaymentException {
-        logger.info("토스페이먼츠 결제 조회 요청 - paymentKey: {}", paymentKey);
-        
-        String lookupUrl = config.getLookupUrl().replace("{paymentKey}", paymentKey);
-        HttpGet httpGet = new HttpGet(lookupUrl);
-        
-        TossPaymentResponse paymentResponse = executeRequest(httpGet, TossPaymentResponse.class, "결제 조회");
-        
-        // 응답 null 체크
-        if (paymentResponse == null) {
-            throw new TossPaymentException("결제 조회 응답이 비어있습니다.");
-        }
-        
-        // 결제 상태 확인 (에러 코드가 있으면 실패)
-        if (paymentResponse.getCode() != null) {
-            throw new TossPaymentException(
-                paymentResponse.getCode(),
-                paymentResponse.getMessage() != null ? paymentResponse.getMessage() : "결제 조회 실패: " + paymentResponse.getCode()
-            );
+    private TossPaymentLookupResult lookupPaymentForBatch(String paymentKey, Function<String, TossPaymentResponse> lookup) {
+        try {
+            return TossPaymentLookupResult.success(paymentKey, lookup.apply(paymentKey));
+        } catch (TossPaymentException e) {
+            return TossPaymentLookupResult.failure(paymentKey, e);
+        } catch (RuntimeException e) {
+            return TossPaymentLookupResult.failure(paymentKey, wrapException(e, TossOperation.LOOKUP.getDescription()));
         }
-        
-        logger.info("토스페이먼츠 결제 조회 성공 - paymentKey: {}, status: {}", paymentKey, paymentResponse.getStatus());
-        
-        return paymentResponse;
+    }
+    
+    /**
+     * 일괄 조회 동시 실행 수 (호스트당 최대 커넥션 수, 결제 조회 격벽 한도 이내로 제한)
+     */
+    private int bulkLookupConcurrency() {
+        int limit = Math.min(connectionManager.getDefaultMaxPerRoute() - 1, callGuard.getBulkheadLimit(TossOperation.LOOKUP));
+        return Math.max(1, Math.min(config.getBulkLookupConcurrency(), limit));
     }
     
     /**
@@ -296,64 +1322,82 @@ public class TossPaymentService {
                 req.getCustomerKey(),
                 req.getOrderId(),
                 req.getAmount());
-        // 필수 파라미터 검증
-        if (req.getBillingKey() == null || req.getBillingKey().isEmpty()) {
-            throw new TossPaymentException("INVALID_BILLING_KEY", "빌링키가 없습니다.");
-        }
-        if (req.getCustomerKey() == null || req.getCustomerKey().isEmpty()) {
-            throw new TossPaymentException("INVALID_CUSTOMER_KEY", "고객 식별자가 없습니다.");
-        }
-        if (req.getAmount() == null || req.getAmount() <= 0) {
-            throw new TossPaymentException("INVALID_AMOUNT", "결제 금액이 올바르지 않습니다.");
-        }
-        if (req.getOrderId() == null || req.getOrderId().isEmpty()) {
-            throw new TossPaymentException("INVALID_ORDER_ID", "주문번호가 없습니다.");
-        }
-        if (req.getOrderName() == null || req.getOrderName().isEmpty()) {
-            throw new TossPaymentException("INVALID_ORDER_NAME", "상품명이 없습니다.");
+        validateBillingRequest(req);
+        
+        // 빌링 API 요청 생성
+        byte[] requestBody;
+        try {
+            requestBody = TossRequestBodyWriter.write(req);
+        } catch (Exception e) {
+            throw new TossPaymentException(TossErrorCode.REQUEST_BUILD_ERROR, "요청 데이터 생성 실패", e);
         }
+        String idempotencyKey = idempotencyKey(TossOperation.BILLING, req.getOrderId());
         
-        // 빌링 API URL 생성
-        String billingUrl = config.getBillingUrl().replace("{billingKey}", req.getBillingKey());
-        HttpPost httpPost = new HttpPost(billingUrl);
+        logRequestBody("빌링", requestBody);
         
-        // 요청 Body 생성
-        JsonObject requestBody = new JsonObject();
-        requestBody.addProperty("customerKey", req.getCustomerKey());
-        requestBody.addProperty("amount", req.getAmount());
-        requestBody.addProperty("orderId", req.getOrderId());
-        requestBody.addProperty("orderName", req.getOrderName());
+        TossPaymentResponse paymentResponse = executeWithRetry(TossOperation.BILLING,
+            () -> jsonPost(TossOperation.BILLING, req.getBillingKey(), requestBody, idempotencyKey), TossPaymentResponse.class);
         
-        // 선택 파라미터 추가
-        if (req.getCustomerEmail() != null && !req.getCustomerEmail().isEmpty()) {
-            requestBody.addProperty("customerEmail", req.getCustomerEmail());
+        return verifyBillingResponse(paymentResponse);
+    }
+    
+    /**
+     * 빌링 승인 처리 (비동기)
+     *
+     * @param req 빌링 결제 요청 정보
+     * @return 결제 승인 결과 Future (실패 시 TossPaymentException으로 완료)
+     */
+    public CompletableFuture<TossPaymentResponse> billingPaymentAsync(TossBillingRequest req) {
+        logger.info("토스페이먼츠 빌링 결제 요청(비동기) - billingKey: {}, customerKey: {}, orderId: {}, amount: {}",
+                maskBillingKey(req.getBillingKey()),
+                req.getCustomerKey(),
+                req.getOrderId(),
+                req.getAmount());
+        HttpRequest request;
+        try {
+            validateBillingRequest(req);
+            String idempotencyKey = idempotencyKey(TossOperation.BILLING, req.getOrderId());
+            byte[] requestBody = TossRequestBodyWriter.write(req);
+            logRequestBody("빌링", requestBody);
+            request = requestTemplates.asyncPost(TossOperation.BILLING, req.getBillingKey(), requestBody, idempotencyKey);
+        } catch (TossPaymentException e) {
+            return CompletableFuture.failedFuture(e);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(requestBuildError(e));
         }
-        if (req.getCustomerName() != null && !req.getCustomerName().isEmpty()) {
-            requestBody.addProperty("customerName", req.getCustomerName());
+        
+        return executeRequestAsync(TossOperation.BILLING, request, TossPaymentResponse.class)
+            .thenApply(this::verifyBillingResponse);
+    }
+    
+    /**
+     * 빌링 결제 필수 파라미터 검증
+     */
+    private void validateBillingRequest(TossBillingRequest req) {
+        if (req.getBillingKey() == null || req.getBillingKey().isEmpty()) {
+            throw new TossPaymentException(TossErrorCode.INVALID_BILLING_KEY, "빌링키가 없습니다.");
         }
-        if (req.getCustomerMobilePhone() != null && !req.getCustomerMobilePhone().isEmpty()) {
-            requestBody.addProperty("customerMobilePhone", req.getCustomerMobilePhone());
+        if (req.getCustomerKey() == null || req.getCustomerKey().isEmpty()) {
+            throw new TossPaymentException(TossErrorCode.INVALID_CUSTOMER_KEY, "고객 식별자가 없습니다.");
         }
-        if (req.getTaxFreeAmount() != null) {
-            requestBody.addProperty("taxFreeAmount", req.getTaxFreeAmount());
+        if (req.getAmount() == null || req.getAmount() <= 0) {
+            throw new TossPaymentException(TossErrorCode.INVALID_AMOUNT, "결제 금액이 올바르지 않습니다.");
         }
-        if (req.getCardInstallmentPlan() != null && req.getCardInstallmentPlan() > 0) {
-            requestBody.addProperty("cardInstallmentPlan", req.getCardInstallmentPlan());
+        if (req.getOrderId() == null || req.getOrderId().isEmpty()) {
+            throw new TossPaymentException(TossErrorCode.INVALID_ORDER_ID, "주문번호가 없습니다.");
         }
-        
-        try {
-            httpPost.setEntity(new StringEntity(requestBody.toString(), StandardCharsets.UTF_8));
-        } catch (Exception e) {
-            throw new TossPaymentException("REQUEST_BUILD_ERROR", "요청 데이터 생성 실패", e);
+        if (req.getOrderName() == null || req.getOrderName().isEmpty()) {
+            throw new TossPaymentException(TossErrorCode.INVALID_ORDER_NAME, "상품명이 없습니다.");
         }
+    }
         
-        logger.debug("토스페이먼츠 빌링 요청 Body: {}", requestBody);
-        
-        TossPaymentResponse paymentResponse = executeRequest(httpPost, TossPaymentResponse.class, "빌링 결제");
-        
+    /**
+     * 빌링 결제 응답 검증
+     */
+    private TossPaymentResponse verifyBillingResponse(TossPaymentResponse paymentResponse) {
         // 응답 null 체크
         if (paymentResponse == null) {
-            throw new TossPaymentException("EMPTY_RESPONSE", "빌링 결제 응답이 비어있습니다.");
+            throw new TossPaymentException(TossErrorCode.EMPTY_RESPONSE, "빌링 결제 응답이 비어있습니다.");
         }
         
         // 결제 상태 확인 (에러 코드가 있으면 실패)
@@ -365,9 +1409,9 @@ public class TossPaymentService {
         }
         
         // 결제 완료 상태가 아니면 실패 처리
-        if (!"DONE".equals(paymentResponse.getStatus())) {
+        if (paymentResponse.getStatus() != TossPaymentStatus.DONE) {
             throw new TossPaymentException(
-                "PAYMENT_NOT_DONE",
+                TossErrorCode.PAYMENT_NOT_DONE,
                 "빌링 결제가 완료되지 않았습니다. 상태: " + paymentResponse.getStatus()
             );
         }
@@ -388,6 +1432,15 @@ public class TossPaymentService {
         return billingKey.substring(0, 5) + "***" + billingKey.substring(billingKey.length() - 5);
     }
     
+    /**
+     * 요청 Body 디버그 로그 (디버그 레벨일 때만 문자열 변환)
+     */
+    private void logRequestBody(String operationName, byte[] requestBody) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("토스페이먼츠 {} 요청 Body: {}", operationName, new String(requestBody, StandardCharsets.UTF_8));
+        }
+    }
+    
     /**
      * 클라이언트 키 조회 (JSP에서 사용)
      * @return 클라이언트 키
@@ -414,6 +1467,8 @@ public class TossPaymentService {
     
     /**
      * 브랜드페이 Access Token 발급
+     * 인증 코드는 새 등록/인증의 결과이므로 캐시된 토큰이 있어도 항상 토스에 교환하고, 발급 결과로 캐시를 교체한다.
+     * 같은 인증 코드의 동시 발급 요청(콜백 중복 호출)은 한 번만 호출한다.
      * @param code 토스페이먼츠에서 발급한 인증 코드
      * @param customerKey 고객 식별자
      * @return Access Token 정보
@@ -421,36 +1476,168 @@ public class TossPaymentService {
      */
     public TossBrandPayTokenResponse issueBrandPayAccessToken(String code, String customerKey) throws TossPaymentException {
         logger.info("토스페이먼츠 브랜드페이 Access Token 발급 요청 - customerKey: {}", customerKey);
+        validateBrandPayTokenRequest(code, customerKey);
         
-        // 필수 파라미터 검증
-        if (code == null || code.isEmpty()) {
-            throw new TossPaymentException("INVALID_CODE", "인증 코드가 없습니다.");
+        // 인증 코드가 왔다 = 브랜드페이 등록(결제수단 추가)이 끝났으므로 결제수단 목록 캐시를 비운다
+        invalidateBrandPayMethods(customerKey);
+        
+        byte[] requestBody;
+        try {
+            requestBody = TossRequestBodyWriter.writeBrandPayToken(code, customerKey);
+        } catch (Exception e) {
+            throw new TossPaymentException(TossErrorCode.REQUEST_BUILD_ERROR, "요청 데이터 생성 실패", e);
         }
+        
+        logRequestBody("브랜드페이 Access Token", requestBody);
+        
+        return coalesce(TossOperation.BRANDPAY_TOKEN, authorizationCodeKey(customerKey, code),
+            () -> requestBrandPayToken(customerKey, requestBody));
+    }
+    
+    /**
+     * 브랜드페이 Access Token 조회 (인증 코드 없이)
+     * 캐시된 토큰이 유효하면 그대로, 만료가 가까우면 Refresh Token으로 다시 발급한다.
+     * @param customerKey 고객 식별자
+     * @return Access Token 정보
+     * @throws TossPaymentException 캐시된 토큰이 없거나(BRANDPAY_TOKEN_NOT_FOUND) 재발급 실패 시
+     */
+    public TossBrandPayTokenResponse getBrandPayAccessToken(String customerKey) throws TossPaymentException {
         if (customerKey == null || customerKey.isEmpty()) {
-            throw new TossPaymentException("INVALID_CUSTOMER_KEY", "고객 식별자가 없습니다.");
+            throw new TossPaymentException(TossErrorCode.INVALID_CUSTOMER_KEY, "고객 식별자가 없습니다.");
         }
         
-        HttpPost httpPost = new HttpPost(config.getBrandPayTokenUrl());
+        TossBrandPayTokenResponse cached = getCachedBrandPayToken(customerKey);
+        if (cached != null) {
+            return cached;
+        }
         
-        // 요청 Body 생성
-        JsonObject requestBody = new JsonObject();
-        requestBody.addProperty("grantType", "AuthorizationCode");
-        requestBody.addProperty("code", code);
-        requestBody.addProperty("customerKey", customerKey);
+        char[] refreshToken = brandPayTokenCache != null ? brandPayTokenCache.refreshToken(customerKey) : null;
+        if (refreshToken == null) {
+            throw new TossPaymentException(TossErrorCode.BRANDPAY_TOKEN_NOT_FOUND, "브랜드페이 인증이 필요합니다.");
+        }
         
+        byte[] requestBody;
         try {
-            httpPost.setEntity(new StringEntity(requestBody.toString(), StandardCharsets.UTF_8));
-        } catch (Exception e) {
-            throw new TossPaymentException("REQUEST_BUILD_ERROR", "요청 데이터 생성 실패", e);
+            requestBody = TossRequestBodyWriter.writeBrandPayRefreshToken(refreshToken, customerKey);
+        } finally {
+            Arrays.fill(refreshToken, '\0');
+        }
+        
+        logger.info("토스페이먼츠 브랜드페이 Access Token 갱신 요청 - customerKey: {}", customerKey);
+        return coalesce(TossOperation.BRANDPAY_TOKEN, "RefreshToken:" + customerKey,
+            () -> requestBrandPayToken(customerKey, requestBody));
+    }
+    
+    /**
+     * 브랜드페이 Access Token 캐시 제거 (브랜드페이 해지, 인증 오류 시)
+     * @param customerKey 고객 식별자
+     */
+    public void invalidateBrandPayAccessToken(String customerKey) {
+        if (brandPayTokenCache != null && customerKey != null) {
+            brandPayTokenCache.invalidate(customerKey);
+        }
+    }
+    
+    /**
+     * 브랜드페이 Access Token 캐시 통계
+     */
+    public CacheStats getBrandPayTokenCacheStats() {
+        return brandPayTokenCache != null ? brandPayTokenCache.stats() : CacheStats.empty();
+    }
+    
+    /**
+     * 브랜드페이 Access Token 발급/갱신 호출 (결과를 캐시에 저장)
+     */
+    private TossBrandPayTokenResponse requestBrandPayToken(String customerKey, byte[] requestBody) {
+        HttpPost httpPost = requestTemplates.post(TossOperation.BRANDPAY_TOKEN, null);
+        httpPost.setEntity(new ByteArrayEntity(requestBody, ContentType.APPLICATION_JSON));
+        
+        TossBrandPayTokenResponse tokenResponse = executeRequest(TossOperation.BRANDPAY_TOKEN, httpPost, TossBrandPayTokenResponse.class);
+        
+        return cacheBrandPayToken(customerKey, verifyBrandPayTokenResponse(customerKey, tokenResponse));
+    }
+    
+    /**
+     * 캐시된 브랜드페이 Access Token (없거나 갱신 시점이 지났으면 null)
+     */
+    private TossBrandPayTokenResponse getCachedBrandPayToken(String customerKey) {
+        if (brandPayTokenCache == null) {
+            return null;
+        }
+        TossBrandPayTokenResponse cached = brandPayTokenCache.get(customerKey);
+        if (cached != null) {
+            logger.debug("토스페이먼츠 브랜드페이 Access Token 캐시 사용 - customerKey: {}", customerKey);
+        }
+        return cached;
+    }
+    
+    /**
+     * 발급받은 브랜드페이 Access Token 캐시 저장
+     */
+    private TossBrandPayTokenResponse cacheBrandPayToken(String customerKey, TossBrandPayTokenResponse tokenResponse) {
+        if (brandPayTokenCache != null) {
+            brandPayTokenCache.put(customerKey, tokenResponse);
+        }
+        return tokenResponse;
+    }
+    
+    /**
+     * 브랜드페이 Access Token 발급 (비동기)
+     * 동기 발급과 같이 캐시와 관계없이 항상 인증 코드를 교환한다.
+     * @param code 토스페이먼츠에서 발급한 인증 코드
+     * @param customerKey 고객 식별자
+     * @return Access Token 정보 Future (실패 시 TossPaymentException으로 완료)
+     */
+    public CompletableFuture<TossBrandPayTokenResponse> issueBrandPayAccessTokenAsync(String code, String customerKey) {
+        logger.info("토스페이먼츠 브랜드페이 Access Token 발급 요청(비동기) - customerKey: {}", customerKey);
+        try {
+            validateBrandPayTokenRequest(code, customerKey);
+        } catch (TossPaymentException e) {
+            return CompletableFuture.failedFuture(e);
         }
         
-        logger.debug("토스페이먼츠 브랜드페이 Access Token 요청 Body: {}", requestBody);
+        invalidateBrandPayMethods(customerKey);
         
-        TossBrandPayTokenResponse tokenResponse = executeRequest(httpPost, TossBrandPayTokenResponse.class, "브랜드페이 Access Token 발급");
+        HttpRequest request;
+        try {
+            byte[] requestBody = TossRequestBodyWriter.writeBrandPayToken(code, customerKey);
+            logRequestBody("브랜드페이 Access Token", requestBody);
+            request = requestTemplates.asyncPost(TossOperation.BRANDPAY_TOKEN, null, requestBody);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(requestBuildError(e));
+        }
         
+        return coalesceAsync(TossOperation.BRANDPAY_TOKEN, authorizationCodeKey(customerKey, code),
+            () -> executeRequestAsync(TossOperation.BRANDPAY_TOKEN, request, TossBrandPayTokenResponse.class)
+                .thenApply(tokenResponse -> cacheBrandPayToken(customerKey, verifyBrandPayTokenResponse(customerKey, tokenResponse))));
+    }
+    
+    /**
+     * 인증 코드 교환 요청 합치기 키 (Refresh Token 갱신, 다른 인증 코드와 합쳐지지 않도록 grantType과 코드를 포함)
+     */
+    private static String authorizationCodeKey(String customerKey, String code) {
+        return "AuthorizationCode:" + customerKey + ':' + code;
+    }
+    
+    /**
+     * 브랜드페이 Access Token 발급 필수 파라미터 검증
+     */
+    private void validateBrandPayTokenRequest(String code, String customerKey) {
+        if (code == null || code.isEmpty()) {
+            throw new TossPaymentException(TossErrorCode.INVALID_CODE, "인증 코드가 없습니다.");
+        }
+        if (customerKey == null || customerKey.isEmpty()) {
+            throw new TossPaymentException(TossErrorCode.INVALID_CUSTOMER_KEY, "고객 식별자가 없습니다.");
+        }
+    }
+    
+    /**
+     * 브랜드페이 Access Token 응답 검증
+     */
+    private TossBrandPayTokenResponse verifyBrandPayTokenResponse(String customerKey, TossBrandPayTokenResponse tokenResponse) {
         // 응답 null 체크
         if (tokenResponse == null) {
-            throw new TossPaymentException("EMPTY_RESPONSE", "브랜드페이 Access Token 응답이 비어있습니다.");
+            throw new TossPaymentException(TossErrorCode.EMPTY_RESPONSE, "브랜드페이 Access Token 응답이 비어있습니다.");
         }
         
         // 에러 응답 체크
@@ -463,7 +1650,7 @@ public class TossPaymentService {
         
         // Access Token 존재 확인
         if (tokenResponse.getAccessToken() == null || tokenResponse.getAccessToken().isEmpty()) {
-            throw new TossPaymentException("NO_ACCESS_TOKEN", "Access Token이 없습니다.");
+            throw new TossPaymentException(TossErrorCode.NO_ACCESS_TOKEN, "Access Token이 없습니다.");
         }
         
         logger.info("토스페이먼츠 브랜드페이 Access Token 발급 성공 - customerKey: {}", customerKey);
@@ -473,6 +1660,8 @@ public class TossPaymentService {
     
     /**
      * 브랜드페이 등록된 결제수단 조회
+     * 캐시된 목록이 ttl 이내면 그대로, ttl이 지났으면 이전 목록을 돌려주고 뒤에서 다시 조회한다.
+     * 반환된 응답 객체는 캐시와 공유되므로 수정하면 안 된다.
      * @param customerKey 고객 식별자
      * @return 등록된 결제수단 목록
      * @throws TossPaymentException 조회 실패 시
@@ -482,17 +1671,117 @@ public class TossPaymentService {
         
         // 필수 파라미터 검증
         if (customerKey == null || customerKey.isEmpty()) {
-            throw new TossPaymentException("INVALID_CUSTOMER_KEY", "고객 식별자가 없습니다.");
+            throw new TossPaymentException(TossErrorCode.INVALID_CUSTOMER_KEY, "고객 식별자가 없습니다.");
+        }
+        
+        TossBrandPayMethodResponse cached = getCachedBrandPayMethods(customerKey);
+        if (cached != null) {
+            return cached;
+        }
+        
+        return coalesce(TossOperation.BRANDPAY_METHODS, customerKey, () -> {
+            long cacheGeneration = brandPayMethodCacheGeneration();
+            TossBrandPayMethodResponse methodResponse = executeIdempotentRequest(TossOperation.BRANDPAY_METHODS,
+                () -> requestTemplates.get(TossOperation.BRANDPAY_METHODS, customerKey), TossBrandPayMethodResponse.class);
+        
+            return cacheBrandPayMethods(customerKey, verifyBrandPayMethodResponse(customerKey, methodResponse), cacheGeneration);
+        });
+    }
+    
+    /**
+     * 브랜드페이 등록된 결제수단 조회 (비동기)
+     * @param customerKey 고객 식별자
+     * @return 등록된 결제수단 목록 Future (실패 시 TossPaymentException으로 완료)
+     */
+    public CompletableFuture<TossBrandPayMethodResponse> getBrandPayMethodsAsync(String customerKey) {
+        logger.info("토스페이먼츠 브랜드페이 결제수단 조회 요청(비동기) - customerKey: {}", customerKey);
+        
+        // 필수 파라미터 검증
+        if (customerKey == null || customerKey.isEmpty()) {
+            return CompletableFuture.failedFuture(
+                new TossPaymentException(TossErrorCode.INVALID_CUSTOMER_KEY, "고객 식별자가 없습니다."));
         }
         
-        String url = config.getBrandPayMethodUrl() + "?customerKey=" + customerKey;
-        HttpGet httpGet = new HttpGet(url);
+        TossBrandPayMethodResponse cached = getCachedBrandPayMethods(customerKey);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
         
-        TossBrandPayMethodResponse methodResponse = executeRequest(httpGet, TossBrandPayMethodResponse.class, "브랜드페이 결제수단 조회");
+        return fetchBrandPayMethodsAsync(customerKey);
+    }
+    
+    /**
+     * 브랜드페이 결제수단 캐시 제거 (브랜드페이 등록 완료, 결제수단 추가/삭제 시)
+     * @param customerKey 고객 식별자
+     */
+    public void invalidateBrandPayMethods(String customerKey) {
+        if (brandPayMethodCache != null) {
+            brandPayMethodCache.invalidate(customerKey);
+        }
+    }
+    
+    /**
+     * 브랜드페이 결제수단 조회 호출 (결과를 캐시에 저장)
+     */
+    private CompletableFuture<TossBrandPayMethodResponse> fetchBrandPayMethodsAsync(String customerKey) {
+        return coalesceAsync(TossOperation.BRANDPAY_METHODS, customerKey, () -> {
+            long cacheGeneration = brandPayMethodCacheGeneration();
+            HttpRequest request = withAdaptiveTimeout(TossOperation.BRANDPAY_METHODS,
+                requestTemplates.asyncGet(TossOperation.BRANDPAY_METHODS, customerKey));
         
+            return executeRequestAsync(TossOperation.BRANDPAY_METHODS, request, TossBrandPayMethodResponse.class)
+                .thenApply(methodResponse ->
+                    cacheBrandPayMethods(customerKey, verifyBrandPayMethodResponse(customerKey, methodResponse), cacheGeneration));
+        });
+    }
+    
+    /**
+     * 캐시된 결제수단 목록 (없으면 null, ttl이 지났으면 이전 목록을 돌려주고 뒤에서 다시 조회)
+     */
+    private TossBrandPayMethodResponse getCachedBrandPayMethods(String customerKey) {
+        if (brandPayMethodCache == null) {
+            return null;
+        }
+        TossBrandPayMethodCache.Entry entry = brandPayMethodCache.get(customerKey);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isStale()) {
+            logger.debug("토스페이먼츠 브랜드페이 결제수단 캐시 재조회 - customerKey: {}", customerKey);
+            fetchBrandPayMethodsAsync(customerKey).whenComplete((methodResponse, throwable) -> {
+                if (throwable != null) {
+                    logger.warn("토스페이먼츠 브랜드페이 결제수단 재조회 실패 - customerKey: {}, 오류: {}",
+                        customerKey, throwable.getMessage());
+                }
+            });
+        } else {
+            logger.debug("토스페이먼츠 브랜드페이 결제수단 캐시 사용 - customerKey: {}", customerKey);
+        }
+        return entry.getResponse();
+    }
+    
+    private long brandPayMethodCacheGeneration() {
+        return brandPayMethodCache != null ? brandPayMethodCache.generation() : 0;
+    }
+    
+    /**
+     * 조회한 결제수단 목록 캐시 저장
+     */
+    private TossBrandPayMethodResponse cacheBrandPayMethods(String customerKey, TossBrandPayMethodResponse methodResponse,
+                                                            long cacheGeneration) {
+        if (brandPayMethodCache != null) {
+            brandPayMethodCache.put(customerKey, methodResponse, cacheGeneration);
+        }
+        return methodResponse;
+    }
+    
+    /**
+     * 브랜드페이 결제수단 조회 응답 검증
+     */
+    private TossBrandPayMethodResponse verifyBrandPayMethodResponse(String customerKey, TossBrandPayMethodResponse methodResponse) {
         // 응답 null 체크
         if (methodResponse == null) {
-            throw new TossPaymentException("EMPTY_RESPONSE", "브랜드페이 결제수단 조회 응답이 비어있습니다.");
+            throw new TossPaymentException(TossErrorCode.EMPTY_RESPONSE, "브랜드페이 결제수단 조회 응답이 비어있습니다.");
         }
         
         // 에러 응답 체크
@@ -508,4 +1797,26 @@ public class TossPaymentService {
         
         return methodResponse;
     }
+    
+    /**
+     * 크기를 바꿀 수 있는 커넥션 대기 게이트 (호스트당 최대 커넥션 수 변경 시 함께 조정)
+     */
+    private static class ConnectionPermits extends Semaphore {
+        private int size;
+        
+        ConnectionPermits(int size) {
+            super(size, true);
+            this.size = size;
+        }
+        
+        synchronized void resize(int newSize) {
+            int delta = newSize - size;
+            if (delta > 0) {
+                release(delta);
+            } else if (delta < 0) {
+                reducePermits(-delta);
+            }
+            size = newSize;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import lombok.RequiredArgsConstructor;
+import org.apache.http.pool.PoolStats;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 토스페이먼츠 커넥션 풀 조회/변경 (/actuator/tosspool, 관리자 전용)
+ * POST로 전달한 값만 바꾸고 나머지는 현재 설정을 유지한다. 재시작하면 application.yml 설정으로 돌아간다.
+ */
+@Component
+@Endpoint(id = "tosspool")
+@RequiredArgsConstructor
+public class TossPoolEndpoint {
+
+    private final TossPaymentConfig config;
+    private final TossPaymentService tossPaymentService;
+
+    @ReadOperation
+    public Map<String, Object> pool() {
+        PoolStats stats = tossPaymentService.getPoolStats();
+        TossPaymentConfig.Pool pool = config.getPool();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("leased", stats.getLeased());
+        result.put("pending", stats.getPending());
+        result.put("available", stats.getAvailable());
+        result.put("max", stats.getMax());
+        result.put("maxTotal", pool.getMaxTotal());
+        result.put("maxPerRoute", pool.getMaxPerRoute());
+        result.put("connectTimeoutMillis", pool.getConnectTimeout().toMillis());
+        result.put("socketTimeoutMillis", pool.getSocketTimeout().toMillis());
+        result.put("connectionRequestTimeoutMillis", pool.getConnectionRequestTimeout().toMillis());
+        result.put("keepAliveMillis", pool.getKeepAlive().toMillis());
+        return result;
+    }
+
+    @WriteOperation
+    public synchronized Map<String, Object> update(@Nullable Integer maxTotal, @Nullable Integer maxPerRoute,
+                                                   @Nullable Long connectTimeoutMillis, @Nullable Long socketTimeoutMillis,
+                                                   @Nullable Long connectionRequestTimeoutMillis, @Nullable Long keepAliveMillis) {
+        TossPaymentConfig.Pool pool = config.getPool();
+        int newMaxTotal = maxTotal != null ? maxTotal : pool.getMaxTotal();
+        int newMaxPerRoute = maxPerRoute != null ? maxPerRoute : pool.getMaxPerRoute();
+        if (newMaxTotal <= 0 || newMaxPerRoute <= 0 || newMaxPerRoute > newMaxTotal) {
+            throw new IllegalArgumentException("커넥션 수 설정이 올바르지 않습니다. maxTotal: " + newMaxTotal
+                + ", maxPerRoute: " + newMaxPerRoute);
+        }
+        checkTimeout("connectTimeoutMillis", connectTimeoutMillis);
+        checkTimeout("socketTimeoutMillis", socketTimeoutMillis);
+        checkTimeout("connectionRequestTimeoutMillis", connectionRequestTimeoutMillis);
+        checkTimeout("keepAliveMillis", keepAliveMillis);
+
+        pool.setMaxTotal(newMaxTotal);
+        pool.setMaxPerRoute(newMaxPerRoute);
+        if (connectTimeoutMillis != null) {
+            pool.setConnectTimeout(Duration.ofMillis(connectTimeoutMillis));
+        }
+        if (socketTimeoutMillis != null) {
+            pool.setSocketTimeout(Duration.ofMillis(socketTimeoutMillis));
+        }
+        if (connectionRequestTimeoutMillis != null) {
+            pool.setConnectionRequestTimeout(Duration.ofMillis(connectionRequestTimeoutMillis));
+        }
+        if (keepAliveMillis != null) {
+            pool.setKeepAlive(Duration.ofMillis(keepAliveMillis));
+        }
+        tossPaymentService.applyPoolSettings();
+        return pool();
+    }
+
+    private static void checkTimeout(String name, Long millis) {
+        if (millis != null && (millis <= 0 || millis > Integer.MAX_VALUE)) {
+            throw new IllegalArgumentException(name + " 값이 올바르지 않습니다: " + millis);
+        }
+    }
+}
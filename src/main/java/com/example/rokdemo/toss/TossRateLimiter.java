@@ -0,0 +1,219 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 토스페이먼츠 호출 요청 수 제한 (토큰 버킷)
+ * 배치 작업과 사용자 요청이 겹쳐 토스 요청 한도를 넘지 않도록 호출 전에 토큰을 받는다.
+ * - 전체 한도: 모든 호출이 함께 쓰는 초당 요청 수
+ * - 호출 종류별 한도: 조회 폭주가 결제 승인 몫까지 쓰지 못하도록 따로 둔다
+ * - 백그라운드 한도: 배치/정산 호출은 전체 한도의 일정 비율까지만 쓸 수 있어 나머지는 항상 사용자 요청 몫으로 남는다
+ * 기본 우선순위는 USER이며, 배치 작업은 {@link #callAs}로 BACKGROUND를 지정해 호출한다.
+ */
+public class TossRateLimiter {
+
+    public enum Priority {
+        /**
+         * 사용자 요청 (결제 승인 등)
+         */
+        USER,
+        /**
+         * 배치/정산 등 기다려도 되는 호출
+         */
+        BACKGROUND
+    }
+
+    private static final ThreadLocal<CallScope> CURRENT = new ThreadLocal<>();
+
+    private final Bucket global;
+    private final Bucket background;
+    private final Map<TossOperation, Bucket> buckets = new EnumMap<>(TossOperation.class);
+    private final Map<TossOperation, LongAdder> rejections = new EnumMap<>(TossOperation.class);
+    private final Map<TossOperation, LongAdder> waits = new EnumMap<>(TossOperation.class);
+    private final long userMaxWaitNanos;
+    private final long backgroundMaxWaitNanos;
+
+    public TossRateLimiter(TossPaymentConfig.RateLimit settings) {
+        int globalPerSecond = settings.getGlobalPerSecond();
+        this.global = perSecond(globalPerSecond);
+        this.background = perSecond(Math.max(1, globalPerSecond * settings.getBackgroundSharePercent() / 100));
+        this.userMaxWaitNanos = settings.getUserMaxWait().toNanos();
+        this.backgroundMaxWaitNanos = settings.getBackgroundMaxWait().toNanos();
+        for (TossOperation operation : TossOperation.values()) {
+            buckets.put(operation, perSecond(settings.getPerSecond().getOrDefault(operation, settings.getDefaultPerSecond())));
+            rejections.put(operation, new LongAdder());
+            waits.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * 우선순위/대기 시간을 지정해 호출 (이 스레드에서 이뤄지는 토스 호출에 적용)
+     *
+     * @param priority 우선순위
+     * @param maxWait 토큰 최대 대기 시간 (0이면 즉시 실패, null이면 우선순위별 기본값)
+     * @param call 토스 호출
+     */
+    public static <T> T callAs(Priority priority, Duration maxWait, Supplier<T> call) {
+        CallScope previous = CURRENT.get();
+        CURRENT.set(new CallScope(priority, maxWait));
+        try {
+            return call.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드의 우선순위/대기 시간을 다른 스레드에서 실행할 작업에 옮겨 적용
+     *
+     * @param task 다른 스레드에서 실행할 작업
+     */
+    public static Runnable propagate(Runnable task) {
+        CallScope scope = CURRENT.get();
+        if (scope == null) {
+            return task;
+        }
+        return () -> callAs(scope.priority, scope.maxWait, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 현재 스레드의 우선순위/대기 시간을 다른 스레드에서 실행할 작업에 옮겨 적용 (결과 반환)
+     *
+     * @param task 다른 스레드에서 실행할 작업
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        CallScope scope = CURRENT.get();
+        if (scope == null) {
+            return task;
+        }
+        return () -> callAs(scope.priority, scope.maxWait, task);
+    }
+
+    /**
+     * 토큰 획득 (동기 호출, 한도 초과 시 대기 시간 안에 토큰이 생기면 기다린다)
+     *
+     * @throws TossPaymentException 대기 시간 안에 토큰을 받지 못한 경우 (RATE_LIMITED)
+     */
+    public void acquire(TossOperation operation) throws TossPaymentException {
+        CallScope scope = CURRENT.get();
+        Priority priority = scope != null ? scope.priority : Priority.USER;
+        long maxWaitNanos = scope != null && scope.maxWait != null
+            ? scope.maxWait.toNanos()
+            : priority == Priority.BACKGROUND ? backgroundMaxWaitNanos : userMaxWaitNanos;
+        acquire(operation, priority, maxWaitNanos);
+    }
+
+    /**
+     * 토큰 획득 (비동기 호출, 대기 없이 즉시 판단)
+     *
+     * @throws TossPaymentException 한도 초과 시 (RATE_LIMITED)
+     */
+    public void tryAcquire(TossOperation operation) throws TossPaymentException {
+        acquire(operation, currentPriority(), 0);
+    }
+
+    /**
+     * 현재 스레드의 우선순위 (지정하지 않았으면 USER)
+     */
+    static Priority currentPriority() {
+        CallScope scope = CURRENT.get();
+        return scope != null ? scope.priority : Priority.USER;
+    }
+
+    /**
+     * 한도 초과로 거절된 호출 수
+     */
+    public long getRejectedCount(TossOperation operation) {
+        return rejections.get(operation).sum();
+    }
+
+    /**
+     * 토큰이 없어 대기열에서 기다린 호출 수 (대기 후 토큰을 받은 호출과 대기 시간을 넘겨 거절된 호출 모두 포함)
+     */
+    public long getQueuedCount(TossOperation operation) {
+        return waits.get(operation).sum();
+    }
+
+    private void acquire(TossOperation operation, Priority priority, long maxWaitNanos) throws TossPaymentException {
+        Bucket[] required = priority == Priority.BACKGROUND
+            ? new Bucket[] { buckets.get(operation), background, global }
+            : new Bucket[] { buckets.get(operation), global };
+        long deadline = System.nanoTime() + maxWaitNanos;
+        boolean waited = false;
+
+        while (true) {
+            if (tryConsumeAll(required)) {
+                return;
+            }
+            long waitNanos = 0;
+            for (Bucket bucket : required) {
+                waitNanos = Math.max(waitNanos, bucket.estimateAbilityToConsume(1).getNanosToWaitForRefill());
+            }
+            if (System.nanoTime() + waitNanos > deadline) {
+                rejections.get(operation).increment();
+                throw new TossPaymentException(TossErrorCode.RATE_LIMITED,
+                    operation.getDescription() + " 요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요.");
+            }
+            if (!waited) {
+                waits.get(operation).increment();
+                waited = true;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(Math.max(waitNanos, TimeUnit.MILLISECONDS.toNanos(1)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TossPaymentException(operation.getDescription() + " 처리 중 오류가 발생했습니다: 요청 한도 대기 중 인터럽트", e);
+            }
+        }
+    }
+
+    /**
+     * 모든 버킷에서 토큰을 받거나, 하나라도 부족하면 이미 받은 토큰을 돌려놓는다
+     */
+    private static boolean tryConsumeAll(Bucket[] required) {
+        for (int i = 0; i < required.length; i++) {
+            if (!required[i].tryConsume(1)) {
+                for (int j = 0; j < i; j++) {
+                    required[j].addTokens(1);
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Bucket perSecond(int permits) {
+        return Bucket.builder()
+            .addLimit(Bandwidth.builder()
+                .capacity(permits)
+                .refillGreedy(permits, Duration.ofSeconds(1))
+                .build())
+            .build();
+    }
+
+    private static final class CallScope {
+        private final Priority priority;
+        private final Duration maxWait;
+
+        CallScope(Priority priority, Duration maxWait) {
+            this.priority = priority;
+            this.maxWait = maxWait;
+        }
+    }
+}
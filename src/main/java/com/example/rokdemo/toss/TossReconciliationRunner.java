@@ -0,0 +1,359 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.dto.PaymentReconciliation;
+import com.example.rokdemo.entity.Payment;
+import com.example.rokdemo.repository.PaymentRepository;
+import com.example.rokdemo.service.PaymentService;
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import com.example.rokdemo.toss.dto.TossPaymentLookupResult;
+import com.example.rokdemo.toss.dto.TossPaymentResponse;
+import com.example.rokdemo.toss.util.TossPaymentStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 대사 (Payment ↔ 토스 결제 조회)
+ * 기간 내 결제를 ID 순으로 페이지 단위로 읽어 토스 결제 조회 결과와 비교하고, 불일치는 페이지마다 한 트랜잭션으로 고친다.
+ * 비교한 뒤 웹훅/사용자 취소로 상태나 취소 금액이 바뀐 결제는 고치지 않는다 (다음 대사에서 다시 확인).
+ * - 상태, 승인 시각, 취소 금액(totalAmount - balanceAmount)은 토스 기준으로 고친다
+ * - 결제 금액(totalAmount)이 다르거나 토스에 없는 결제는 보고만 한다 (주문 매칭 자체를 확인해야 하므로)
+ * 한 번에 한 페이지만 메모리에 두므로 기간이 길어도 메모리 사용량은 일정하다.
+ * 조회는 캐시를 거치지 않고, 사용자 요청보다 뒤로 밀리도록 백그라운드 우선순위로 호출한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TossReconciliationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(TossReconciliationRunner.class);
+
+    private final TossPaymentService tossPaymentService;
+    private final PaymentRepository paymentRepository;
+    private final PaymentService paymentService;
+    private final TossPaymentConfig config;
+
+    /**
+     * 불일치 종류
+     */
+    public enum DiscrepancyType {
+        STATUS,          // 결제 상태
+        AMOUNT,          // 결제 금액 (보고만)
+        CANCELED_AMOUNT, // 취소 금액
+        APPROVED_AT,     // 승인 시각
+        NOT_FOUND,       // 토스에 없는 결제 (보고만)
+        LOOKUP_FAILED    // 조회 실패 (보고만)
+    }
+
+    /**
+     * 대사 실행 (호출한 스레드에서 끝날 때까지 대기)
+     *
+     * @param from 생성 시각 시작 (포함)
+     * @param to 생성 시각 끝 (제외)
+     * @return 실행 결과
+     */
+    public Report run(LocalDateTime from, LocalDateTime to) {
+        TossPaymentConfig.Reconciliation settings = config.getReconciliation();
+        int pageSize = Math.max(1, settings.getPageSize());
+        Counters counters = new Counters(settings.getMaxSamples());
+        long startedAt = System.nanoTime();
+
+        logger.info("결제 대사 시작 - 기간: {} ~ {}, 페이지 크기: {}, 수정: {}", from, to, pageSize, settings.isFix());
+
+        long lastId = 0;
+        while (true) {
+            List<Payment> page = paymentRepository.findCreatedBetweenAfterId(from, to, lastId, PageRequest.of(0, pageSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            lastId = page.get(page.size() - 1).getId();
+
+            if (!reconcilePage(page, settings, counters)) {
+                logger.warn("결제 대사 중단 - 마지막 결제 ID: {}", lastId);
+                break;
+            }
+            if (page.size() < pageSize) {
+                break;
+            }
+        }
+
+        Report report = counters.toReport(System.nanoTime() - startedAt);
+        logger.info("결제 대사 완료 - 확인: {}, 일치: {}, 불일치: {}, 수정: {}, 건너뜀: {}, 초당 처리: {}, 종류별: {}",
+            report.getScanned(), report.getMatched(), report.getMismatched(), report.getFixed(), report.getSkipped(),
+            String.format("%.1f", report.getRowsPerSecond()), report.getDiscrepancies());
+        return report;
+    }
+
+    /**
+     * 한 페이지 대사
+     *
+     * @return 인터럽트로 중단되었으면 false
+     */
+    private boolean reconcilePage(List<Payment> page, TossPaymentConfig.Reconciliation settings, Counters counters) {
+        Map<String, Payment> byPaymentKey = new LinkedHashMap<>();
+        for (Payment payment : page) {
+            counters.scanned++;
+            // 결제 키가 없으면 승인 전(READY 등)이라 토스에서 조회할 수 없음
+            if (payment.getPaymentKey() == null || byPaymentKey.putIfAbsent(payment.getPaymentKey(), payment) != null) {
+                counters.skipped++;
+            }
+        }
+        if (byPaymentKey.isEmpty()) {
+            return true;
+        }
+
+        List<PaymentReconciliation> fixes = new ArrayList<>();
+        try {
+            // 콜백은 한 번에 하나씩 호출되므로 counters/fixes는 동기화 없이 사용
+            TossRateLimiter.callAs(TossRateLimiter.Priority.BACKGROUND, null,
+                () -> tossPaymentService.fetchPayments(byPaymentKey.keySet(),
+                    result -> compare(byPaymentKey.get(result.getPaymentKey()), result, settings, counters, fixes)));
+        } catch (TossPaymentException e) {
+            logger.warn("결제 대사 조회 실패 - {}건", byPaymentKey.size(), e);
+            return false;
+        }
+
+        if (settings.isFix() && !fixes.isEmpty()) {
+            try {
+                counters.fixed += paymentService.applyReconciliation(fixes);
+            } catch (RuntimeException e) {
+                logger.error("결제 대사 수정 반영 실패 - {}건, 결제 ID: {}", fixes.size(),
+                    fixes.stream().map(PaymentReconciliation::getPaymentId).toList(), e);
+            }
+        }
+        return true;
+    }
+
+    private void compare(Payment payment, TossPaymentLookupResult result, TossPaymentConfig.Reconciliation settings,
+                         Counters counters, List<PaymentReconciliation> fixes) {
+        if (!result.isSuccess()) {
+            DiscrepancyType type = result.getError().getCode() == TossErrorCode.NOT_FOUND_PAYMENT
+                ? DiscrepancyType.NOT_FOUND : DiscrepancyType.LOOKUP_FAILED;
+            counters.mismatch(payment, type, payment.getStatus(), result.getError().getMessage());
+            return;
+        }
+
+        TossPaymentResponse toss = result.getResponse();
+        boolean mismatched = false;
+        boolean fixable = true;
+
+        Payment.PaymentStatus tossStatus = toPaymentStatus(toss.getStatus());
+        if (tossStatus != payment.getStatus()) {
+            counters.mismatch(payment, DiscrepancyType.STATUS, payment.getStatus(), toss.getStatus());
+            mismatched = true;
+            fixable = tossStatus != null;
+        }
+
+        Long tossAmount = toss.getTotalAmount() != null ? toss.getTotalAmount().longValue() : null;
+        if (!Objects.equals(tossAmount, payment.getAmount())) {
+            counters.mismatch(payment, DiscrepancyType.AMOUNT, payment.getAmount(), tossAmount);
+            mismatched = true;
+            fixable = false;
+        }
+
+        long tossCanceled = tossAmount != null && toss.getBalanceAmount() != null ? tossAmount - toss.getBalanceAmount() : 0;
+        long canceled = payment.getCanceledAmount() != null ? payment.getCanceledAmount() : 0;
+        if (tossCanceled != canceled) {
+            counters.mismatch(payment, DiscrepancyType.CANCELED_AMOUNT, canceled, tossCanceled);
+            mismatched = true;
+        }
+
+        LocalDateTime tossApprovedAt = parseOffsetDateTime(toss.getApprovedAt());
+        boolean approvedAtMismatched = tossApprovedAt != null && (payment.getApprovedAt() == null
+            || Duration.between(payment.getApprovedAt(), tossApprovedAt).abs().compareTo(settings.getApprovedAtTolerance()) > 0);
+        if (approvedAtMismatched) {
+            counters.mismatch(payment, DiscrepancyType.APPROVED_AT, payment.getApprovedAt(), tossApprovedAt);
+            mismatched = true;
+        }
+
+        if (!mismatched) {
+            counters.matched++;
+            return;
+        }
+        if (fixable) {
+            fixes.add(new PaymentReconciliation(payment.getId(), payment.getStatus(), payment.getCanceledAmount(),
+                tossStatus, approvedAtMismatched ? tossApprovedAt : null, tossCanceled > 0 ? tossCanceled : null,
+                canceledAt(toss, tossStatus)));
+        }
+    }
+
+    /**
+     * 토스 기준 마지막 취소 시각 (취소/부분 취소가 아니면 null, 취소 이력이 없으면 현재 시각)
+     */
+    private static LocalDateTime canceledAt(TossPaymentResponse toss, Payment.PaymentStatus tossStatus) {
+        if (tossStatus != Payment.PaymentStatus.CANCELED && tossStatus != Payment.PaymentStatus.PARTIAL_CANCELED) {
+            return null;
+        }
+        List<TossPaymentResponse.TossCancelHistory> cancels = toss.getCancels();
+        LocalDateTime canceledAt = cancels != null && !cancels.isEmpty()
+            ? parseOffsetDateTime(cancels.get(cancels.size() - 1).getCanceledAt())
+            : null;
+        return canceledAt != null ? canceledAt : LocalDateTime.now();
+    }
+
+    private static Payment.PaymentStatus toPaymentStatus(TossPaymentStatus status) {
+        if (status == null || status == TossPaymentStatus.UNKNOWN) {
+            return null;
+        }
+        return Payment.PaymentStatus.valueOf(status.name());
+    }
+
+    private static LocalDateTime parseOffsetDateTime(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value).toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 결제별 불일치 내용
+     */
+    @Getter
+    public static final class Discrepancy {
+        private final Long paymentId;
+        private final String orderId;
+        private final String paymentKey;
+        private final DiscrepancyType type;
+
+        /**
+         * 우리 쪽 값
+         */
+        private final String local;
+
+        /**
+         * 토스 쪽 값
+         */
+        private final String toss;
+
+        private Discrepancy(Payment payment, DiscrepancyType type, Object local, Object toss) {
+            this.paymentId = payment.getId();
+            this.orderId = payment.getOrderId();
+            this.paymentKey = payment.getPaymentKey();
+            this.type = type;
+            this.local = String.valueOf(local);
+            this.toss = String.valueOf(toss);
+        }
+    }
+
+    /**
+     * 실행 결과
+     */
+    @Getter
+    public static final class Report {
+        /**
+         * 읽은 결제 수
+         */
+        private final long scanned;
+
+        /**
+         * 결제 키가 없어 건너뛴 수
+         */
+        private final long skipped;
+
+        /**
+         * 토스와 일치한 수
+         */
+        private final long matched;
+
+        /**
+         * 불일치가 하나 이상 있는 결제 수 (조회 실패 포함)
+         */
+        private final long mismatched;
+
+        /**
+         * 토스 기준으로 고친 결제 수
+         */
+        private final long fixed;
+
+        private final long elapsedNanos;
+
+        /**
+         * 종류별 불일치 수
+         */
+        private final Map<DiscrepancyType, Long> discrepancies;
+
+        /**
+         * 불일치 예시 (최대 maxSamples건)
+         */
+        private final List<Discrepancy> samples;
+
+        private Report(long scanned, long skipped, long matched, long mismatched, long fixed, long elapsedNanos,
+                       Map<DiscrepancyType, Long> discrepancies, List<Discrepancy> samples) {
+            this.scanned = scanned;
+            this.skipped = skipped;
+            this.matched = matched;
+            this.mismatched = mismatched;
+            this.fixed = fixed;
+            this.elapsedNanos = elapsedNanos;
+            this.discrepancies = discrepancies;
+            this.samples = samples;
+        }
+
+        /**
+         * 초당 대사 결제 수
+         */
+        public double getRowsPerSecond() {
+            return elapsedNanos > 0 ? scanned / (elapsedNanos / 1_000_000_000.0) : 0;
+        }
+
+        public long getElapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        }
+    }
+
+    /**
+     * 실행 중 집계 (실행 스레드와 일괄 조회 콜백에서 한 번에 하나씩만 사용)
+     */
+    private static final class Counters {
+        private final int maxSamples;
+        private final Map<DiscrepancyType, Long> discrepancies = new EnumMap<>(DiscrepancyType.class);
+        private final List<Discrepancy> samples = new ArrayList<>();
+        private Long lastMismatchedId;
+        private long scanned;
+        private long skipped;
+        private long matched;
+        private long mismatched;
+        private long fixed;
+
+        Counters(int maxSamples) {
+            this.maxSamples = maxSamples;
+        }
+
+        void mismatch(Payment payment, DiscrepancyType type, Object local, Object toss) {
+            if (!payment.getId().equals(lastMismatchedId)) {
+                lastMismatchedId = payment.getId();
+                mismatched++;
+            }
+            discrepancies.merge(type, 1L, Long::sum);
+            if (samples.size() < maxSamples) {
+                samples.add(new Discrepancy(payment, type, local, toss));
+            }
+            logger.warn("결제 대사 불일치 - {} (결제 ID: {}, 주문번호: {}), 우리: {}, 토스: {}",
+                type, payment.getId(), payment.getOrderId(), local, toss);
+        }
+
+        Report toReport(long elapsedNanos) {
+            return new Report(scanned, skipped, matched, mismatched, fixed, elapsedNanos,
+                Collections.unmodifiableMap(new EnumMap<>(discrepancies)), Collections.unmodifiableList(samples));
+        }
+    }
+}
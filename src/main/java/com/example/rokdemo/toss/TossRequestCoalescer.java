@@ -0,0 +1,171 @@
+package com.example.rokdemo.toss;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 동일 요청 합치기 (Single-flight)
+ * 같은 호출 종류 + 같은 키로 진행 중인 요청이 있으면 새로 호출하지 않고 그 결과(또는 예외)를 함께 받는다.
+ * 새로고침/폴링이 겹쳐도 토스 API 호출과 커넥션 점유는 한 번만 발생한다.
+ * {@link TossOperation#isCoalescable()}인 호출만 받는다.
+ * - 멱등 조회(결제 조회, 브랜드페이 결제수단 조회): 누가 보내도 같은 응답
+ * - 브랜드페이 Access Token 발급(POST): 인증 코드와 Refresh Token은 한 번만 교환할 수 있어 같은 요청을 두 번 보내면
+ *   두 번째는 토스에서 거절된다. 키에 고객/교환 방식/인증 코드를 넣어 완전히 같은 교환끼리만 합치므로,
+ *   합쳐진 호출자는 모두 같은 고객의 같은 토큰을 받고 실패도 함께 받는다 (따로 보냈다면 한쪽은 어차피 실패).
+ * 결제 승인/취소/빌링처럼 요청마다 결과가 달라지는 호출은 합치지 않는다.
+ */
+public class TossRequestCoalescer {
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 실제로 토스 API를 호출한 횟수
+     */
+    private final Map<TossOperation, LongAdder> executedCalls = new EnumMap<>(TossOperation.class);
+
+    /**
+     * 진행 중인 호출에 합쳐져 호출을 생략한 횟수
+     */
+    private final Map<TossOperation, LongAdder> collapsedCalls = new EnumMap<>(TossOperation.class);
+
+    public TossRequestCoalescer() {
+        for (TossOperation operation : TossOperation.values()) {
+            executedCalls.put(operation, new LongAdder());
+            collapsedCalls.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * 동기 호출 합치기
+     * 먼저 들어온 스레드가 호출을 수행하고, 이후 스레드는 그 결과를 기다린다.
+     *
+     * @param operation 호출 종류
+     * @param key 요청 식별 키 (paymentKey, customerKey 등)
+     * @param call 실제 호출
+     * @return 호출 결과
+     * @throws TossPaymentException 호출 실패 시 (합쳐진 호출자도 같은 예외를 받는다)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(TossOperation operation, String key, Supplier<T> call) throws TossPaymentException {
+        requireCoalescable(operation);
+        String flightKey = flightKey(operation, key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+
+        if (existing != null) {
+            collapsedCalls.get(operation).increment();
+            return (T) await(existing, operation);
+        }
+
+        executedCalls.get(operation).increment();
+        try {
+            T result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (Throwable t) {
+            // Error(StackOverflowError, OOM 등)도 완료시켜야 기다리는 호출자가 멈추지 않는다
+            flight.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    /**
+     * 비동기 호출 합치기
+     *
+     * @param operation 호출 종류
+     * @param key 요청 식별 키
+     * @param call 실제 호출
+     * @return 호출 결과 Future (호출자마다 별도 Future를 돌려주므로 한 호출자의 cancel/complete가 다른 호출자에 영향을 주지 않는다)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> executeAsync(TossOperation operation, String key, Supplier<CompletableFuture<T>> call) {
+        requireCoalescable(operation);
+        String flightKey = flightKey(operation, key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+
+        if (existing != null) {
+            collapsedCalls.get(operation).increment();
+            return (CompletableFuture<T>) existing.copy();
+        }
+
+        executedCalls.get(operation).increment();
+        try {
+            call.get().whenComplete((result, throwable) -> {
+                inFlight.remove(flightKey, flight);
+                if (throwable != null) {
+                    flight.completeExceptionally(unwrap(throwable));
+                } else {
+                    flight.complete(result);
+                }
+            });
+        } catch (Throwable t) {
+            // call.get() 자체가 실패(Error 포함)하거나 null을 반환한 경우
+            inFlight.remove(flightKey, flight);
+            flight.completeExceptionally(t);
+        }
+        return (CompletableFuture<T>) flight.copy();
+    }
+
+    /**
+     * 실제 호출 횟수
+     */
+    public long getExecutedCount(TossOperation operation) {
+        return executedCalls.get(operation).sum();
+    }
+
+    /**
+     * 합쳐져 생략된 호출 횟수
+     */
+    public long getCollapsedCount(TossOperation operation) {
+        return collapsedCalls.get(operation).sum();
+    }
+
+    /**
+     * 현재 진행 중인 호출 수
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private static void requireCoalescable(TossOperation operation) {
+        if (!operation.isCoalescable()) {
+            throw new IllegalArgumentException(operation.getDescription() + " 요청은 합칠 수 없습니다: " + operation);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> flight, TossOperation operation) {
+        try {
+            return flight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TossPaymentException(operation.getDescription() + " 처리 중 오류가 발생했습니다: 응답 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new TossPaymentException(operation.getDescription() + " 처리 중 오류가 발생했습니다: " + cause.getMessage(), cause);
+        }
+    }
+
+    private static String flightKey(TossOperation operation, String key) {
+        return operation.name() + ':' + key;
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.rokdemo.toss;
+
+import org.apache.http.client.methods.HttpRequestBase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 조회 호출 헤지(Hedged request)
+ * 첫 요청이 최근 p95 응답 시간 안에 끝나지 않으면 같은 요청을 다른 풀 커넥션으로 한 번 더 보내고 먼저 성공한 응답을 사용한다.
+ * 진 쪽 요청은 abort()로 끊어 커넥션을 바로 반환한다.
+ * 추가 호출은 전체 요청 대비 일정 비율(예산) 이내로 제한되어 평상시에는 부하가 거의 늘지 않는다.
+ * 두 요청 모두 호출한 스레드의 요청 수 제한 우선순위({@link TossRateLimiter#callAs})로 실행된다.
+ */
+public class TossRequestHedger {
+
+    private static final Logger logger = LoggerFactory.getLogger(TossRequestHedger.class);
+
+    /**
+     * 예산 토큰 단위 (헤지 1회 = 1000)
+     */
+    private static final long TOKEN = 1000;
+
+    private final TossLatencyTracker latencyTracker;
+    private final ExecutorService executor;
+    private final long minDelayNanos;
+    private final long tokensPerRequest;
+    private final long maxTokens;
+    private final AtomicLong budget = new AtomicLong();
+
+    private final Map<TossOperation, LongAdder> hedgedCalls = new EnumMap<>(TossOperation.class);
+    private final Map<TossOperation, LongAdder> hedgeWins = new EnumMap<>(TossOperation.class);
+
+    /**
+     * @param latencyTracker 응답 시간 분포
+     * @param executor 요청 실행 Executor
+     * @param minDelayNanos 헤지 요청 최소 지연 시간
+     * @param budgetPercent 헤지 요청 예산 (전체 요청 대비 %)
+     */
+    public TossRequestHedger(TossLatencyTracker latencyTracker, ExecutorService executor, long minDelayNanos, int budgetPercent) {
+        this.latencyTracker = latencyTracker;
+        this.executor = executor;
+        this.minDelayNanos = minDelayNanos;
+        this.tokensPerRequest = TOKEN * budgetPercent / 100;
+        this.maxTokens = TOKEN * 10;
+        for (TossOperation operation : TossOperation.values()) {
+            hedgedCalls.put(operation, new LongAdder());
+            hedgeWins.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * 헤지 적용 호출
+     *
+     * @param operation 호출 종류 (멱등 호출만)
+     * @param requestFactory 요청 생성 (헤지 요청은 별도 객체가 필요하므로 호출마다 새로 생성)
+     * @param call 요청 실행
+     * @return 먼저 성공한 응답
+     * @throws TossPaymentException 두 요청 모두 실패한 경우 (첫 요청의 예외)
+     */
+    public <T> T execute(TossOperation operation, Supplier<HttpRequestBase> requestFactory,
+                         Function<HttpRequestBase, T> call) throws TossPaymentException {
+        budget.getAndUpdate(tokens -> Math.min(maxTokens, tokens + tokensPerRequest));
+
+        long p95 = latencyTracker.p95(operation);
+        HttpRequestBase primaryRequest = requestFactory.get();
+        CompletableFuture<T> primary = CompletableFuture.supplyAsync(TossRateLimiter.propagate(() -> call.apply(primaryRequest)), executor);
+
+        // 표본이 부족하면 헤지하지 않는다
+        if (p95 < 0) {
+            return await(primary, operation, primaryRequest);
+        }
+
+        try {
+            return primary.get(Math.max(p95, minDelayNanos), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // p95 초과: 헤지 대상
+        } catch (InterruptedException e) {
+            primaryRequest.abort();
+            Thread.currentThread().interrupt();
+            throw interrupted(operation, e);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause(), operation);
+        }
+
+        if (!tryConsumeBudget()) {
+            return await(primary, operation, primaryRequest);
+        }
+
+        hedgedCalls.get(operation).increment();
+        logger.debug("토스페이먼츠 {} 헤지 요청 전송 (p95: {}ms 초과)", operation.getDescription(), TimeUnit.NANOSECONDS.toMillis(p95));
+
+        HttpRequestBase hedgeRequest = requestFactory.get();
+        CompletableFuture<T> hedge = CompletableFuture.supplyAsync(TossRateLimiter.propagate(() -> call.apply(hedgeRequest)), executor);
+
+        AtomicBoolean hedgeWon = new AtomicBoolean();
+        CompletableFuture<T> winner = firstSuccess(primary, hedge, hedgeWon);
+        try {
+            T result = await(winner, operation, null);
+            if (hedgeWon.get()) {
+                hedgeWins.get(operation).increment();
+            }
+            return result;
+        } finally {
+            // 진 쪽 요청을 끊어 커넥션을 바로 반환
+            abortIfRunning(primary, primaryRequest);
+            abortIfRunning(hedge, hedgeRequest);
+        }
+    }
+
+    /**
+     * 헤지 요청 전송 횟수
+     */
+    public long getHedgedCount(TossOperation operation) {
+        return hedgedCalls.get(operation).sum();
+    }
+
+    /**
+     * 헤지 요청이 먼저 응답한 횟수
+     */
+    public long getHedgeWinCount(TossOperation operation) {
+        return hedgeWins.get(operation).sum();
+    }
+
+    private boolean tryConsumeBudget() {
+        while (true) {
+            long tokens = budget.get();
+            if (tokens < TOKEN) {
+                return false;
+            }
+            if (budget.compareAndSet(tokens, tokens - TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 먼저 성공한 결과로 완료 (둘 다 실패하면 첫 요청의 예외로 완료)
+     */
+    private static <T> CompletableFuture<T> firstSuccess(CompletableFuture<T> primary, CompletableFuture<T> hedge,
+                                                         AtomicBoolean hedgeWon) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(2);
+
+        primary.whenComplete((value, throwable) -> {
+            if (throwable == null) {
+                result.complete(value);
+            } else if (remaining.decrementAndGet() == 0) {
+                result.completeExceptionally(throwable);
+            }
+        });
+        hedge.whenComplete((value, throwable) -> {
+            if (throwable == null) {
+                if (result.complete(value)) {
+                    hedgeWon.set(true);
+                }
+            } else if (remaining.decrementAndGet() == 0) {
+                primary.whenComplete((ignored, primaryError) ->
+                    result.completeExceptionally(primaryError != null ? primaryError : throwable));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 결과 대기 (대기 중 인터럽트되면 진행 중인 요청을 끊는다)
+     */
+    private static <T> T await(CompletableFuture<T> future, TossOperation operation, HttpRequestBase request) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            if (request != null) {
+                request.abort();
+            }
+            Thread.currentThread().interrupt();
+            throw interrupted(operation, e);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause(), operation);
+        }
+    }
+
+    private static void abortIfRunning(CompletableFuture<?> future, HttpRequestBase request) {
+        if (!future.isDone()) {
+            request.abort();
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause, TossOperation operation) {
+        Throwable unwrapped = cause;
+        while (unwrapped instanceof CompletionException && unwrapped.getCause() != null) {
+            unwrapped = unwrapped.getCause();
+        }
+        if (unwrapped instanceof RuntimeException) {
+            return (RuntimeException) unwrapped;
+        }
+        return new TossPaymentException(operation.getDescription() + " 처리 중 오류가 발생했습니다: " + unwrapped.getMessage(), unwrapped);
+    }
+
+    private static TossPaymentException interrupted(TossOperation operation, InterruptedException e) {
+        return new TossPaymentException(operation.getDescription() + " 처리 중 오류가 발생했습니다: 응답 대기 중 인터럽트", e);
+    }
+}
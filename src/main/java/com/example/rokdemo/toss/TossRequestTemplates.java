@@ -0,0 +1,213 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.message.BasicHeader;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 토스페이먼츠 API 요청 템플릿
+ * TossPaymentConfig로부터 한 번만 만들어 두고 요청마다 재사용한다.
+ * - 인증(Basic) / Content-Type 헤더 사전 계산
+ * - URL 템플릿을 고정 부분과 변수 부분으로 미리 분리하고 변수 값은 경로/쿼리 규칙에 맞게 인코딩
+ * - 시크릿 키 교체 시 인증 헤더만 원자적으로 교체
+ */
+public class TossRequestTemplates {
+
+    private static final String CONTENT_TYPE_JSON = "application/json";
+    private static final Header CONTENT_TYPE_HEADER = new BasicHeader(HttpHeaders.CONTENT_TYPE, CONTENT_TYPE_JSON);
+
+    /**
+     * 멱등키 헤더 (같은 키로 다시 보낸 요청은 토스에서 한 번만 처리)
+     */
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final TossPaymentConfig config;
+    private final Map<TossOperation, UriTemplate> uriTemplates = new EnumMap<>(TossOperation.class);
+
+    private volatile Credentials credentials;
+
+    public TossRequestTemplates(TossPaymentConfig config) {
+        this.config = config;
+        this.credentials = new Credentials(config.getSecretKey());
+
+        uriTemplates.put(TossOperation.CONFIRM, UriTemplate.fixed(config.getConfirmUrl()));
+        uriTemplates.put(TossOperation.CANCEL, UriTemplate.pathVariable(config.getCancelUrl(), "{paymentKey}"));
+        uriTemplates.put(TossOperation.LOOKUP, UriTemplate.pathVariable(config.getLookupUrl(), "{paymentKey}"));
+        uriTemplates.put(TossOperation.BILLING, UriTemplate.pathVariable(config.getBillingUrl(), "{billingKey}"));
+        uriTemplates.put(TossOperation.BRANDPAY_TOKEN, UriTemplate.fixed(config.getBrandPayTokenUrl()));
+        uriTemplates.put(TossOperation.BRANDPAY_METHODS, UriTemplate.queryParameter(config.getBrandPayMethodUrl(), "customerKey"));
+    }
+
+    /**
+     * 시크릿 키 교체 (운영 중 키 롤링)
+     * 이미 만들어진 요청은 이전 키로, 이후 만들어지는 요청은 새 키로 전송된다.
+     *
+     * @param secretKey 새 시크릿 키
+     */
+    public void rotateSecretKey(String secretKey) {
+        if (secretKey == null || secretKey.isEmpty()) {
+            throw new IllegalArgumentException("시크릿 키가 없습니다.");
+        }
+        this.credentials = new Credentials(secretKey);
+        config.setSecretKey(secretKey);
+    }
+
+    /**
+     * 호출 URI 생성
+     *
+     * @param operation 호출 종류
+     * @param variable 경로/쿼리 변수 값 (변수가 없는 호출은 null)
+     * @return 인코딩된 URI
+     */
+    public URI uri(TossOperation operation, String variable) {
+        return uriTemplates.get(operation).expand(variable);
+    }
+
+    /**
+     * POST 요청 생성 (공통 헤더 설정 포함)
+     */
+    public HttpPost post(TossOperation operation, String variable) {
+        HttpPost httpPost = new HttpPost(uri(operation, variable));
+        httpPost.setHeader(credentials.authorizationHeader);
+        httpPost.setHeader(CONTENT_TYPE_HEADER);
+        return httpPost;
+    }
+
+    /**
+     * 멱등키를 포함한 POST 요청 생성
+     */
+    public HttpPost post(TossOperation operation, String variable, String idempotencyKey) {
+        HttpPost httpPost = post(operation, variable);
+        httpPost.setHeader(IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        return httpPost;
+    }
+
+    /**
+     * GET 요청 생성 (공통 헤더 설정 포함)
+     */
+    public HttpGet get(TossOperation operation, String variable) {
+        HttpGet httpGet = new HttpGet(uri(operation, variable));
+        httpGet.setHeader(credentials.authorizationHeader);
+        httpGet.setHeader(CONTENT_TYPE_HEADER);
+        return httpGet;
+    }
+
+    /**
+     * 비동기 POST 요청 생성 (공통 헤더/타임아웃 설정 포함, gzip 응답 허용)
+     */
+    public HttpRequest asyncPost(TossOperation operation, String variable, byte[] body) {
+        return asyncBuilder(operation, variable)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+            .build();
+    }
+
+    /**
+     * 멱등키를 포함한 비동기 POST 요청 생성
+     */
+    public HttpRequest asyncPost(TossOperation operation, String variable, byte[] body, String idempotencyKey) {
+        return asyncBuilder(operation, variable)
+            .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+            .build();
+    }
+
+    /**
+     * 비동기 GET 요청 생성 (공통 헤더/타임아웃 설정 포함)
+     */
+    public HttpRequest asyncGet(TossOperation operation, String variable) {
+        return asyncBuilder(operation, variable)
+            .GET()
+            .build();
+    }
+
+    private HttpRequest.Builder asyncBuilder(TossOperation operation, String variable) {
+        return HttpRequest.newBuilder(uri(operation, variable))
+            .timeout(config.getPool().getSocketTimeout())
+            .header(HttpHeaders.AUTHORIZATION, credentials.authorization)
+            .header(HttpHeaders.CONTENT_TYPE, CONTENT_TYPE_JSON)
+            .header(TossHttp2Transport.ACCEPT_ENCODING, TossHttp2Transport.GZIP);
+    }
+
+    /**
+     * 인증 헤더 (시크릿 키 단위로 한 번만 계산)
+     */
+    private static class Credentials {
+        private final String authorization;
+        private final Header authorizationHeader;
+
+        Credentials(String secretKey) {
+            this.authorization = "Basic " + Base64.getEncoder().encodeToString(
+                (secretKey + ":").getBytes(StandardCharsets.UTF_8)
+            );
+            this.authorizationHeader = new BasicHeader(HttpHeaders.AUTHORIZATION, authorization);
+        }
+    }
+
+    /**
+     * 사전 분리된 URL 템플릿
+     */
+    private static class UriTemplate {
+        private final URI fixedUri;
+        private final String prefix;
+        private final String suffix;
+
+        private UriTemplate(URI fixedUri, String prefix, String suffix) {
+            this.fixedUri = fixedUri;
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+
+        static UriTemplate fixed(String url) {
+            return new UriTemplate(URI.create(url), null, null);
+        }
+
+        static UriTemplate pathVariable(String url, String placeholder) {
+            int index = url.indexOf(placeholder);
+            if (index < 0) {
+                throw new IllegalArgumentException("URL 템플릿에 " + placeholder + " 가 없습니다: " + url);
+            }
+            return new UriTemplate(null, url.substring(0, index), url.substring(index + placeholder.length()));
+        }
+
+        static UriTemplate queryParameter(String url, String name) {
+            return new UriTemplate(null, url + (url.indexOf('?') < 0 ? "?" : "&") + name + "=", "");
+        }
+
+        URI expand(String variable) {
+            if (fixedUri != null) {
+                return fixedUri;
+            }
+            Objects.requireNonNull(variable, "URL 변수 값이 없습니다.");
+            return URI.create(prefix + encode(variable) + suffix);
+        }
+
+        /**
+         * 경로 세그먼트/쿼리 값 인코딩 (비예약 문자로만 이루어진 값은 그대로 사용)
+         */
+        private static String encode(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                if (!isUnreserved(value.charAt(i))) {
+                    return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+                }
+            }
+            return value;
+        }
+
+        private static boolean isUnreserved(char c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '.' || c == '_' || c == '~';
+        }
+    }
+}
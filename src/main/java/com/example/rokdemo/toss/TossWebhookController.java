@@ -0,0 +1,57 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.toss.dto.TossWebhookEvent;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * 토스페이먼츠 웹훅 수신 컨트롤러
+ * 이벤트는 큐에 넣고 바로 200으로 응답한다 (반영은 TossWebhookProcessor에서 모아서 처리).
+ * 큐가 가득 차면 503으로 응답해 토스가 나중에 다시 보내도록 한다.
+ */
+@Controller
+@RequiredArgsConstructor
+@RequestMapping("/payment/toss")
+public class TossWebhookController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TossWebhookController.class);
+
+    private static final Gson gson = new Gson();
+
+    private final TossWebhookProcessor webhookProcessor;
+
+    /**
+     * 웹훅 수신
+     *
+     * @param body 웹훅 본문 (JSON)
+     * @return 200: 접수, 400: 해석 불가, 503: 처리 대기 초과
+     */
+    @PostMapping("/webhook")
+    public ResponseEntity<Void> webhook(@RequestBody String body) {
+        TossWebhookEvent event;
+        try {
+            event = gson.fromJson(body, TossWebhookEvent.class);
+        } catch (JsonParseException e) {
+            logger.warn("토스페이먼츠 웹훅 본문 해석 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        if (event == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (!webhookProcessor.offer(event)) {
+            logger.warn("토스페이먼츠 웹훅 처리 대기 초과 - 503 응답 (eventType: {})", event.getEventType());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok().build();
+    }
+}
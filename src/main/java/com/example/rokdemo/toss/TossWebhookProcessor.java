@@ -0,0 +1,456 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.dto.PaymentStatusChange;
+import com.example.rokdemo.entity.Payment;
+import com.example.rokdemo.service.PaymentService;
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import com.example.rokdemo.toss.dto.TossPaymentLookupResult;
+import com.example.rokdemo.toss.dto.TossPaymentResponse;
+import com.example.rokdemo.toss.dto.TossWebhookEvent;
+import com.example.rokdemo.toss.util.TossPaymentStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 토스페이먼츠 웹훅 처리
+ * 웹훅 요청은 큐에 넣고 바로 응답하며, 처리 스레드 하나가 이벤트를 모아 한 트랜잭션으로 Payment에 반영한다.
+ * - 같은 결제(paymentKey)의 이벤트는 배치 안에서 가장 최근(createdAt) 것만 반영하고,
+ *   이미 반영한 이벤트보다 오래된 이벤트(재전송, 순서 뒤바뀜)는 건너뛴다.
+ * - 웹훅에는 서명이 없으므로 배치의 결제를 한 번에(동시 조회 수 제한) 조회해 확인하고, 웹훅 본문이 아닌 조회 결과로 반영한다.
+ * - 이미 200으로 응답해 토스가 다시 보내지 않으므로, 확인 조회가 일시적인 이유(타임아웃, 서킷 차단, 격벽/요청 한도 초과)로
+ *   실패한 이벤트는 버리지 않고 잠시 뒤 다시 확인한다. 조회 결과와 다르거나 토스가 조회를 거절한 이벤트만 버린다.
+ * - 큐가 가득 차면(DB 반영이 밀리면) offer가 false를 돌려주고 컨트롤러는 503으로 응답해 토스가 나중에 다시 보내게 한다.
+ *   다시 확인할 이벤트가 큐 크기만큼 쌓여도(토스 장애) 같은 방식으로 받지 않는다.
+ * 배치 반영이 계속 실패하면 이벤트를 한 건씩 다시 반영해 문제가 되는 이벤트만 실패로 남긴다.
+ * 끝내 반영하지 못한 이벤트는 다시 받을 수 없으므로 로그를 남기고, 결제 대사로 상태를 맞춰야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TossWebhookProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(TossWebhookProcessor.class);
+
+    public static final String PAYMENT_STATUS_CHANGED = "PAYMENT_STATUS_CHANGED";
+
+    private final TossPaymentService tossPaymentService;
+    private final PaymentService paymentService;
+    private final TossPaymentConfig config;
+
+    private BlockingQueue<TossWebhookEvent> queue;
+
+    /**
+     * 확인 조회 재시도 대기 이벤트 (대기 시간이 지나면 처리 스레드가 다음 배치에 넣음)
+     */
+    private final DelayQueue<Retry> retries = new DelayQueue<>();
+
+    /**
+     * 결제별 마지막으로 반영한 이벤트 시각 (재전송/순서 뒤바뀜 판단용)
+     */
+    private final Cache<String, LocalDateTime> lastApplied = Caffeine.newBuilder()
+        .maximumSize(100_000)
+        .expireAfterWrite(Duration.ofHours(6))
+        .build();
+
+    private final LongAdder rejectedEvents = new LongAdder();
+    private final LongAdder skippedEvents = new LongAdder();
+    private final LongAdder appliedEvents = new LongAdder();
+    private final LongAdder failedEvents = new LongAdder();
+    private final LongAdder retriedEvents = new LongAdder();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    @PostConstruct
+    public void init() {
+        queue = new ArrayBlockingQueue<>(config.getWebhook().getQueueCapacity());
+        running = true;
+        worker = Thread.ofPlatform().name("toss-webhook").daemon().start(this::processLoop);
+    }
+
+    @PreDestroy
+    public void destroy() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        // 남은 이벤트까지 반영하고 종료
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * 이벤트 접수 (대기 없이 즉시 판단)
+     *
+     * @return 큐가 가득 차 받지 못했으면 false
+     */
+    public boolean offer(TossWebhookEvent event) {
+        if (!running || retries.size() >= config.getWebhook().getQueueCapacity() || !queue.offer(event)) {
+            rejectedEvents.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 처리 대기 중인 이벤트 수
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * 큐가 가득 차 거절한 이벤트 수
+     */
+    public long getRejectedCount() {
+        return rejectedEvents.sum();
+    }
+
+    /**
+     * 중복/이전 이벤트라 건너뛴 수
+     */
+    public long getSkippedCount() {
+        return skippedEvents.sum();
+    }
+
+    /**
+     * 반영한 이벤트 수
+     */
+    public long getAppliedCount() {
+        return appliedEvents.sum();
+    }
+
+    /**
+     * 반영에 실패한 이벤트 수 (확인 불일치/거절, 재시도 초과, DB 반영 실패)
+     */
+    public long getFailedCount() {
+        return failedEvents.sum();
+    }
+
+    /**
+     * 확인 조회 재시도 대기 중인 이벤트 수
+     */
+    public int getRetryingCount() {
+        return retries.size();
+    }
+
+    /**
+     * 확인 조회 실패로 다시 확인하도록 미룬 횟수
+     */
+    public long getRetriedCount() {
+        return retriedEvents.sum();
+    }
+
+    private void processLoop() {
+        TossPaymentConfig.Webhook settings = config.getWebhook();
+        List<TossWebhookEvent> batch = new ArrayList<>(settings.getBatchSize());
+        List<Retry> dueRetries = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                TossWebhookEvent first = queue.poll(settings.getBatchWait().toNanos(), TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, settings.getBatchSize() - 1);
+                }
+            } catch (InterruptedException e) {
+                // 종료 요청: 남은 이벤트를 비우며 반복
+                queue.drainTo(batch, settings.getBatchSize());
+            }
+            retries.drainTo(dueRetries, settings.getBatchSize());
+            if (batch.isEmpty() && dueRetries.isEmpty()) {
+                continue;
+            }
+            // 재시도 이벤트를 앞에 두어 같은 결제의 새 이벤트가 있으면 새 이벤트가 남도록 함
+            Map<String, Integer> attempts = new HashMap<>();
+            List<TossWebhookEvent> retryEvents = new ArrayList<>(dueRetries.size());
+            for (Retry retry : dueRetries) {
+                retryEvents.add(retry.event);
+                attempts.put(retry.event.getData().getPaymentKey(), retry.attempt);
+            }
+            batch.addAll(0, retryEvents);
+            try {
+                process(batch, attempts, settings);
+            } catch (Throwable t) {
+                // 처리 스레드가 죽으면 이후 웹훅이 모두 큐에 쌓이기만 하므로 배치만 실패로 남기고 계속 처리
+                failedEvents.add(batch.size());
+                logger.error("토스페이먼츠 웹훅 처리 중 예상치 못한 오류 - {}건", batch.size(), t);
+            } finally {
+                batch.clear();
+                dueRetries.clear();
+            }
+        }
+        if (!retries.isEmpty()) {
+            logger.error("토스페이먼츠 웹훅 확인 재시도 대기 중 종료 - {}건은 반영하지 못했습니다 (대사 필요)", retries.size());
+        }
+    }
+
+    /**
+     * @param attempts 확인 재시도 이벤트의 이번 확인 횟수 (결제 키별, 없으면 첫 확인)
+     */
+    private void process(List<TossWebhookEvent> batch, Map<String, Integer> attempts, TossPaymentConfig.Webhook settings) {
+        Map<String, TossWebhookEvent> latest = latestPerPayment(batch);
+        if (latest.isEmpty()) {
+            return;
+        }
+
+        Map<String, TossPaymentResponse> payments = new LinkedHashMap<>();
+        for (TossWebhookEvent event : latest.values()) {
+            tossPaymentService.invalidateLookupCache(event.getData().getPaymentKey());
+            payments.put(event.getData().getPaymentKey(), event.getData());
+        }
+        if (settings.isVerify()) {
+            payments = verify(latest, attempts, settings);
+        }
+
+        List<PaymentStatusChange> changes = new ArrayList<>(payments.size());
+        Map<String, LocalDateTime> appliedAt = new LinkedHashMap<>();
+        for (Map.Entry<String, TossPaymentResponse> entry : payments.entrySet()) {
+            PaymentStatusChange change = toStatusChange(entry.getValue());
+            if (change == null) {
+                skippedEvents.increment();
+                continue;
+            }
+            changes.add(change);
+            appliedAt.put(entry.getKey(), createdAt(latest.get(entry.getKey())));
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                paymentService.applyStatusChanges(changes);
+                changes.forEach(change -> markApplied(change, appliedAt));
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= settings.getMaxAttempts()) {
+                    logger.warn("토스페이먼츠 웹훅 배치 반영 실패, 한 건씩 다시 반영 - {}건: {}", changes.size(), e.toString());
+                    applyOneByOne(changes, appliedAt);
+                    return;
+                }
+                logger.warn("토스페이먼츠 웹훅 반영 재시도 ({}/{}): {}", attempt + 1, settings.getMaxAttempts(), e.toString());
+                try {
+                    TimeUnit.MILLISECONDS.sleep(200L * attempt);
+                } catch (InterruptedException interrupted) {
+                    // 종료 중에도 이번 배치는 마저 시도한다
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * 이벤트별 반영 (배치 반영이 계속 실패한 경우, 실패한 이벤트만 실패로 남김)
+     */
+    private void applyOneByOne(List<PaymentStatusChange> changes, Map<String, LocalDateTime> appliedAt) {
+        for (PaymentStatusChange change : changes) {
+            try {
+                paymentService.applyStatusChanges(List.of(change));
+                markApplied(change, appliedAt);
+            } catch (RuntimeException e) {
+                failedEvents.increment();
+                logger.error("토스페이먼츠 웹훅 반영 실패 - 주문번호: {}, paymentKey: {}",
+                    change.getOrderId(), change.getPaymentKey(), e);
+            }
+        }
+    }
+
+    private void markApplied(PaymentStatusChange change, Map<String, LocalDateTime> appliedAt) {
+        LocalDateTime createdAt = appliedAt.get(change.getPaymentKey());
+        if (createdAt != null) {
+            lastApplied.put(change.getPaymentKey(), createdAt);
+        }
+        appliedEvents.increment();
+    }
+
+    /**
+     * 결제별 가장 최근 이벤트 (이미 반영한 이벤트보다 오래되었거나 같은 시각이면 제외)
+     */
+    private Map<String, TossWebhookEvent> latestPerPayment(List<TossWebhookEvent> batch) {
+        Map<String, TossWebhookEvent> latest = new LinkedHashMap<>();
+        for (TossWebhookEvent event : batch) {
+            TossPaymentResponse payment = event.getData();
+            if (!PAYMENT_STATUS_CHANGED.equals(event.getEventType()) || payment == null
+                || payment.getPaymentKey() == null || payment.getOrderId() == null) {
+                skippedEvents.increment();
+                continue;
+            }
+            LocalDateTime createdAt = createdAt(event);
+            LocalDateTime applied = lastApplied.getIfPresent(payment.getPaymentKey());
+            if (applied != null && createdAt != null && !createdAt.isAfter(applied)) {
+                skippedEvents.increment();
+                continue;
+            }
+            TossWebhookEvent previous = latest.get(payment.getPaymentKey());
+            if (previous != null) {
+                skippedEvents.increment();
+                LocalDateTime previousCreatedAt = createdAt(previous);
+                if (previousCreatedAt != null && createdAt != null && createdAt.isBefore(previousCreatedAt)) {
+                    continue;
+                }
+            }
+            // 시각이 같거나 알 수 없으면 나중에 받은 이벤트를 사용
+            latest.put(payment.getPaymentKey(), event);
+        }
+        return latest;
+    }
+
+    /**
+     * 이벤트 확인 (배치의 결제를 동시 조회 수 제한 안에서 한 번에 조회)
+     * 조회 결과와 주문번호/결제 키가 다르거나 토스가 조회를 거절하면(NOT_FOUND_PAYMENT 등) 버리고,
+     * 일시적인 실패(타임아웃, 네트워크, 서킷 차단, 격벽/요청 한도 초과, 토스 장애)는 나중에 다시 확인한다.
+     *
+     * @return 결제 키별 조회 결과 (확인된 이벤트만)
+     */
+    private Map<String, TossPaymentResponse> verify(Map<String, TossWebhookEvent> events, Map<String, Integer> attempts,
+                                                    TossPaymentConfig.Webhook settings) {
+        Map<String, TossPaymentLookupResult> results;
+        try {
+            results = TossRateLimiter.callAs(TossRateLimiter.Priority.BACKGROUND, null,
+                () -> tossPaymentService.fetchPayments(events.keySet(), null));
+        } catch (TossPaymentException e) {
+            // 일괄 조회 중 인터럽트 (종료 중): 조회하지 못한 이벤트는 아래에서 재시도로 넘김
+            results = Map.of();
+        }
+
+        Map<String, TossPaymentResponse> verified = new LinkedHashMap<>();
+        for (TossWebhookEvent event : events.values()) {
+            TossPaymentResponse payment = event.getData();
+            TossPaymentLookupResult result = results.get(payment.getPaymentKey());
+            if (result != null && result.isSuccess()) {
+                TossPaymentResponse found = result.getResponse();
+                if (payment.getOrderId().equals(found.getOrderId()) && payment.getPaymentKey().equals(found.getPaymentKey())) {
+                    verified.put(payment.getPaymentKey(), found);
+                } else {
+                    failedEvents.increment();
+                    logger.warn("토스페이먼츠 웹훅 주문번호 불일치 - paymentKey: {}, 웹훅: {}, 조회: {}",
+                        payment.getPaymentKey(), payment.getOrderId(), found.getOrderId());
+                }
+            } else if (result != null && result.getError().isBusinessError()) {
+                failedEvents.increment();
+                logger.warn("토스페이먼츠 웹훅 확인 조회 거절 - paymentKey: {}, 오류: {}",
+                    payment.getPaymentKey(), result.getError().getMessage());
+            } else {
+                retryLater(event, attempts.getOrDefault(payment.getPaymentKey(), 1), settings,
+                    result != null ? result.getError() : null);
+            }
+        }
+        return verified;
+    }
+
+    /**
+     * 확인 조회 재시도 예약 (재시도마다 대기 시간 두 배, 최대 횟수를 넘으면 실패로 남김)
+     */
+    private void retryLater(TossWebhookEvent event, int attempt, TossPaymentConfig.Webhook settings, TossPaymentException error) {
+        TossPaymentResponse payment = event.getData();
+        String reason = error != null ? error.getMessage() : "조회 중단";
+        if (attempt >= settings.getVerifyMaxAttempts()) {
+            failedEvents.increment();
+            logger.error("토스페이먼츠 웹훅 확인 조회 재시도 초과, 반영하지 못함 (대사 필요) - paymentKey: {}, 주문번호: {}, 시도: {}, 오류: {}",
+                payment.getPaymentKey(), payment.getOrderId(), attempt, reason);
+            return;
+        }
+        long maxBackoff = settings.getVerifyRetryMaxBackoff().toNanos();
+        long backoff = settings.getVerifyRetryBackoff().toNanos();
+        for (int i = 1; i < attempt && backoff < maxBackoff; i++) {
+            backoff *= 2;
+        }
+        backoff = Math.min(backoff, maxBackoff);
+        retries.add(new Retry(event, attempt + 1, System.nanoTime() + backoff));
+        retriedEvents.increment();
+        logger.warn("토스페이먼츠 웹훅 확인 조회 실패, {}ms 후 다시 확인 - paymentKey: {}, 시도: {}/{}, 오류: {}",
+            TimeUnit.NANOSECONDS.toMillis(backoff), payment.getPaymentKey(), attempt, settings.getVerifyMaxAttempts(), reason);
+    }
+
+    private static PaymentStatusChange toStatusChange(TossPaymentResponse payment) {
+        if (payment.getStatus() == null || payment.getStatus() == TossPaymentStatus.UNKNOWN) {
+            logger.warn("토스페이먼츠 웹훅 알 수 없는 결제 상태 - paymentKey: {}, status: {}", payment.getPaymentKey(), payment.getStatus());
+            return null;
+        }
+        Payment.PaymentStatus status = Payment.PaymentStatus.valueOf(payment.getStatus().name());
+        // 결제 수단은 토스가 보낸 원문 그대로 저장 (목록에 없는 결제 수단도 남도록)
+        String method = payment.getRawMethod();
+
+        Long canceledAmount = null;
+        String cancelReason = null;
+        LocalDateTime canceledAt = null;
+        if (status == Payment.PaymentStatus.CANCELED || status == Payment.PaymentStatus.PARTIAL_CANCELED) {
+            if (payment.getTotalAmount() != null && payment.getBalanceAmount() != null) {
+                canceledAmount = payment.getTotalAmount().longValue() - payment.getBalanceAmount();
+            }
+            List<TossPaymentResponse.TossCancelHistory> cancels = payment.getCancels();
+            if (cancels != null && !cancels.isEmpty()) {
+                TossPaymentResponse.TossCancelHistory last = cancels.get(cancels.size() - 1);
+                cancelReason = last.getCancelReason();
+                canceledAt = parseOffsetDateTime(last.getCanceledAt());
+            }
+        }
+        return new PaymentStatusChange(payment.getOrderId(), payment.getPaymentKey(), status, method,
+            parseOffsetDateTime(payment.getApprovedAt()), canceledAmount, cancelReason, canceledAt);
+    }
+
+    private static LocalDateTime createdAt(TossWebhookEvent event) {
+        if (event.getCreatedAt() == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(event.getCreatedAt());
+        } catch (DateTimeParseException e) {
+            return parseOffsetDateTime(event.getCreatedAt());
+        }
+    }
+
+    private static LocalDateTime parseOffsetDateTime(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value).toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 확인 조회 재시도 대기 이벤트
+     */
+    private static final class Retry implements Delayed {
+        private final TossWebhookEvent event;
+        private final int attempt;
+        private final long dueAt;
+
+        Retry(TossWebhookEvent event, int attempt, long dueAt) {
+            this.event = event;
+            this.attempt = attempt;
+            this.dueAt = dueAt;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.example.rokdemo.toss.config;
 
+import com.example.rokdemo.toss.TossOperation;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * 토스페이먼츠 설정 관리 클래스
  */
@@ -62,4 +67,506 @@ public class TossPaymentConfig {
      * 브랜드페이 리다이렉트 URL (개발자센터 등록용)
      */
     private String brandPayRedirectUrl;
+
+    /**
+     * 가상 스레드(Virtual Thread) 실행 모드 사용 여부
+     * spring.threads.virtual.enabled 와 함께 켜야 요청 처리 스레드까지 가상 스레드로 동작 (Java 21 이상)
+     * 끄면 비동기 호출, 헤지 요청, 일괄 조회, 커넥션 미리 열기, 정기결제 일괄 실행 모두 플랫폼 스레드를 사용한다.
+     */
+    private boolean virtualThreads = false;
+
+    /**
+     * HttpClient 커넥션 풀 / 타임아웃 / Keep-Alive 설정
+     * 최대 커넥션 수와 타임아웃은 운영 중 TossPaymentService.applyPoolSettings()로 다시 적용할 수 있다.
+     */
+    private Pool pool = new Pool();
+
+    /**
+     * 토스 API 전송 방식 (시작 시에만 적용)
+     * HTTP1: Apache HttpClient 커넥션 풀 (동시 요청마다 커넥션 1개)
+     * HTTP2: JDK HttpClient HTTP/2 (동시 요청을 소수의 커넥션에 다중화, 서버가 지원하지 않으면 HTTP/1.1로 협상)
+     */
+    private Transport transport = Transport.HTTP1;
+
+    /**
+     * 동일 조회 요청 합치기 사용 여부
+     * 같은 paymentKey/customerKey로 동시에 들어온 조회는 토스 API를 한 번만 호출하고 결과를 공유
+     */
+    private boolean requestCoalescing = true;
+
+    /**
+     * 결제 일괄 조회(lookupPayments) 동시 조회 수
+     * 호스트당 최대 커넥션 수와 결제 조회 격벽(resilience.bulkheads.lookup)을 넘지 않도록 제한되어 적용
+     */
+    private int bulkLookupConcurrency = 8;
+
+    /**
+     * 결제 조회 캐시 설정
+     */
+    private LookupCache lookupCache = new LookupCache();
+
+    /**
+     * 브랜드페이 Access Token 캐시 설정
+     */
+    private BrandPayTokenCache brandPayTokenCache = new BrandPayTokenCache();
+
+    /**
+     * 브랜드페이 등록 결제수단 캐시 설정
+     */
+    private BrandPayMethodCache brandPayMethodCache = new BrandPayMethodCache();
+
+    /**
+     * 호출 종류별 격벽 / 서킷 브레이커 설정
+     */
+    private Resilience resilience = new Resilience();
+
+    /**
+     * 멱등 조회(결제 조회, 브랜드페이 결제수단 조회) 꼬리 지연 대응 설정
+     */
+    private TailLatency tailLatency = new TailLatency();
+
+    /**
+     * 결제 승인/취소/빌링 연결 오류 재시도 설정 (Idempotency-Key로 중복 처리 방지)
+     */
+    private Retry retry = new Retry();
+
+    /**
+     * 정기결제 일괄 실행 설정
+     */
+    private BillingBatch billingBatch = new BillingBatch();
+
+    /**
+     * 토스 호출 요청 수 제한 설정 (토큰 버킷)
+     */
+    private RateLimit rateLimit = new RateLimit();
+
+    /**
+     * 웹훅 수신 설정
+     */
+    private Webhook webhook = new Webhook();
+
+    /**
+     * 결제 대사 설정
+     */
+    private Reconciliation reconciliation = new Reconciliation();
+
+    @Getter
+    @Setter
+    public static class LookupCache {
+        /**
+         * 캐시 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 최대 보관 건수
+         */
+        private long maxSize = 10_000;
+
+        /**
+         * 종료 상태(DONE, CANCELED, EXPIRED, ABORTED) 결제의 유효 시간
+         */
+        private Duration terminalTtl = Duration.ofMinutes(10);
+
+        /**
+         * 진행 중 상태(WAITING_FOR_DEPOSIT, IN_PROGRESS 등) 결제의 유효 시간
+         */
+        private Duration pendingTtl = Duration.ofSeconds(5);
+    }
+
+    @Getter
+    @Setter
+    public static class BrandPayTokenCache {
+        /**
+         * 캐시 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 최대 보관 건수 (고객 수)
+         */
+        private long maxSize = 10_000;
+
+        /**
+         * 만료 전 갱신 시점 (남은 유효 시간이 이보다 짧으면 Refresh Token으로 다시 발급)
+         */
+        private Duration refreshBefore = Duration.ofMinutes(10);
+    }
+
+    @Getter
+    @Setter
+    public static class BrandPayMethodCache {
+        /**
+         * 캐시 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 최대 보관 건수 (고객 수)
+         */
+        private long maxSize = 10_000;
+
+        /**
+         * 조회 없이 그대로 사용하는 시간
+         */
+        private Duration ttl = Duration.ofMinutes(1);
+
+        /**
+         * ttl 이후 이전 결과를 돌려주면서 뒤에서 다시 조회하는 시간 (0이면 ttl이 지나면 바로 조회)
+         */
+        private Duration staleWhileRevalidate = Duration.ofMinutes(5);
+    }
+
+    @Getter
+    @Setter
+    public static class Resilience {
+        /**
+         * 호출 종류별 동시 실행 한도
+         * 결제 승인 외 호출의 합계는 (호스트당 커넥션 수 - 결제 승인) 이하로 둔다. 기본값은 호스트당 20개 중
+         * 결제 승인 8개, 나머지 12개를 나눠 조회/취소/빌링/브랜드페이가 모두 몰려도 결제 승인 자리가 남는다.
+         * 브랜드페이 호출은 결제 화면 진입마다 발생하므로 고객끼리 한 줄로 대기하지 않도록 2씩 둔다.
+         */
+        private Map<TossOperation, Integer> bulkheads = defaultBulkheads();
+
+        /**
+         * bulkheads에 없는 호출 종류의 동시 실행 한도
+         */
+        private int defaultBulkhead = 2;
+
+        /**
+         * 격벽 자리가 없을 때 최대 대기 시간 (동기 호출만 대기, 비동기 호출은 즉시 거절)
+         */
+        private Duration bulkheadMaxWait = Duration.ofMillis(500);
+
+        /**
+         * 서킷 브레이커 설정
+         */
+        private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+        private static Map<TossOperation, Integer> defaultBulkheads() {
+            Map<TossOperation, Integer> bulkheads = new EnumMap<>(TossOperation.class);
+            bulkheads.put(TossOperation.CONFIRM, 8);
+            bulkheads.put(TossOperation.CANCEL, 2);
+            bulkheads.put(TossOperation.LOOKUP, 4);
+            bulkheads.put(TossOperation.BILLING, 2);
+            bulkheads.put(TossOperation.BRANDPAY_TOKEN, 2);
+            bulkheads.put(TossOperation.BRANDPAY_METHODS, 2);
+            return bulkheads;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        /**
+         * 실패율 계산에 사용하는 최근 호출 수
+         */
+        private int windowSize = 50;
+
+        /**
+         * 차단 판단을 시작하는 최소 호출 수
+         */
+        private int minimumCalls = 20;
+
+        /**
+         * 차단 기준 실패율 (%, 네트워크 오류와 5xx/429 응답)
+         */
+        private int failureRateThreshold = 50;
+
+        /**
+         * 차단 기준 지연 호출 비율 (%)
+         */
+        private int slowCallRateThreshold = 80;
+
+        /**
+         * 지연 호출로 보는 응답 시간
+         */
+        private Duration slowCallDuration = Duration.ofSeconds(5);
+
+        /**
+         * 차단 유지 시간 (이후 시험 호출 허용)
+         */
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        /**
+         * 차단 해제 전 시험 호출 수
+         */
+        private int halfOpenCalls = 5;
+    }
+
+    @Getter
+    @Setter
+    public static class TailLatency {
+        /**
+         * 응답 시간 분포 계산에 사용하는 최근 호출 수
+         */
+        private int windowSize = 200;
+
+        /**
+         * 헤지/적응형 타임아웃을 적용하기 시작하는 최소 표본 수
+         */
+        private int minSamples = 20;
+
+        /**
+         * 헤지 요청 사용 여부 (p95 안에 응답이 없으면 같은 요청을 한 번 더 전송)
+         */
+        private boolean hedgingEnabled = true;
+
+        /**
+         * 헤지 요청 최소 지연 시간 (p95가 이보다 짧아도 이만큼은 기다림)
+         */
+        private Duration hedgeMinDelay = Duration.ofMillis(50);
+
+        /**
+         * 헤지 요청 예산 (전체 조회 요청 대비 추가 요청 비율, %)
+         */
+        private int hedgeBudgetPercent = 10;
+
+        /**
+         * 적응형 타임아웃 사용 여부 (소켓 타임아웃 = p99 x timeoutMultiplier)
+         */
+        private boolean adaptiveTimeoutEnabled = true;
+
+        /**
+         * 적응형 타임아웃 배수
+         */
+        private int timeoutMultiplier = 3;
+
+        /**
+         * 적응형 타임아웃 최솟값 (최댓값은 pool.socketTimeout)
+         */
+        private Duration minTimeout = Duration.ofSeconds(2);
+    }
+
+    @Getter
+    @Setter
+    public static class Retry {
+        /**
+         * 재시도 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 최대 시도 횟수 (첫 요청 포함)
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * 첫 재시도 대기 시간 (이후 2배씩 증가, 0 ~ 대기 시간 사이 임의 값 사용)
+         */
+        private Duration initialBackoff = Duration.ofMillis(100);
+
+        /**
+         * 재시도 대기 시간 상한
+         */
+        private Duration maxBackoff = Duration.ofSeconds(1);
+
+        /**
+         * 재시도 포함 전체 허용 시간 (넘으면 재시도하지 않음)
+         */
+        private Duration budget = Duration.ofSeconds(3);
+    }
+
+    @Getter
+    @Setter
+    public static class BillingBatch {
+        /**
+         * 동시 결제 수 (resilience.bulkheads.billing을 넘으면 격벽 한도로 줄여 실행)
+         */
+        private int concurrency = 2;
+
+        /**
+         * 초당 최대 결제 요청 수
+         * 실제 처리량은 동시 결제 수 / 평균 응답 시간을 넘지 못한다 (동시 2건, 응답 500ms면 초당 4건)
+         */
+        private int ratePerSecond = 20;
+
+        /**
+         * 진행 기록/결과 저장 단위 (건수)
+         */
+        private int chunkSize = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimit {
+        /**
+         * 요청 수 제한 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 전체 초당 요청 수 (토스 가맹점 요청 한도 이하로 설정)
+         */
+        private int globalPerSecond = 100;
+
+        /**
+         * 호출 종류별 초당 요청 수
+         */
+        private Map<TossOperation, Integer> perSecond = defaultPerSecond();
+
+        /**
+         * perSecond에 없는 호출 종류의 초당 요청 수
+         */
+        private int defaultPerSecond = 10;
+
+        /**
+         * 백그라운드(배치/정산) 호출이 쓸 수 있는 전체 한도 비율 (%, 나머지는 사용자 요청 몫)
+         */
+        private int backgroundSharePercent = 70;
+
+        /**
+         * 사용자 요청의 토큰 최대 대기 시간 (비동기 호출은 대기하지 않음)
+         */
+        private Duration userMaxWait = Duration.ofMillis(200);
+
+        /**
+         * 백그라운드 호출의 토큰 최대 대기 시간
+         */
+        private Duration backgroundMaxWait = Duration.ofSeconds(5);
+
+        private static Map<TossOperation, Integer> defaultPerSecond() {
+            Map<TossOperation, Integer> perSecond = new EnumMap<>(TossOperation.class);
+            perSecond.put(TossOperation.CONFIRM, 50);
+            perSecond.put(TossOperation.CANCEL, 20);
+            perSecond.put(TossOperation.LOOKUP, 50);
+            perSecond.put(TossOperation.BILLING, 30);
+            perSecond.put(TossOperation.BRANDPAY_TOKEN, 10);
+            perSecond.put(TossOperation.BRANDPAY_METHODS, 20);
+            return perSecond;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Webhook {
+        /**
+         * 처리 대기 이벤트 최대 수 (넘으면 503으로 응답해 토스가 나중에 다시 보내도록 함)
+         */
+        private int queueCapacity = 10_000;
+
+        /**
+         * 한 트랜잭션으로 반영할 최대 이벤트 수
+         */
+        private int batchSize = 100;
+
+        /**
+         * 배치를 채우기 위해 기다리는 최대 시간
+         */
+        private Duration batchWait = Duration.ofMillis(200);
+
+        /**
+         * 배치 반영 최대 시도 횟수 (DB 오류 시)
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * 이벤트를 결제 조회로 확인한 뒤 조회 결과로 반영할지 여부 (웹훅에는 서명이 없어 위조 요청 방지용)
+         * 끄면 웹훅 본문을 그대로 반영하므로 웹훅 주소가 외부에 노출되지 않은 환경에서만 사용한다.
+         */
+        private boolean verify = true;
+
+        /**
+         * 확인 조회가 일시적인 이유(타임아웃, 서킷 차단, 격벽/요청 한도 초과 등)로 실패한 이벤트의 최대 확인 횟수
+         * 웹훅은 이미 200으로 응답해 토스가 다시 보내지 않으므로 다시 조회하고, 모두 실패하면 로그를 남긴다 (대사로 맞춤).
+         */
+        private int verifyMaxAttempts = 8;
+
+        /**
+         * 확인 재시도 첫 대기 시간 (재시도마다 두 배, verifyRetryMaxBackoff까지)
+         */
+        private Duration verifyRetryBackoff = Duration.ofSeconds(5);
+
+        /**
+         * 확인 재시도 최대 대기 시간
+         */
+        private Duration verifyRetryMaxBackoff = Duration.ofMinutes(5);
+    }
+
+    @Getter
+    @Setter
+    public static class Reconciliation {
+        /**
+         * 한 번에 읽어 대사할 결제 수 (페이지 크기, 동시 조회 수는 bulkLookupConcurrency)
+         */
+        private int pageSize = 500;
+
+        /**
+         * 불일치를 토스 기준으로 고칠지 여부 (false면 보고만 함)
+         */
+        private boolean fix = true;
+
+        /**
+         * 승인 시각 허용 오차
+         */
+        private Duration approvedAtTolerance = Duration.ofMinutes(1);
+
+        /**
+         * 보고서에 남길 불일치 예시 최대 수
+         */
+        private int maxSamples = 100;
+    }
+
+    public enum Transport {
+        HTTP1, HTTP2
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+        /**
+         * 최대 커넥션 수 (트래픽이 많으면 100~200 사이로 고려)
+         */
+        private int maxTotal = 100;
+
+        /**
+         * 호스트당 최대 커넥션 수 (트래픽이 많으면 20~50 사이로 고려)
+         */
+        private int maxPerRoute = 20;
+
+        /**
+         * 연결 타임아웃
+         */
+        private Duration connectTimeout = Duration.ofSeconds(5);
+
+        /**
+         * 응답 대기(소켓) 타임아웃
+         */
+        private Duration socketTimeout = Duration.ofSeconds(30);
+
+        /**
+         * 커넥션 풀 대여 대기 타임아웃
+         */
+        private Duration connectionRequestTimeout = Duration.ofSeconds(5);
+
+        /**
+         * Keep-Alive 유지 시간 (서버가 Keep-Alive 헤더로 시간을 알려주지 않을 때 적용)
+         */
+        private Duration keepAlive = Duration.ofSeconds(30);
+
+        /**
+         * 커넥션 최대 수명 (0이면 제한 없음, 시작 시에만 적용)
+         */
+        private Duration timeToLive = Duration.ZERO;
+
+        /**
+         * 재사용 전 끊김 확인 기준 (이 시간 이상 쉬었던 커넥션은 요청 전에 상태를 확인, 시작 시에만 적용)
+         */
+        private Duration validateAfterInactivity = Duration.ofSeconds(2);
+
+        /**
+         * 유휴 커넥션 정리 시간 (이 시간 이상 쓰지 않은 커넥션과 Keep-Alive가 끝난 커넥션을 백그라운드에서 닫음, 0이면 정리하지 않음)
+         */
+        private Duration maxIdleTime = Duration.ofSeconds(20);
+
+        /**
+         * 시작 시 미리 열어 둘 커넥션 수 (0이면 사용 안 함, HTTP1 전송만 적용)
+         */
+        private int warmupConnections = 0;
+
+        /**
+         * 커넥션 미리 열기 최대 대기 시간 (넘으면 열린 커넥션만으로 시작)
+         */
+        private Duration warmupTimeout = Duration.ofSeconds(10);
+    }
 }
\ No newline at end of file
@@ -12,6 +12,11 @@ public class TossBrandPayTokenResponse {
      */
     private String accessToken;
     
+    /**
+     * 리프레시 토큰 (Access Token 재발급용)
+     */
+    private String refreshToken;
+    
     /**
      * 토큰 유형 (Bearer)
      */
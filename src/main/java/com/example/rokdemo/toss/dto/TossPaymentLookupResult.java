@@ -0,0 +1,47 @@
+package com.example.rokdemo.toss.dto;
+
+import com.example.rokdemo.toss.TossPaymentException;
+import lombok.Getter;
+
+/**
+ * 결제 일괄 조회 건별 결과 DTO
+ * 성공 시 response, 실패 시 error 중 하나만 채워진다.
+ */
+@Getter
+public class TossPaymentLookupResult {
+    /**
+     * 결제 키
+     */
+    private final String paymentKey;
+
+    /**
+     * 조회 결과 (실패 시 null)
+     */
+    private final TossPaymentResponse response;
+
+    /**
+     * 조회 실패 사유 (성공 시 null)
+     */
+    private final TossPaymentException error;
+
+    private TossPaymentLookupResult(String paymentKey, TossPaymentResponse response, TossPaymentException error) {
+        this.paymentKey = paymentKey;
+        this.response = response;
+        this.error = error;
+    }
+
+    public static TossPaymentLookupResult success(String paymentKey, TossPaymentResponse response) {
+        return new TossPaymentLookupResult(paymentKey, response, null);
+    }
+
+    public static TossPaymentLookupResult failure(String paymentKey, TossPaymentException error) {
+        return new TossPaymentLookupResult(paymentKey, null, error);
+    }
+
+    /**
+     * 조회 성공 여부
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -1,14 +1,23 @@
 package com.example.rokdemo.toss.dto;
 
+import com.example.rokdemo.toss.util.BankCode;
+import com.example.rokdemo.toss.util.CardCompany;
+import com.example.rokdemo.toss.util.EasyPayProvider;
+import com.example.rokdemo.toss.util.PaymentMethod;
+import com.example.rokdemo.toss.util.TossPaymentStatus;
 import com.google.gson.annotations.SerializedName;
 
 import lombok.Data;
+import lombok.ToString;
 
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * 토스페이먼츠 결제 응답 DTO
+ * 상태/결제 수단/카드사/은행/간편결제 제공사는 토스가 보낸 코드 원문(raw*)을 그대로 보관하고 직렬화한다.
+ * enum 값은 처음 조회할 때 한 번 바꿔 둔다 (목록에 없는 코드는 UNKNOWN, 원문은 그대로 남는다).
+ * UNKNOWN은 원래 코드를 알 수 없으므로 enum setter로 설정할 수 없다 (원문 setter 사용).
  */
 @Data
 public class TossPaymentResponse {
@@ -33,9 +42,13 @@ public class TossPaymentResponse {
     private String type;
     
     /**
-     * 결제 상태 (DONE, CANCELED, PARTIAL_CANCELED, WAITING_FOR_DEPOSIT 등)
+     * 결제 상태 원문 (DONE, CANCELED, PARTIAL_CANCELED, WAITING_FOR_DEPOSIT 등)
      */
-    private String status;
+    @SerializedName("status")
+    private String rawStatus;
+    
+    @ToString.Exclude
+    private transient TossPaymentStatus status;
     
     /**
      * 총 결제 금액
@@ -70,9 +83,13 @@ public class TossPaymentResponse {
     private String approvedAt;
     
     /**
-     * 결제 수단 (카드, 가상계좌, 계좌이체 등)
+     * 결제 수단 원문 (카드, 가상계좌, 계좌이체 등)
      */
-    private String method;
+    @SerializedName("method")
+    private String rawMethod;
+    
+    @ToString.Exclude
+    private transient PaymentMethod method;
     
     /**
      * 카드 정보 (카드 결제인 경우)
@@ -104,6 +121,62 @@ public class TossPaymentResponse {
      */
     private String message;
     
+    public TossPaymentStatus getStatus() {
+        if (status == null) {
+            status = resolve(rawStatus, TossPaymentStatus::fromCode, TossPaymentStatus.UNKNOWN);
+        }
+        return status;
+    }
+    
+    public void setStatus(TossPaymentStatus status) {
+        this.rawStatus = toCode(status, TossPaymentStatus::getCode, TossPaymentStatus.UNKNOWN);
+        this.status = status;
+    }
+    
+    public void setRawStatus(String rawStatus) {
+        this.rawStatus = rawStatus;
+        this.status = null;
+    }
+    
+    public PaymentMethod getMethod() {
+        if (method == null) {
+            method = resolve(rawMethod, PaymentMethod::fromValue, PaymentMethod.UNKNOWN);
+        }
+        return method;
+    }
+    
+    public void setMethod(PaymentMethod method) {
+        this.rawMethod = toCode(method, PaymentMethod::getKoreanName, PaymentMethod.UNKNOWN);
+        this.method = method;
+    }
+    
+    public void setRawMethod(String rawMethod) {
+        this.rawMethod = rawMethod;
+        this.method = null;
+    }
+    
+    /**
+     * 코드 원문 → enum (null은 null, 목록에 없는 코드는 UNKNOWN)
+     */
+    private static <E extends Enum<E>> E resolve(String raw, Function<String, E> fromCode, E unknown) {
+        if (raw == null) {
+            return null;
+        }
+        E value = fromCode.apply(raw);
+        return value != null ? value : unknown;
+    }
+    
+    /**
+     * enum → 코드 원문 (UNKNOWN은 원래 코드를 알 수 없어 거부)
+     */
+    private static <E extends Enum<E>> String toCode(E value, Function<E, String> toCode, E unknown) {
+        if (value == unknown) {
+            throw new IllegalArgumentException(unknown.getDeclaringClass().getSimpleName()
+                + ".UNKNOWN은 원래 코드를 알 수 없어 설정할 수 없습니다. 코드 원문으로 설정하세요.");
+        }
+        return value != null ? toCode.apply(value) : null;
+    }
+    
     /**
      * 카드 정보 DTO
      */
@@ -113,7 +186,10 @@ public class TossPaymentResponse {
         private Integer amount;  // 카드사에 결제 요청한 금액
         
         @SerializedName("issuerCode")
-        private String issuerCode;  // 카드 발급사 두 자리 코드 (예: "11", "21", "41")
+        private String rawIssuerCode;  // 카드 발급사 두 자리 코드 원문 (예: "11", "21", "41")
+        
+        @ToString.Exclude
+        private transient CardCompany issuerCode;
         
         @SerializedName("acquirerCode")
         private String acquirerCode;  // 카드 매입사 두 자리 코드
@@ -145,6 +221,22 @@ public class TossPaymentResponse {
         @SerializedName("interestPayer")
         private String interestPayer;  // 할부 수수료 부담 주체 (BUYER, CARD_COMPANY, MERCHANT)
         
+        public CardCompany getIssuerCode() {
+            if (issuerCode == null) {
+                issuerCode = resolve(rawIssuerCode, CardCompany::fromCode, CardCompany.UNKNOWN);
+            }
+            return issuerCode;
+        }
+        
+        public void setIssuerCode(CardCompany issuerCode) {
+            this.rawIssuerCode = toCode(issuerCode, CardCompany::getCode, CardCompany.UNKNOWN);
+            this.issuerCode = issuerCode;
+        }
+        
+        public void setRawIssuerCode(String rawIssuerCode) {
+            this.rawIssuerCode = rawIssuerCode;
+            this.issuerCode = null;
+        }
     }
     
     /**
@@ -154,12 +246,32 @@ public class TossPaymentResponse {
     public static class TossVirtualAccountInfo {
         private String accountType;  // 계좌 타입
         private String accountNumber;  // 계좌번호
-        private String bankCode;  // 은행 코드
+        @SerializedName("bankCode")
+        private String rawBankCode;  // 은행 코드 원문
+        @ToString.Exclude
+        private transient BankCode bankCode;
         private String customerName;  // 입금자명
-        private LocalDateTime dueDate;  // 입금 기한
+        private String dueDate;  // 입금 기한 (ISO 8601, 예: 2024-01-01T23:59:59+09:00)
         private String refundStatus;  // 환불 상태
-        private LocalDateTime expiredAt;  // 만료 시각
-        private LocalDateTime settlementStatus;  // 정산 상태
+        private String expiredAt;  // 만료 시각 (ISO 8601)
+        private String settlementStatus;  // 정산 상태 (INCOMPLETED, COMPLETED)
+        
+        public BankCode getBankCode() {
+            if (bankCode == null) {
+                bankCode = resolve(rawBankCode, BankCode::fromCode, BankCode.UNKNOWN);
+            }
+            return bankCode;
+        }
+        
+        public void setBankCode(BankCode bankCode) {
+            this.rawBankCode = toCode(bankCode, BankCode::getCode, BankCode.UNKNOWN);
+            this.bankCode = bankCode;
+        }
+        
+        public void setRawBankCode(String rawBankCode) {
+            this.rawBankCode = rawBankCode;
+            this.bankCode = null;
+        }
     }
     
     /**
@@ -168,13 +280,33 @@ public class TossPaymentResponse {
     @Data
     public static class TossEasyPayInfo {
         @SerializedName("provider")
-        private String provider;  // 간편결제 제공사 (KAKAOPAY, NAVERPAY, TOSSPAY, SAMSUNGPAY, LPAY 등)
+        private String rawProvider;  // 간편결제 제공사 원문 (토스페이, 네이버페이 또는 TOSSPAY, NAVERPAY 등)
+        
+        @ToString.Exclude
+        private transient EasyPayProvider provider;
         
         @SerializedName("amount")
         private Integer amount;  // 간편결제 금액
         
         @SerializedName("discountAmount")
         private Integer discountAmount;  // 할인 금액
+        
+        public EasyPayProvider getProvider() {
+            if (provider == null) {
+                provider = resolve(rawProvider, EasyPayProvider::fromValue, EasyPayProvider.UNKNOWN);
+            }
+            return provider;
+        }
+        
+        public void setProvider(EasyPayProvider provider) {
+            this.rawProvider = toCode(provider, EasyPayProvider::getKoreanName, EasyPayProvider.UNKNOWN);
+            this.provider = provider;
+        }
+        
+        public void setRawProvider(String rawProvider) {
+            this.rawProvider = rawProvider;
+            this.provider = null;
+        }
     }
     
     /**
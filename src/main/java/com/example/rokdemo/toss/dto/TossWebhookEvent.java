@@ -0,0 +1,24 @@
+package com.example.rokdemo.toss.dto;
+
+import lombok.Data;
+
+/**
+ * 토스페이먼츠 웹훅 이벤트 DTO
+ */
+@Data
+public class TossWebhookEvent {
+    /**
+     * 이벤트 타입 (PAYMENT_STATUS_CHANGED 등)
+     */
+    private String eventType;
+    
+    /**
+     * 이벤트 발생 시각 (yyyy-MM-dd'T'HH:mm:ss.SSSSSS)
+     */
+    private String createdAt;
+    
+    /**
+     * 변경된 결제 정보 (결제 조회 응답과 같은 형식)
+     */
+    private TossPaymentResponse data;
+}
@@ -2,6 +2,10 @@ package com.example.rokdemo.toss.util;
 
 import lombok.Getter;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * 토스페이먼츠 은행 코드 enum
  * 은행 두 자리 코드를 한글명으로 매핑
@@ -35,7 +39,10 @@ public enum BankCode {
     KBANK("89", "케이", "케이뱅크"),
     KAKAOBANK("90", "카카오", "카카오뱅크"),
     TOSSBANK("92", "토스", "토스뱅크"),
-    KDBBANK("02", "산업", "한국산업은행");
+    KDBBANK("02", "산업", "한국산업은행"),
+
+    // 목록에 없는 은행 (응답 파싱 시, 코드로는 조회되지 않음)
+    UNKNOWN("", "알 수 없음", "알 수 없는 은행");
 
     private final String code;
     private final String koreanName;
@@ -47,6 +54,19 @@ public enum BankCode {
         this.fullName = fullName;
     }
 
+    /**
+     * 은행 코드 → BankCode (대문자 기준, 클래스 로딩 시 한 번 생성)
+     */
+    private static final Map<String, BankCode> BY_CODE = new HashMap<>();
+
+    static {
+        for (BankCode bank : values()) {
+            if (bank != UNKNOWN) {
+                BY_CODE.put(normalize(bank.code), bank);
+            }
+        }
+    }
+
     /**
      * 은행 코드로 BankCode 조회
      * 
@@ -54,18 +74,16 @@ public enum BankCode {
      * @return BankCode enum 값, 없으면 null
      */
     public static BankCode fromCode(String code) {
-        if (code == null || code.trim().isEmpty()) {
+        if (code == null || code.isBlank()) {
             return null;
         }
 
-        String upperCode = code.trim().toUpperCase();
-        for (BankCode bank : BankCode.values()) {
-            if (bank.code.equalsIgnoreCase(upperCode)) {
-                return bank;
-            }
+        BankCode bank = BY_CODE.get(code);
+        if (bank != null) {
+            return bank;
         }
-
-        return null;
+        // 공백/소문자가 섞인 입력만 정규화해서 다시 조회
+        return BY_CODE.get(normalize(code));
     }
 
     /**
@@ -75,7 +93,7 @@ public enum BankCode {
      * @return 은행 한글명 (예: "농협", "국민"), 없으면 코드 그대로 반환
      */
     public static String toKoreanName(String code) {
-        if (code == null || code.trim().isEmpty()) {
+        if (code == null || code.isBlank()) {
             return null;
         }
 
@@ -90,7 +108,7 @@ public enum BankCode {
      * @return 은행 전체 이름 (예: "NH농협은행", "KB국민은행"), 없으면 코드 그대로 반환
      */
     public static String toFullName(String code) {
-        if (code == null || code.trim().isEmpty()) {
+        if (code == null || code.isBlank()) {
             return null;
         }
 
@@ -107,4 +125,8 @@ public enum BankCode {
     public static boolean isValid(String code) {
         return fromCode(code) != null;
     }
+
+    private static String normalize(String value) {
+        return value.trim().toUpperCase(Locale.ROOT);
+    }
 }
@@ -2,6 +2,10 @@ package com.example.rokdemo.toss.util;
 
 import lombok.Getter;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * 토스페이먼츠 카드사 enum
  * 카드 발급사 두 자리 코드를 한글명으로 매핑
@@ -31,7 +35,10 @@ public enum CardCompany {
     WOORI("W1", "우리", "우리카드(우리 매입)"),
     KAKAOBANK("15", "카카오뱅크", "카카오뱅크"),
     TOSSBANK("24", "토스뱅크", "토스뱅크"),
-    KDBBANK("30", "산업", "한국산업은행");
+    KDBBANK("30", "산업", "한국산업은행"),
+
+    // 목록에 없는 카드사 (응답 파싱 시, 코드로는 조회되지 않음)
+    UNKNOWN("", "알 수 없음", "알 수 없는 카드사");
 
     private final String code;
     private final String koreanName;
@@ -43,6 +50,19 @@ public enum CardCompany {
         this.fullName = fullName;
     }
 
+    /**
+     * 카드사 코드 → CardCompany (대문자 기준, 클래스 로딩 시 한 번 생성)
+     */
+    private static final Map<String, CardCompany> BY_CODE = new HashMap<>();
+
+    static {
+        for (CardCompany company : values()) {
+            if (company != UNKNOWN) {
+                BY_CODE.put(normalize(company.code), company);
+            }
+        }
+    }
+
     /**
      * 카드사 코드로 CardCompany 조회
      * 
@@ -50,18 +70,16 @@ public enum CardCompany {
      * @return CardCompany enum 값, 없으면 null
      */
     public static CardCompany fromCode(String code) {
-        if (code == null || code.trim().isEmpty()) {
+        if (code == null || code.isBlank()) {
             return null;
         }
 
-        String upperCode = code.trim().toUpperCase();
-        for (CardCompany company : CardCompany.values()) {
-            if (company.code.equalsIgnoreCase(upperCode)) {
-                return company;
-            }
+        CardCompany company = BY_CODE.get(code);
+        if (company != null) {
+            return company;
         }
-
-        return null;
+        // 공백/소문자가 섞인 입력만 정규화해서 다시 조회
+        return BY_CODE.get(normalize(code));
     }
 
     /**
@@ -71,7 +89,7 @@ public enum CardCompany {
      * @return 카드사 한글명 (예: "현대", "국민"), 없으면 코드 그대로 반환
      */
     public static String toKoreanName(String code) {
-        if (code == null || code.trim().isEmpty()) {
+        if (code == null || code.isBlank()) {
             return null;
         }
 
@@ -86,7 +104,7 @@ public enum CardCompany {
      * @return 카드사 전체 이름 (예: "현대카드", "KB국민카드"), 없으면 코드 그대로 반환
      */
     public static String toFullName(String code) {
-        if (code == null || code.trim().isEmpty()) {
+        if (code == null || code.isBlank()) {
             return null;
         }
 
@@ -103,5 +121,9 @@ public enum CardCompany {
     public static boolean isValid(String code) {
         return fromCode(code) != null;
     }
+
+    private static String normalize(String value) {
+        return value.trim().toUpperCase(Locale.ROOT);
+    }
 }
 
@@ -2,6 +2,10 @@ package com.example.rokdemo.toss.util;
 
 import lombok.Getter;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * 토스페이먼츠 간편결제 제공사 enum
  * 토스페이먼츠 API가 반환하는 한글명을 영어 코드로 매핑
@@ -15,7 +19,10 @@ public enum EasyPayProvider {
     LPAY("LPAY", "엘페이"),
     PAYCO("PAYCO", "페이코"),
     SSG("SSG", "SSG페이"),
-    APPLEPAY("APPLEPAY", "애플페이");
+    APPLEPAY("APPLEPAY", "애플페이"),
+
+    // 목록에 없는 제공사 (응답 파싱 시)
+    UNKNOWN("UNKNOWN", "알 수 없음");
 
     private final String code;
     private final String koreanName;
@@ -25,6 +32,20 @@ public enum EasyPayProvider {
         this.koreanName = koreanName;
     }
 
+    /**
+     * 영어 코드/한글명 → EasyPayProvider (대문자 기준, 클래스 로딩 시 한 번 생성)
+     */
+    private static final Map<String, EasyPayProvider> BY_CODE = new HashMap<>();
+
+    static {
+        for (EasyPayProvider provider : values()) {
+            if (provider != UNKNOWN) {
+                BY_CODE.put(normalize(provider.code), provider);
+                BY_CODE.put(normalize(provider.koreanName), provider);
+            }
+        }
+    }
+
     /**
      * 한글명 또는 영어 코드로 EasyPayProvider 조회
      * 
@@ -32,27 +53,16 @@ public enum EasyPayProvider {
      * @return EasyPayProvider enum 값, 없으면 null
      */
     public static EasyPayProvider fromValue(String value) {
-        if (value == null || value.trim().isEmpty()) {
+        if (value == null || value.isBlank()) {
             return null;
         }
 
-        String trimmed = value.trim();
-
-        // 영어 코드로 조회 (enum code)
-        for (EasyPayProvider provider : EasyPayProvider.values()) {
-            if (provider.code.equalsIgnoreCase(trimmed)) {
-                return provider;
-            }
-        }
-
-        // 한글명으로 조회
-        for (EasyPayProvider provider : EasyPayProvider.values()) {
-            if (provider.koreanName.equals(trimmed)) {
-                return provider;
-            }
+        EasyPayProvider provider = BY_CODE.get(value);
+        if (provider != null) {
+            return provider;
         }
-
-        return null;
+        // 공백/소문자가 섞인 입력만 정규화해서 다시 조회
+        return BY_CODE.get(normalize(value));
     }
 
     /**
@@ -62,7 +72,7 @@ public enum EasyPayProvider {
      * @return 영어 코드 (KAKAOPAY, NAVERPAY 등), 알 수 없으면 입력값을 대문자로 반환
      */
     public static String toEnglishCode(String value) {
-        if (value == null || value.trim().isEmpty()) {
+        if (value == null || value.isBlank()) {
             return null;
         }
 
@@ -82,7 +92,7 @@ public enum EasyPayProvider {
      * @return 한글명, 알 수 없으면 입력값 그대로 반환
      */
     public static String toKoreanName(String code) {
-        if (code == null || code.trim().isEmpty()) {
+        if (code == null || code.isBlank()) {
             return null;
         }
 
@@ -99,5 +109,9 @@ public enum EasyPayProvider {
     public static boolean isValid(String value) {
         return fromValue(value) != null;
     }
+
+    private static String normalize(String value) {
+        return value.trim().toUpperCase(Locale.ROOT);
+    }
 }
 
@@ -2,6 +2,10 @@ package com.example.rokdemo.toss.util;
 
 import lombok.Getter;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * 토스페이먼츠 결제 수단 enum
  * 토스페이먼츠 API가 반환하는 한글명을 영어 코드로 매핑
@@ -15,7 +19,10 @@ public enum PaymentMethod {
     MOBILE_PHONE("휴대폰", "휴대폰 소액결제"),
     CULTURE_GIFT_CERTIFICATE("문화상품권", "문화상품권"),
     BOOK_GIFT_CERTIFICATE("도서문화상품권", "도서문화상품권"),
-    GAME_GIFT_CERTIFICATE("게임문화상품권", "게임문화상품권");
+    GAME_GIFT_CERTIFICATE("게임문화상품권", "게임문화상품권"),
+
+    // 목록에 없는 결제 수단 (응답 파싱 시)
+    UNKNOWN("알 수 없음", "알 수 없는 결제 수단");
 
     private final String koreanName;
     private final String description;
@@ -25,6 +32,20 @@ public enum PaymentMethod {
         this.description = description;
     }
 
+    /**
+     * 영어 코드(enum name)/한글명 → PaymentMethod (대문자 기준, 클래스 로딩 시 한 번 생성)
+     */
+    private static final Map<String, PaymentMethod> BY_CODE = new HashMap<>();
+
+    static {
+        for (PaymentMethod method : values()) {
+            if (method != UNKNOWN) {
+                BY_CODE.put(normalize(method.name()), method);
+                BY_CODE.put(normalize(method.koreanName), method);
+            }
+        }
+    }
+
     /**
      * 한글명 또는 영어 코드로 PaymentMethod 조회
      * 
@@ -32,27 +53,16 @@ public enum PaymentMethod {
      * @return PaymentMethod enum 값, 없으면 null
      */
     public static PaymentMethod fromValue(String value) {
-        if (value == null || value.trim().isEmpty()) {
+        if (value == null || value.isBlank()) {
             return null;
         }
 
-        String trimmed = value.trim();
-
-        // 영어 코드로 조회 (enum name)
-        for (PaymentMethod method : PaymentMethod.values()) {
-            if (method.name().equalsIgnoreCase(trimmed)) {
-                return method;
-            }
-        }
-
-        // 한글명으로 조회
-        for (PaymentMethod method : PaymentMethod.values()) {
-            if (method.koreanName.equals(trimmed)) {
-                return method;
-            }
+        PaymentMethod method = BY_CODE.get(value);
+        if (method != null) {
+            return method;
         }
-
-        return null;
+        // 공백/소문자가 섞인 입력만 정규화해서 다시 조회
+        return BY_CODE.get(normalize(value));
     }
 
     /**
@@ -62,7 +72,7 @@ public enum PaymentMethod {
      * @return 영어 코드 (CARD, EASY_PAY 등), 알 수 없으면 입력값을 대문자로 반환
      */
     public static String toEnglishCode(String value) {
-        if (value == null || value.trim().isEmpty()) {
+        if (value == null || value.isBlank()) {
             return "UNKNOWN";
         }
 
@@ -82,7 +92,7 @@ public enum PaymentMethod {
      * @return 한글명, 알 수 없으면 입력값 그대로 반환
      */
     public static String toKoreanName(String code) {
-        if (code == null || code.trim().isEmpty()) {
+        if (code == null || code.isBlank()) {
             return code;
         }
 
@@ -99,5 +109,9 @@ public enum PaymentMethod {
     public static boolean isValid(String value) {
         return fromValue(value) != null;
     }
+
+    private static String normalize(String value) {
+        return value.trim().toUpperCase(Locale.ROOT);
+    }
 }
 
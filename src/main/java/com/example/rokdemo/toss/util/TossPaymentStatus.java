@@ -2,6 +2,10 @@ package com.example.rokdemo.toss.util;
 
 import lombok.Getter;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * 토스페이먼츠 결제 상태 enum
  */
@@ -21,7 +25,10 @@ public enum TossPaymentStatus {
     
     // 결제 실패
     ABORTED("ABORTED", "결제 승인 실패"),
-    EXPIRED("EXPIRED", "결제 만료");
+    EXPIRED("EXPIRED", "결제 만료"),
+
+    // 목록에 없는 상태 (응답 파싱 시)
+    UNKNOWN("UNKNOWN", "알 수 없음");
 
     private final String code;
     private final String description;
@@ -31,23 +38,35 @@ public enum TossPaymentStatus {
         this.description = description;
     }
 
+    /**
+     * 상태 코드 → TossPaymentStatus (대문자 기준, 클래스 로딩 시 한 번 생성)
+     */
+    private static final Map<String, TossPaymentStatus> BY_CODE = new HashMap<>();
+
+    static {
+        for (TossPaymentStatus status : values()) {
+            if (status != UNKNOWN) {
+                BY_CODE.put(normalize(status.code), status);
+            }
+        }
+    }
+
     /**
      * 상태 코드로 TossPaymentStatus 조회
      * @param code 상태 코드
      * @return TossPaymentStatus enum 값, 없으면 null
      */
     public static TossPaymentStatus fromCode(String code) {
-        if (code == null || code.trim().isEmpty()) {
+        if (code == null || code.isBlank()) {
             return null;
         }
 
-        for (TossPaymentStatus status : TossPaymentStatus.values()) {
-            if (status.code.equalsIgnoreCase(code.trim())) {
-                return status;
-            }
+        TossPaymentStatus status = BY_CODE.get(code);
+        if (status != null) {
+            return status;
         }
-
-        return null;
+        // 공백/소문자가 섞인 입력만 정규화해서 다시 조회
+        return BY_CODE.get(normalize(code));
     }
 
     /**
@@ -85,5 +104,26 @@ public enum TossPaymentStatus {
     public static boolean isInProgress(String code) {
         return READY.code.equals(code) || IN_PROGRESS.code.equals(code) || WAITING_FOR_DEPOSIT.code.equals(code);
     }
+
+    /**
+     * 종료 상태인지 확인 (이후 상태가 거의 바뀌지 않음)
+     * @param code 상태 코드
+     * @return 종료 상태 여부
+     */
+    public static boolean isTerminal(String code) {
+        return DONE.code.equals(code) || CANCELED.code.equals(code) || isFailed(code);
+    }
+
+    /**
+     * 종료 상태인지 확인 (이후 상태가 거의 바뀌지 않음)
+     * @return 종료 상태 여부
+     */
+    public boolean isTerminal() {
+        return this == DONE || this == CANCELED || this == ABORTED || this == EXPIRED;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toUpperCase(Locale.ROOT);
+    }
 }
 
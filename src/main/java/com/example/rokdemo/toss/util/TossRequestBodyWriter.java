@@ -0,0 +1,347 @@
+package com.example.rokdemo.toss.util;
+
+import com.example.rokdemo.toss.dto.TossBillingRequest;
+import com.example.rokdemo.toss.dto.TossCancelRequest;
+import com.example.rokdemo.toss.dto.TossPaymentRequest;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * 토스페이먼츠 API 요청 Body 직렬화 유틸리티
+ * 요청 DTO를 JsonObject 트리나 중간 문자열 없이 호출마다 만드는 작은 바이트 버퍼에 UTF-8 JSON으로 바로 기록한다.
+ * 요청은 대부분 가상 스레드에서 만들어지므로 스레드별 버퍼(ThreadLocal)를 두지 않는다
+ * (가상 스레드는 요청마다 새로 생기므로 재사용되지 않고 매번 버퍼와 인코더를 새로 할당하게 됨).
+ */
+public class TossRequestBodyWriter {
+
+    /**
+     * 버퍼 초기 크기 (요청 Body는 대부분 이 안에 들어감)
+     */
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    /**
+     * Refresh Token 요청 Body에서 값 외의 고정 부분 크기 (키 이름, 따옴표, 구분자)
+     */
+    private static final int REFRESH_TOKEN_BODY_OVERHEAD = 64;
+
+    /**
+     * 문자 하나가 차지할 수 있는 최대 바이트 수 (제어 문자를 6자리 유니코드 이스케이프로 기록하는 경우)
+     */
+    private static final int MAX_BYTES_PER_CHAR = 6;
+
+    private TossRequestBodyWriter() {
+    }
+
+    /**
+     * 결제 승인 요청 Body
+     *
+     * @param req 결제 승인 요청 정보
+     * @return UTF-8 JSON
+     */
+    public static byte[] write(TossPaymentRequest req) {
+        Utf8Buffer buffer = new Utf8Buffer(INITIAL_BUFFER_SIZE);
+        try {
+            JsonWriter json = new JsonWriter(buffer);
+            json.beginObject();
+            json.name("paymentKey").value(req.getPaymentKey());
+            json.name("orderId").value(req.getOrderId());
+            json.name("amount").value(req.getAmount());
+            json.endObject();
+            return buffer.finish(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 결제 취소 요청 Body
+     *
+     * @param req 결제 취소 요청 정보
+     * @return UTF-8 JSON
+     */
+    public static byte[] write(TossCancelRequest req) {
+        Utf8Buffer buffer = new Utf8Buffer(INITIAL_BUFFER_SIZE);
+        try {
+            JsonWriter json = new JsonWriter(buffer);
+            json.beginObject();
+            json.name("cancelReason").value(req.getCancelReason());
+
+            // 취소 금액이 지정된 경우 (부분 취소)
+            if (req.getCancelAmount() != null) {
+                json.name("cancelAmount").value(req.getCancelAmount());
+            }
+
+            // 환불 계좌 정보가 있는 경우 (가상계좌 결제 취소 시)
+            TossCancelRequest.RefundReceiveAccount account = req.getRefundReceiveAccount();
+            if (account != null) {
+                json.name("refundReceiveAccount").beginObject();
+                json.name("bank").value(account.getBank());
+                json.name("accountNumber").value(account.getAccountNumber());
+                json.name("holderName").value(account.getHolderName());
+                json.endObject();
+            }
+            json.endObject();
+            return buffer.finish(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 빌링 결제 요청 Body
+     *
+     * @param req 빌링 결제 요청 정보
+     * @return UTF-8 JSON
+     */
+    public static byte[] write(TossBillingRequest req) {
+        Utf8Buffer buffer = new Utf8Buffer(INITIAL_BUFFER_SIZE);
+        try {
+            JsonWriter json = new JsonWriter(buffer);
+            json.beginObject();
+            json.name("customerKey").value(req.getCustomerKey());
+            json.name("amount").value(req.getAmount());
+            json.name("orderId").value(req.getOrderId());
+            json.name("orderName").value(req.getOrderName());
+
+            // 선택 파라미터 추가
+            if (req.getCustomerEmail() != null && !req.getCustomerEmail().isEmpty()) {
+                json.name("customerEmail").value(req.getCustomerEmail());
+            }
+            if (req.getCustomerName() != null && !req.getCustomerName().isEmpty()) {
+                json.name("customerName").value(req.getCustomerName());
+            }
+            if (req.getCustomerMobilePhone() != null && !req.getCustomerMobilePhone().isEmpty()) {
+                json.name("customerMobilePhone").value(req.getCustomerMobilePhone());
+            }
+            if (req.getTaxFreeAmount() != null) {
+                json.name("taxFreeAmount").value(req.getTaxFreeAmount());
+            }
+            if (req.getCardInstallmentPlan() != null && req.getCardInstallmentPlan() > 0) {
+                json.name("cardInstallmentPlan").value(req.getCardInstallmentPlan());
+            }
+            json.endObject();
+            return buffer.finish(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 브랜드페이 Access Token 발급 요청 Body
+     *
+     * @param code 인증 코드
+     * @param customerKey 고객 식별자
+     * @return UTF-8 JSON
+     */
+    public static byte[] writeBrandPayToken(String code, String customerKey) {
+        Utf8Buffer buffer = new Utf8Buffer(INITIAL_BUFFER_SIZE);
+        try {
+            JsonWriter json = new JsonWriter(buffer);
+            json.beginObject();
+            json.name("grantType").value("AuthorizationCode");
+            json.name("code").value(code);
+            json.name("customerKey").value(customerKey);
+            json.endObject();
+            return buffer.finish(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 브랜드페이 Access Token 재발급 요청 Body (Refresh Token 사용)
+     * Refresh Token은 String을 만들지 않고 char[]에서 바로 인코딩하며, 작업 버퍼는 반환 전에 0으로 덮어쓴다.
+     * 버퍼가 중간에 커지며 토큰 일부가 담긴 이전 배열이 남지 않도록 최대 크기로 미리 할당한다.
+     *
+     * @param refreshToken 리프레시 토큰
+     * @param customerKey 고객 식별자
+     * @return UTF-8 JSON
+     */
+    public static byte[] writeBrandPayRefreshToken(char[] refreshToken, String customerKey) {
+        int customerKeyLength = customerKey != null ? customerKey.length() : 0;
+        Utf8Buffer buffer = new Utf8Buffer(REFRESH_TOKEN_BODY_OVERHEAD
+            + MAX_BYTES_PER_CHAR * (refreshToken.length + customerKeyLength));
+        try {
+            buffer.write("{\"grantType\":\"RefreshToken\",\"refreshToken\":");
+            writeJsonString(buffer, CharBuffer.wrap(refreshToken));
+            buffer.write(",\"customerKey\":");
+            if (customerKey != null) {
+                writeJsonString(buffer, customerKey);
+            } else {
+                buffer.write("null");
+            }
+            buffer.write('}');
+            return buffer.finishAndWipe();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * JSON 문자열 값 기록 (JsonWriter와 같은 규칙으로 이스케이프)
+     */
+    private static void writeJsonString(Writer out, CharSequence value) throws IOException {
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.write("\\\"");
+                    break;
+                case '\\':
+                    out.write("\\\\");
+                    break;
+                case '\t':
+                    out.write("\\t");
+                    break;
+                case '\b':
+                    out.write("\\b");
+                    break;
+                case '\n':
+                    out.write("\\n");
+                    break;
+                case '\r':
+                    out.write("\\r");
+                    break;
+                case '\f':
+                    out.write("\\f");
+                    break;
+                case '\u2028':
+                    out.write("\\u2028");
+                    break;
+                case '\u2029':
+                    out.write("\\u2029");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+            }
+        }
+        out.write('"');
+    }
+
+    /**
+     * UTF-8 바이트 버퍼 Writer
+     * OutputStreamWriter(StreamEncoder의 8KB 버퍼)를 거치지 않고 문자를 바로 UTF-8로 인코딩해 기록한다.
+     */
+    private static final class Utf8Buffer extends Writer {
+
+        private byte[] buf;
+        private int count;
+
+        /**
+         * 다음 문자와 짝을 이룰 상위 서로게이트 (없으면 0)
+         */
+        private char pendingHighSurrogate;
+
+        Utf8Buffer(int initialSize) {
+            this.buf = new byte[initialSize];
+        }
+
+        @Override
+        public void write(int c) {
+            writeChar((char) c);
+        }
+
+        @Override
+        public void write(char[] chars, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                writeChar(chars[i]);
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                writeChar(str.charAt(i));
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        byte[] finish(JsonWriter json) throws IOException {
+            json.flush();
+            if (pendingHighSurrogate != 0) {
+                pendingHighSurrogate = 0;
+                writeByte('?');
+            }
+            return Arrays.copyOf(buf, count);
+        }
+
+        /**
+         * 기록한 바이트를 돌려주고 작업 버퍼를 0으로 덮어쓴다 (민감 정보용)
+         */
+        byte[] finishAndWipe() {
+            if (pendingHighSurrogate != 0) {
+                pendingHighSurrogate = 0;
+                writeByte('?');
+            }
+            byte[] result = Arrays.copyOf(buf, count);
+            Arrays.fill(buf, (byte) 0);
+            return result;
+        }
+
+        private void writeChar(char c) {
+            if (pendingHighSurrogate != 0) {
+                char high = pendingHighSurrogate;
+                pendingHighSurrogate = 0;
+                if (Character.isLowSurrogate(c)) {
+                    int codePoint = Character.toCodePoint(high, c);
+                    ensureCapacity(4);
+                    buf[count++] = (byte) (0xF0 | (codePoint >> 18));
+                    buf[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buf[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buf[count++] = (byte) (0x80 | (codePoint & 0x3F));
+                    return;
+                }
+                // 짝이 없는 서로게이트는 String.getBytes(UTF_8)와 같이 '?'로 기록
+                writeByte('?');
+            }
+
+            if (c < 0x80) {
+                writeByte(c);
+            } else if (c < 0x800) {
+                ensureCapacity(2);
+                buf[count++] = (byte) (0xC0 | (c >> 6));
+                buf[count++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c)) {
+                pendingHighSurrogate = c;
+            } else if (Character.isLowSurrogate(c)) {
+                writeByte('?');
+            } else {
+                ensureCapacity(3);
+                buf[count++] = (byte) (0xE0 | (c >> 12));
+                buf[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[count++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+
+        private void writeByte(int b) {
+            ensureCapacity(1);
+            buf[count++] = (byte) b;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (count + extra > buf.length) {
+                byte[] grown = Arrays.copyOf(buf, Math.max(buf.length * 2, count + extra));
+                // 이전 배열에 민감 정보가 남지 않도록 버리기 전에 0으로 덮어쓴다
+                Arrays.fill(buf, 0, count, (byte) 0);
+                buf = grown;
+            }
+        }
+    }
+}
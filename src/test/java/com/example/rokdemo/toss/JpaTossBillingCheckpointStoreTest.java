@@ -0,0 +1,91 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.entity.Payment;
+import com.example.rokdemo.entity.User;
+import com.example.rokdemo.repository.PaymentRepository;
+import com.example.rokdemo.repository.UserRepository;
+import com.example.rokdemo.toss.dto.TossBillingRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Import(JpaTossBillingCheckpointStore.class)
+class JpaTossBillingCheckpointStoreTest {
+
+    @Autowired
+    private JpaTossBillingCheckpointStore checkpointStore;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String customerKey;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+            .username("billing-user")
+            .password("password")
+            .build());
+        customerKey = String.valueOf(user.getId());
+    }
+
+    @Test
+    void beginRecordsNewOrdersAsInProgress() {
+        List<TossBillingRequest> pending = checkpointStore.begin(List.of(
+            request("subscription_1", customerKey),
+            request("subscription_1", customerKey),
+            request("subscription_2", "not-a-user-id")));
+
+        assertThat(pending).extracting(TossBillingRequest::getOrderId).containsExactly("subscription_1");
+        assertThat(paymentRepository.findByOrderIdIn(List.of("subscription_1", "subscription_2")))
+            .singleElement()
+            .satisfies(payment -> {
+                assertThat(payment.getOrderId()).isEqualTo("subscription_1");
+                assertThat(payment.getStatus()).isEqualTo(Payment.PaymentStatus.IN_PROGRESS);
+                assertThat(payment.getAmount()).isEqualTo(9_900L);
+            });
+    }
+
+    @Test
+    void rerunResumesOnlyUnrecordedOrders() {
+        List<TossBillingRequest> requests = List.of(
+            request("subscription_1", customerKey),
+            request("subscription_2", customerKey),
+            request("subscription_3", customerKey));
+        checkpointStore.begin(requests);
+
+        checkpointStore.record(List.of(
+            TossBillingRunner.Outcome.success("subscription_1", "payment_key_1", "카드"),
+            TossBillingRunner.Outcome.failure("subscription_2", "REJECT_CARD_PAYMENT", "한도초과 혹은 잔액부족으로 결제에 실패했습니다.")));
+
+        List<TossBillingRequest> pending = checkpointStore.begin(requests);
+
+        assertThat(pending).extracting(TossBillingRequest::getOrderId).containsExactly("subscription_3");
+        assertThat(paymentRepository.findByOrderIdIn(List.of("subscription_1", "subscription_2")))
+            .extracting(Payment::getOrderId, Payment::getStatus, Payment::getPaymentKey)
+            .containsExactlyInAnyOrder(
+                tuple("subscription_1", Payment.PaymentStatus.DONE, "payment_key_1"),
+                tuple("subscription_2", Payment.PaymentStatus.FAILED, null));
+    }
+
+    private static TossBillingRequest request(String orderId, String customerKey) {
+        TossBillingRequest request = new TossBillingRequest();
+        request.setBillingKey("billing_key");
+        request.setCustomerKey(customerKey);
+        request.setOrderId(orderId);
+        request.setOrderName("정기구독");
+        request.setAmount(9_900);
+        return request;
+    }
+}
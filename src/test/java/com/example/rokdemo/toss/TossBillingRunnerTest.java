@@ -0,0 +1,136 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import com.example.rokdemo.toss.dto.TossBillingRequest;
+import com.example.rokdemo.toss.support.FakeTossServer;
+import com.example.rokdemo.toss.support.InMemoryTossBillingCheckpointStore;
+import com.example.rokdemo.toss.support.InMemoryTossIdempotencyKeyStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TossBillingRunnerTest {
+
+    private FakeTossServer server;
+    private TossPaymentService tossPaymentService;
+    private InMemoryTossBillingCheckpointStore checkpointStore;
+    private TossBillingRunner runner;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = FakeTossServer.start();
+
+        TossPaymentConfig config = new TossPaymentConfig();
+        server.configure(config);
+        config.getResilience().getBulkheads().put(TossOperation.BILLING, 8);
+        config.getBillingBatch().setConcurrency(8);
+        config.getBillingBatch().setRatePerSecond(1_000);
+        config.getBillingBatch().setChunkSize(50);
+        config.getRateLimit().setEnabled(false);
+
+        tossPaymentService = new TossPaymentService(config, new InMemoryTossIdempotencyKeyStore());
+        tossPaymentService.init();
+        checkpointStore = new InMemoryTossBillingCheckpointStore();
+        runner = new TossBillingRunner(tossPaymentService, checkpointStore, config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tossPaymentService.destroy();
+        server.close();
+    }
+
+    @Test
+    void chargesEveryRequestWithinConcurrencyLimit() {
+        server.latency(TossOperation.BILLING, FakeTossServer.Latency.uniform(10, 30));
+
+        TossBillingRunner.Report report = runner.run(requests(500).stream());
+
+        assertThat(report.getCharged()).isEqualTo(500);
+        assertThat(report.getErrors()).isEmpty();
+        assertThat(server.requestCount(TossOperation.BILLING)).isEqualTo(500);
+    }
+
+    @Test
+    void capsConcurrencyAtBillingBulkhead() {
+        TossPaymentConfig config = new TossPaymentConfig();
+        server.configure(config);
+        config.getResilience().getBulkheads().put(TossOperation.BILLING, 2);
+        config.getResilience().setBulkheadMaxWait(Duration.ofMillis(1));
+        config.getBillingBatch().setConcurrency(8);
+        config.getBillingBatch().setRatePerSecond(1_000);
+        config.getRateLimit().setEnabled(false);
+        TossPaymentService narrowService = new TossPaymentService(config, new InMemoryTossIdempotencyKeyStore());
+        narrowService.init();
+        server.latency(TossOperation.BILLING, FakeTossServer.Latency.fixed(30));
+        try {
+            TossBillingRunner.Report report = new TossBillingRunner(narrowService, checkpointStore, config)
+                .run(requests(20).stream());
+
+            // 격벽 한도를 넘겨 보냈다면 대기 1ms 안에 자리를 못 얻은 결제가 BULKHEAD_FULL로 남는다
+            assertThat(report.getCharged()).isEqualTo(20);
+            assertThat(report.getErrors()).isEmpty();
+            assertThat(narrowService.getBulkheadRejectedCount(TossOperation.BILLING)).isZero();
+        } finally {
+            narrowService.destroy();
+        }
+    }
+
+    @Test
+    void rerunSkipsCompletedOrders() {
+        List<TossBillingRequest> requests = requests(120);
+        runner.run(requests.stream());
+
+        TossBillingRunner.Report rerun = runner.run(requests.stream());
+
+        assertThat(rerun.getSkipped()).isEqualTo(120);
+        assertThat(rerun.getCharged()).isZero();
+        assertThat(server.requestCount(TossOperation.BILLING)).isEqualTo(120);
+    }
+
+    @Test
+    void undecidedChargeIsRetriedOnNextRun() {
+        server.inject(TossOperation.BILLING,
+            FakeTossServer.Fault.error(500, "FAILED_INTERNAL_SYSTEM_PROCESSING", "내부 시스템 처리 작업이 실패했습니다."));
+        List<TossBillingRequest> requests = requests(10);
+
+        TossBillingRunner.Report first = runner.run(requests.stream());
+        TossBillingRunner.Report second = runner.run(requests.stream());
+
+        assertThat(first.getCharged()).isEqualTo(9);
+        assertThat(first.getRetryLater()).isEqualTo(1);
+        assertThat(second.getSkipped()).isEqualTo(9);
+        assertThat(second.getCharged()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsNonPositiveSettings() {
+        TossPaymentConfig config = new TossPaymentConfig();
+        config.getBillingBatch().setRatePerSecond(0);
+        TossBillingRunner misconfigured = new TossBillingRunner(tossPaymentService, checkpointStore, config);
+
+        assertThatThrownBy(() -> misconfigured.run(requests(1).stream()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("ratePerSecond: 0");
+        assertThat(server.requestCount(TossOperation.BILLING)).isZero();
+    }
+
+    private static List<TossBillingRequest> requests(int count) {
+        return IntStream.range(0, count).mapToObj(i -> {
+            TossBillingRequest request = new TossBillingRequest();
+            request.setBillingKey("billing_key_" + i);
+            request.setCustomerKey(String.valueOf(i));
+            request.setOrderId("subscription_" + i);
+            request.setOrderName("정기구독");
+            request.setAmount(9_900);
+            return request;
+        }).toList();
+    }
+}
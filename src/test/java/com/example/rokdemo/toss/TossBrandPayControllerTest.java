@@ -0,0 +1,124 @@
+package com.example.rokdemo.toss;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TossBrandPayControllerTest {
+
+    /**
+     * Access Token 발급 API 대역
+     */
+    private static final HttpServer centralApi = startCentralApi();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void centralApiUrl(DynamicPropertyRegistry registry) {
+        registry.add("nc.api.url", () -> "http://localhost:" + centralApi.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopCentralApi() {
+        centralApi.stop(0);
+    }
+
+    @Test
+    @WithMockUser
+    void brandpayCallbackCompletesThroughAsyncDispatch() throws Exception {
+        MvcResult started = mockMvc.perform(get("/payment/toss/brandpay/callback")
+                .param("code", "auth-code")
+                .param("customerKey", "customer-1")
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // 응답은 ASYNC 디스패치로 다시 필터 체인을 지나간다 (인가에서 막히면 401/403)
+        mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.accessToken").value("bpac_test_access_token"));
+    }
+
+    @Test
+    @WithMockUser
+    void brandpayCallbackPassesTossErrorCodeAsClientError() throws Exception {
+        MvcResult started = mockMvc.perform(get("/payment/toss/brandpay/callback")
+                .param("code", "used-code")
+                .param("customerKey", "customer-1")
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("INVALID_CODE"))
+            .andExpect(jsonPath("$.message").value("이미 사용된 인증 코드입니다."));
+    }
+
+    @Test
+    @WithMockUser
+    void brandpayCallbackReportsCentralApiFailureAsServerError() throws Exception {
+        MvcResult started = mockMvc.perform(get("/payment/toss/brandpay/callback")
+                .param("code", "broken-code")
+                .param("customerKey", "customer-1")
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isInternalServerError())
+            .andExpect(jsonPath("$.code").value("CENTRAL_API_ERROR"));
+    }
+
+    private static HttpServer startCentralApi() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/auth/payment/toss/customerToken", exchange -> {
+                String query = exchange.getRequestURI().getQuery();
+                int status = 200;
+                String json = "{\"accessToken\":\"bpac_test_access_token\",\"refreshToken\":\"bprf_test\","
+                    + "\"tokenType\":\"bearer\",\"expiresIn\":2592000}";
+                if (query.contains("code=used-code")) {
+                    status = 400;
+                    json = "{\"code\":\"INVALID_CODE\",\"message\":\"이미 사용된 인증 코드입니다.\"}";
+                } else if (query.contains("code=broken-code")) {
+                    status = 502;
+                    json = "<html>Bad Gateway</html>";
+                }
+                byte[] body = json.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(status, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
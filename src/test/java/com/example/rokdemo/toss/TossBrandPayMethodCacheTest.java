@@ -0,0 +1,95 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import com.example.rokdemo.toss.dto.TossBrandPayMethodResponse;
+import com.example.rokdemo.toss.support.FakeTossServer;
+import com.example.rokdemo.toss.support.InMemoryTossIdempotencyKeyStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TossBrandPayMethodCacheTest {
+
+    private FakeTossServer server;
+    private TossPaymentConfig config;
+    private TossPaymentService tossPaymentService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = FakeTossServer.start();
+        config = new TossPaymentConfig();
+        server.configure(config);
+        config.getTailLatency().setHedgingEnabled(false);
+        config.getRateLimit().setEnabled(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (tossPaymentService != null) {
+            tossPaymentService.destroy();
+        }
+        server.close();
+    }
+
+    @Test
+    void servesCachedMethodsUntilInvalidated() {
+        start();
+
+        TossBrandPayMethodResponse first = tossPaymentService.getBrandPayMethods("customer-1");
+        assertThat(tossPaymentService.getBrandPayMethods("customer-1")).isSameAs(first);
+        assertThat(server.requestCount(TossOperation.BRANDPAY_METHODS)).isEqualTo(1);
+
+        // 결제수단 등록/삭제 후에는 다음 조회에서 새 목록을 받아야 한다
+        tossPaymentService.invalidateBrandPayMethods("customer-1");
+
+        assertThat(tossPaymentService.getBrandPayMethods("customer-1")).isNotSameAs(first);
+        assertThat(server.requestCount(TossOperation.BRANDPAY_METHODS)).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotCacheListFetchedBeforeInvalidation() throws Exception {
+        start();
+        server.latency(TossOperation.BRANDPAY_METHODS, FakeTossServer.Latency.fixed(300));
+
+        CompletableFuture<TossBrandPayMethodResponse> inFlight = tossPaymentService.getBrandPayMethodsAsync("customer-1");
+        awaitRequests(TossOperation.BRANDPAY_METHODS, 1);
+        tossPaymentService.invalidateBrandPayMethods("customer-1");
+        inFlight.get(5, TimeUnit.SECONDS);
+
+        server.reset();
+        tossPaymentService.getBrandPayMethods("customer-1");
+        assertThat(server.requestCount(TossOperation.BRANDPAY_METHODS)).isEqualTo(2);
+    }
+
+    @Test
+    void returnsStaleListWhileRefreshingInBackground() throws Exception {
+        config.getBrandPayMethodCache().setTtl(Duration.ofMillis(100));
+        config.getBrandPayMethodCache().setStaleWhileRevalidate(Duration.ofMinutes(5));
+        start();
+
+        TossBrandPayMethodResponse first = tossPaymentService.getBrandPayMethods("customer-1");
+        Thread.sleep(200);
+
+        assertThat(tossPaymentService.getBrandPayMethods("customer-1")).isSameAs(first);
+        awaitRequests(TossOperation.BRANDPAY_METHODS, 2);
+    }
+
+    private void start() {
+        tossPaymentService = new TossPaymentService(config, new InMemoryTossIdempotencyKeyStore());
+        tossPaymentService.init();
+    }
+
+    private void awaitRequests(TossOperation operation, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (server.requestCount(operation) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(server.requestCount(operation)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import com.example.rokdemo.toss.support.FakeTossServer;
+import com.example.rokdemo.toss.support.InMemoryTossIdempotencyKeyStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TossCallGuardTest {
+
+    private FakeTossServer server;
+    private TossPaymentConfig config;
+    private TossPaymentService tossPaymentService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = FakeTossServer.start();
+
+        config = new TossPaymentConfig();
+        server.configure(config);
+        config.getLookupCache().setEnabled(false);
+        config.getRateLimit().setEnabled(false);
+        config.getTailLatency().setHedgingEnabled(false);
+        config.getResilience().getBulkheads().put(TossOperation.LOOKUP, 2);
+        config.getResilience().setBulkheadMaxWait(Duration.ofMillis(50));
+        TossPaymentConfig.CircuitBreaker breaker = config.getResilience().getCircuitBreaker();
+        breaker.setWindowSize(10);
+        breaker.setMinimumCalls(4);
+        breaker.setFailureRateThreshold(50);
+        breaker.setOpenDuration(Duration.ofMillis(200));
+        breaker.setHalfOpenCalls(2);
+
+        tossPaymentService = new TossPaymentService(config, new InMemoryTossIdempotencyKeyStore());
+        tossPaymentService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tossPaymentService.destroy();
+        server.close();
+    }
+
+    @Test
+    void circuitOpensOnTossErrorsAndClosesAfterTrialCalls() throws InterruptedException {
+        server.inject(TossOperation.LOOKUP, FakeTossServer.Fault.error(500, "FAILED_INTERNAL_SYSTEM_PROCESSING", "일시적인 오류"), 1.0);
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> tossPaymentService.lookupPayment("pay_1")).isInstanceOf(TossPaymentException.class);
+        }
+        assertThat(tossPaymentService.getCircuitState(TossOperation.LOOKUP)).isEqualTo(TossCircuitBreaker.State.OPEN);
+
+        // 차단 중에는 토스를 호출하지 않고 바로 실패
+        assertThatThrownBy(() -> tossPaymentService.lookupPayment("pay_1"))
+            .isInstanceOfSatisfying(TossPaymentException.class,
+                e -> assertThat(e.getCode()).isEqualTo(TossErrorCode.CIRCUIT_OPEN));
+        assertThat(server.requestCount(TossOperation.LOOKUP)).isEqualTo(4);
+        assertThat(tossPaymentService.getCircuitRejectedCount(TossOperation.LOOKUP)).isEqualTo(1);
+
+        server.reset();
+        TimeUnit.MILLISECONDS.sleep(250);
+        tossPaymentService.lookupPayment("pay_1");
+        assertThat(tossPaymentService.getCircuitState(TossOperation.LOOKUP)).isEqualTo(TossCircuitBreaker.State.HALF_OPEN);
+        tossPaymentService.lookupPayment("pay_1");
+        assertThat(tossPaymentService.getCircuitState(TossOperation.LOOKUP)).isEqualTo(TossCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void businessErrorsDoNotOpenCircuit() {
+        server.inject(TossOperation.LOOKUP, FakeTossServer.Fault.error(404, "NOT_FOUND_PAYMENT", "존재하지 않는 결제 정보 입니다."), 1.0);
+        for (int i = 0; i < 6; i++) {
+            assertThatThrownBy(() -> tossPaymentService.lookupPayment("pay_2")).isInstanceOf(TossPaymentException.class);
+        }
+
+        assertThat(tossPaymentService.getCircuitState(TossOperation.LOOKUP)).isEqualTo(TossCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void bulkheadRejectsCallsBeyondLimitUnderContention() throws Exception {
+        server.latency(TossOperation.LOOKUP, FakeTossServer.Latency.fixed(300));
+
+        List<Future<?>> calls = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 6; i++) {
+                String paymentKey = "pay_contended_" + i;
+                calls.add(executor.submit(() -> tossPaymentService.lookupPayment(paymentKey)));
+            }
+        }
+
+        int succeeded = 0;
+        int rejected = 0;
+        for (Future<?> call : calls) {
+            try {
+                call.get();
+                succeeded++;
+            } catch (Exception e) {
+                assertThat(e.getCause()).isInstanceOfSatisfying(TossPaymentException.class,
+                    tossError -> assertThat(tossError.getCode()).isEqualTo(TossErrorCode.BULKHEAD_FULL));
+                rejected++;
+            }
+        }
+        assertThat(succeeded).isEqualTo(2);
+        assertThat(rejected).isEqualTo(4);
+        assertThat(server.requestCount(TossOperation.LOOKUP)).isEqualTo(2);
+        assertThat(tossPaymentService.getBulkheadRejectedCount(TossOperation.LOOKUP)).isEqualTo(4);
+        // 격벽 거절은 서킷 브레이커 실패로 집계하지 않는다
+        assertThat(tossPaymentService.getCircuitState(TossOperation.LOOKUP)).isEqualTo(TossCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void defaultBulkheadsLeaveConfirmShareOfConnections() {
+        TossPaymentConfig defaults = new TossPaymentConfig();
+        TossCallGuard guard = new TossCallGuard(defaults.getResilience(), defaults.getPool().getMaxPerRoute());
+
+        assertThat(guard.checkConnectionBudget(defaults.getPool().getMaxPerRoute())).isTrue();
+        // 호스트당 커넥션을 줄이면 결제 승인 몫이 남지 않는다
+        assertThat(guard.checkConnectionBudget(defaults.getPool().getMaxPerRoute() - 1)).isFalse();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.rokdemo.toss;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TossCircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void opensOnFailureRateOfSlidingWindow() {
+        TossCircuitBreaker breaker = breaker(4, 75, TimeUnit.SECONDS.toNanos(30));
+
+        breaker.onFailure(FAST);
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+        // 가장 오래된 실패가 밀려나 실패 0/4
+        breaker.onSuccess(FAST);
+        breaker.onFailure(FAST);
+        breaker.onFailure(FAST);
+        assertThat(breaker.getState()).isEqualTo(TossCircuitBreaker.State.CLOSED);
+
+        breaker.onFailure(FAST);
+        assertThat(breaker.getState()).isEqualTo(TossCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void opensOnSlowCallRate() {
+        TossCircuitBreaker breaker = breaker(4, 100, TimeUnit.SECONDS.toNanos(30));
+
+        for (int i = 0; i < 4; i++) {
+            breaker.onSuccess(SLOW);
+        }
+
+        assertThat(breaker.getState()).isEqualTo(TossCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void halfOpenClosesAfterTrialCallsSucceed() throws InterruptedException {
+        TossCircuitBreaker breaker = openBreaker();
+        TimeUnit.MILLISECONDS.sleep(20);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(TossCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+        // 시험 호출 수(2)를 넘는 호출은 거절
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+        assertThat(breaker.getState()).isEqualTo(TossCircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void halfOpenReopensOnFailure() throws InterruptedException {
+        TossCircuitBreaker breaker = openBreaker();
+        TimeUnit.MILLISECONDS.sleep(20);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure(FAST);
+
+        assertThat(breaker.getState()).isEqualTo(TossCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void ignoredTrialCallReturnsItsSlot() throws InterruptedException {
+        TossCircuitBreaker breaker = openBreaker();
+        TimeUnit.MILLISECONDS.sleep(20);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onIgnored();
+
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    private static TossCircuitBreaker openBreaker() {
+        TossCircuitBreaker breaker = breaker(4, 50, TimeUnit.MILLISECONDS.toNanos(10));
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure(FAST);
+        }
+        assertThat(breaker.getState()).isEqualTo(TossCircuitBreaker.State.OPEN);
+        return breaker;
+    }
+
+    private static TossCircuitBreaker breaker(int windowSize, int failureRateThreshold, long openNanos) {
+        return new TossCircuitBreaker(TossOperation.LOOKUP, windowSize, windowSize, failureRateThreshold, 100,
+            TimeUnit.MILLISECONDS.toNanos(500), openNanos, 2);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.service.PaymentService;
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import com.example.rokdemo.toss.dto.TossWebhookEvent;
+import com.example.rokdemo.toss.support.FakeTossServer;
+import com.example.rokdemo.toss.support.InMemoryTossIdempotencyKeyStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class TossClientMetricsTest {
+
+    private FakeTossServer server;
+    private TossPaymentService tossPaymentService;
+    private TossWebhookProcessor webhookProcessor;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = FakeTossServer.start();
+
+        TossPaymentConfig config = new TossPaymentConfig();
+        server.configure(config);
+        config.getLookupCache().setEnabled(false);
+        config.getTailLatency().setHedgingEnabled(false);
+        config.getRateLimit().setEnabled(false);
+        TossPaymentConfig.CircuitBreaker breaker = config.getResilience().getCircuitBreaker();
+        breaker.setMinimumCalls(2);
+        breaker.setOpenDuration(Duration.ofMinutes(1));
+
+        tossPaymentService = new TossPaymentService(config, new InMemoryTossIdempotencyKeyStore());
+        tossPaymentService.init();
+        webhookProcessor = new TossWebhookProcessor(tossPaymentService, mock(PaymentService.class), config);
+        webhookProcessor.init();
+
+        registry = new SimpleMeterRegistry();
+        new TossClientMetrics(tossPaymentService, webhookProcessor).bindTo(registry);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        webhookProcessor.destroy();
+        tossPaymentService.destroy();
+        server.close();
+    }
+
+    @Test
+    void exposesCircuitStateAndRejections() {
+        assertThat(circuitState("lookup", "closed")).isEqualTo(1.0);
+
+        server.inject(TossOperation.LOOKUP, FakeTossServer.Fault.error(500, "FAILED_INTERNAL_SYSTEM_PROCESSING", "일시적인 오류"), 1.0);
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> tossPaymentService.lookupPayment("pay_1")).isInstanceOf(TossPaymentException.class);
+        }
+
+        assertThat(circuitState("lookup", "closed")).isZero();
+        assertThat(circuitState("lookup", "open")).isEqualTo(1.0);
+        assertThat(registry.get("toss.calls.rejected").tags("operation", "lookup", "reason", "circuit_open")
+            .functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("toss.calls.rejected").tags("operation", "confirm", "reason", "bulkhead_full")
+            .functionCounter().count()).isZero();
+    }
+
+    @Test
+    void exposesCallAndWebhookCounters() throws InterruptedException {
+        assertThat(registry.get("toss.calls.coalesced").tag("operation", "lookup").functionCounter().count()).isZero();
+        assertThat(registry.get("toss.calls.hedged").tag("operation", "lookup").functionCounter().count()).isZero();
+        assertThat(registry.get("toss.calls.hedge_wins").tag("operation", "lookup").functionCounter().count()).isZero();
+        assertThat(registry.get("toss.calls.rate_limit.queued").tag("operation", "billing").functionCounter().count()).isZero();
+        assertThat(registry.get("toss.webhook.queue").tag("state", "pending").gauge().value()).isZero();
+        assertThat(registry.get("toss.webhook.queue").tag("state", "retrying").gauge().value()).isZero();
+
+        // 종료된 뒤 들어온 이벤트는 거절
+        webhookProcessor.destroy();
+        assertThat(webhookProcessor.offer(new TossWebhookEvent())).isFalse();
+        assertThat(registry.get("toss.webhook.events").tag("result", "rejected").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    private double circuitState(String operation, String state) {
+        return registry.get("toss.circuit.state").tags("operation", operation, "state", state).gauge().value();
+    }
+}
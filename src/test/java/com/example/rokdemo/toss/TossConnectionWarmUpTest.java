@@ -0,0 +1,99 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import com.example.rokdemo.toss.support.FakeTossServer;
+import com.example.rokdemo.toss.support.InMemoryTossIdempotencyKeyStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TossConnectionWarmUpTest {
+
+    private FakeTossServer server;
+    private TossPaymentService tossPaymentService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = FakeTossServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (tossPaymentService != null) {
+            tossPaymentService.destroy();
+        }
+        server.close();
+    }
+
+    @Test
+    void opensConnectionsAtStartupAndReusesThem() {
+        TossPaymentConfig config = config();
+        config.getPool().setWarmupConnections(3);
+        tossPaymentService = start(config);
+
+        assertThat(tossPaymentService.getPoolStats().getAvailable()).isEqualTo(3);
+        assertThat(tossPaymentService.getHandshakeCount()).isEqualTo(3);
+
+        tossPaymentService.lookupPayment("pay_1");
+        tossPaymentService.lookupPayment("pay_2");
+
+        // 첫 요청부터 미리 열어 둔 커넥션을 사용하므로 새로 연결하지 않는다
+        assertThat(tossPaymentService.getHandshakeCount()).isEqualTo(3);
+        assertThat(tossPaymentService.getPoolStats().getAvailable()).isEqualTo(3);
+    }
+
+    @Test
+    void startsEvenWhenWarmUpCannotConnect() throws Exception {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        TossPaymentConfig config = config();
+        config.setConfirmUrl("http://127.0.0.1:" + closedPort + "/v1/payments/confirm");
+        config.getPool().setWarmupConnections(3);
+        config.getPool().setWarmupTimeout(Duration.ofSeconds(2));
+        tossPaymentService = start(config);
+
+        assertThat(tossPaymentService.getPoolStats().getAvailable()).isZero();
+        assertThat(tossPaymentService.getHandshakeFailureCount()).isEqualTo(3);
+        // 조회는 다른 URL(대역 서버)이므로 그대로 동작한다
+        assertThat(tossPaymentService.lookupPayment("pay_1")).isNotNull();
+    }
+
+    @Test
+    void evictsIdleWarmedConnections() throws Exception {
+        TossPaymentConfig config = config();
+        config.getPool().setWarmupConnections(2);
+        config.getPool().setMaxIdleTime(Duration.ofMillis(200));
+        tossPaymentService = start(config);
+        assertThat(tossPaymentService.getPoolStats().getAvailable()).isEqualTo(2);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (tossPaymentService.getPoolStats().getAvailable() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertThat(tossPaymentService.getPoolStats().getAvailable()).isZero();
+    }
+
+    private TossPaymentConfig config() {
+        TossPaymentConfig config = new TossPaymentConfig();
+        server.configure(config);
+        config.getLookupCache().setEnabled(false);
+        config.getTailLatency().setHedgingEnabled(false);
+        config.getRateLimit().setEnabled(false);
+        return config;
+    }
+
+    private static TossPaymentService start(TossPaymentConfig config) {
+        TossPaymentService service = new TossPaymentService(config, new InMemoryTossIdempotencyKeyStore());
+        service.init();
+        return service;
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import com.example.rokdemo.toss.dto.TossPaymentRequest;
+import com.example.rokdemo.toss.dto.TossPaymentResponse;
+import com.example.rokdemo.toss.support.InMemoryTossIdempotencyKeyStore;
+import com.example.rokdemo.toss.util.TossPaymentStatus;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpVersion;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.util.Callback;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TossHttp2TransportTest {
+
+    private static final Gson gson = new Gson();
+
+    private Server server;
+    private final Queue<HttpVersion> versions = new ConcurrentLinkedQueue<>();
+    private final Set<SocketAddress> clientAddresses = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger gzipped = new AtomicInteger();
+    private TossPaymentService tossPaymentService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new Server();
+        HttpConfiguration httpConfig = new HttpConfiguration();
+        ServerConnector connector = new ServerConnector(server, new HttpConnectionFactory(httpConfig),
+            new HTTP2CServerConnectionFactory(httpConfig));
+        connector.setHost("127.0.0.1");
+        connector.setPort(0);
+        server.addConnector(connector);
+        server.setHandler(new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, Response response, Callback callback) throws Exception {
+                versions.add(request.getConnectionMetaData().getHttpVersion());
+                clientAddresses.add(request.getConnectionMetaData().getRemoteSocketAddress());
+                respond(request, response, callback);
+                return true;
+            }
+        });
+        server.start();
+
+        String baseUrl = "http://127.0.0.1:" + connector.getLocalPort();
+        TossPaymentConfig config = new TossPaymentConfig();
+        config.setSecretKey("test_sk_http2");
+        config.setConfirmUrl(baseUrl + "/v1/payments/confirm");
+        config.setLookupUrl(baseUrl + "/v1/payments/{paymentKey}");
+        config.setTransport(TossPaymentConfig.Transport.HTTP2);
+        config.getLookupCache().setEnabled(false);
+        config.getResilience().getBulkheads().put(TossOperation.LOOKUP, 20);
+        config.getTailLatency().setHedgingEnabled(false);
+        config.getRateLimit().setEnabled(false);
+        tossPaymentService = new TossPaymentService(config, new InMemoryTossIdempotencyKeyStore());
+        tossPaymentService.init();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        tossPaymentService.destroy();
+        server.stop();
+    }
+
+    @Test
+    void concurrentLookupsShareOneConnection() throws Exception {
+        // 첫 요청에서 h2c 업그레이드가 끝난 뒤의 동시 요청은 같은 커넥션의 스트림으로 나간다
+        assertThat(tossPaymentService.lookupPayment("pay_0").getStatus()).isEqualTo(TossPaymentStatus.DONE);
+
+        List<Future<TossPaymentResponse>> futures = new ArrayList<>();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 1; i <= 20; i++) {
+                String paymentKey = "pay_" + i;
+                futures.add(callers.submit(() -> tossPaymentService.lookupPayment(paymentKey)));
+            }
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).get(5, TimeUnit.SECONDS).getPaymentKey()).isEqualTo("pay_" + (i + 1));
+        }
+        assertThat(clientAddresses).hasSize(1);
+        assertThat(versions).hasSize(21).last().isEqualTo(HttpVersion.HTTP_2);
+        assertThat(gzipped).hasValue(21);
+    }
+
+    @Test
+    void confirmSendsBodyOverHttp2() {
+        tossPaymentService.lookupPayment("pay_warmup");
+
+        TossPaymentRequest request = new TossPaymentRequest();
+        request.setPaymentKey("pay_confirm");
+        request.setOrderId("order_confirm");
+        request.setAmount(1000);
+        TossPaymentResponse response = tossPaymentService.confirmPayment(request);
+
+        assertThat(response.getPaymentKey()).isEqualTo("pay_confirm");
+        assertThat(response.getOrderId()).isEqualTo("order_confirm");
+        assertThat(response.getTotalAmount()).isEqualTo(1000);
+        assertThat(versions).last().isEqualTo(HttpVersion.HTTP_2);
+    }
+
+    /**
+     * 결제 조회/승인 응답 (Accept-Encoding: gzip이면 압축해서 응답)
+     */
+    private void respond(Request request, Response response, Callback callback) throws IOException {
+        JsonObject payment = new JsonObject();
+        String path = Request.getPathInContext(request);
+        if (path.endsWith("/confirm")) {
+            JsonObject body = gson.fromJson(Content.Source.asString(request, StandardCharsets.UTF_8), JsonObject.class);
+            payment.addProperty("paymentKey", body.get("paymentKey").getAsString());
+            payment.addProperty("orderId", body.get("orderId").getAsString());
+            payment.addProperty("totalAmount", body.get("amount").getAsInt());
+        } else {
+            // 동시 조회가 서로 겹치도록 응답을 잠시 늦춘다
+            sleep(50);
+            payment.addProperty("paymentKey", path.substring(path.lastIndexOf('/') + 1));
+            payment.addProperty("orderId", "order");
+            payment.addProperty("totalAmount", 1000);
+        }
+        payment.addProperty("status", "DONE");
+        byte[] json = payment.toString().getBytes(StandardCharsets.UTF_8);
+
+        response.getHeaders().put(HttpHeader.CONTENT_TYPE, "application/json");
+        String acceptEncoding = request.getHeaders().get(HttpHeader.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(json);
+            }
+            json = compressed.toByteArray();
+            response.getHeaders().put(HttpHeader.CONTENT_ENCODING, "gzip");
+            gzipped.incrementAndGet();
+        }
+        response.write(true, ByteBuffer.wrap(json), callback);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import com.example.rokdemo.toss.dto.TossCancelRequest;
+import com.example.rokdemo.toss.dto.TossPaymentResponse;
+import com.example.rokdemo.toss.support.FakeTossServer;
+import com.example.rokdemo.toss.support.InMemoryTossIdempotencyKeyStore;
+import com.example.rokdemo.toss.util.TossPaymentStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TossPaymentLookupCacheTest {
+
+    @Test
+    void keepsTerminalPaymentsLongerThanPendingOnes() throws Exception {
+        TossPaymentLookupCache cache = new TossPaymentLookupCache(settings(Duration.ofMinutes(10), Duration.ofMillis(100)));
+
+        cache.put("pay_done", payment("pay_done", TossPaymentStatus.DONE), cache.generation());
+        cache.put("pay_waiting", payment("pay_waiting", TossPaymentStatus.WAITING_FOR_DEPOSIT), cache.generation());
+        assertThat(cache.get("pay_waiting")).isNotNull();
+
+        Thread.sleep(300);
+
+        assertThat(cache.get("pay_done")).isNotNull();
+        assertThat(cache.get("pay_waiting")).isNull();
+    }
+
+    @Test
+    void dropsResultOfLookupStartedBeforeInvalidation() {
+        TossPaymentLookupCache cache = new TossPaymentLookupCache(settings(Duration.ofMinutes(10), Duration.ofMinutes(10)));
+
+        long startGeneration = cache.generation();
+        cache.invalidate("pay_1");
+        cache.put("pay_1", payment("pay_1", TossPaymentStatus.DONE), startGeneration);
+        assertThat(cache.get("pay_1")).isNull();
+
+        cache.put("pay_1", payment("pay_1", TossPaymentStatus.CANCELED), cache.generation());
+        assertThat(cache.get("pay_1").getStatus()).isEqualTo(TossPaymentStatus.CANCELED);
+    }
+
+    @Test
+    void cancelDuringLookupDoesNotCacheOldStatus() throws Exception {
+        try (FakeTossServer server = FakeTossServer.start()) {
+            TossPaymentConfig config = new TossPaymentConfig();
+            server.configure(config);
+            config.getRateLimit().setEnabled(false);
+            config.getTailLatency().setHedgingEnabled(false);
+            TossPaymentService service = new TossPaymentService(config, new InMemoryTossIdempotencyKeyStore());
+            service.init();
+            try {
+                assertThat(service.lookupPayment("pay_1").getStatus()).isEqualTo(TossPaymentStatus.DONE);
+                assertThat(service.lookupPayment("pay_1").getStatus()).isEqualTo(TossPaymentStatus.DONE);
+                assertThat(server.requestCount(TossOperation.LOOKUP)).isEqualTo(1);
+
+                // 취소 직전에 시작된 조회가 취소 후에 DONE 응답을 받아도 캐시에 남지 않아야 한다
+                service.invalidateLookupCache("pay_1");
+                server.latency(TossOperation.LOOKUP, FakeTossServer.Latency.fixed(300));
+                CompletableFuture<TossPaymentResponse> slowLookup = CompletableFuture.supplyAsync(() -> service.lookupPayment("pay_1"));
+                awaitRequests(server, TossOperation.LOOKUP, 2);
+                TossCancelRequest cancel = new TossCancelRequest();
+                cancel.setCancelReason("고객 변심");
+                service.cancelPayment("pay_1", cancel);
+                slowLookup.get(5, TimeUnit.SECONDS);
+
+                server.reset();
+                assertThat(service.lookupPayment("pay_1").getStatus()).isEqualTo(TossPaymentStatus.CANCELED);
+                assertThat(server.requestCount(TossOperation.LOOKUP)).isEqualTo(3);
+            } finally {
+                service.destroy();
+            }
+        }
+    }
+
+    private static TossPaymentConfig.LookupCache settings(Duration terminalTtl, Duration pendingTtl) {
+        TossPaymentConfig.LookupCache settings = new TossPaymentConfig.LookupCache();
+        settings.setTerminalTtl(terminalTtl);
+        settings.setPendingTtl(pendingTtl);
+        return settings;
+    }
+
+    private static TossPaymentResponse payment(String paymentKey, TossPaymentStatus status) {
+        TossPaymentResponse payment = new TossPaymentResponse();
+        payment.setPaymentKey(paymentKey);
+        payment.setStatus(status);
+        return payment;
+    }
+
+    private static void awaitRequests(FakeTossServer server, TossOperation operation, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (server.requestCount(operation) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(server.requestCount(operation)).isEqualTo(expected);
+    }
+}
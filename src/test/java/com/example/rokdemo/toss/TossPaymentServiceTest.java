@@ -0,0 +1,173 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import com.example.rokdemo.toss.dto.TossCancelRequest;
+import com.example.rokdemo.toss.dto.TossCancelResponse;
+import com.example.rokdemo.toss.dto.TossPaymentLookupResult;
+import com.example.rokdemo.toss.dto.TossPaymentRequest;
+import com.example.rokdemo.toss.dto.TossPaymentResponse;
+import com.example.rokdemo.toss.support.FakeTossServer;
+import com.example.rokdemo.toss.support.InMemoryTossIdempotencyKeyStore;
+import com.example.rokdemo.toss.support.TossLoadHarness;
+import com.example.rokdemo.toss.util.TossPaymentStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TossPaymentServiceTest {
+
+    private FakeTossServer server;
+    private TossPaymentService tossPaymentService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = FakeTossServer.start();
+
+        TossPaymentConfig config = new TossPaymentConfig();
+        server.configure(config);
+        config.getLookupCache().setEnabled(false);
+        config.getResilience().getBulkheads().put(TossOperation.LOOKUP, 20);
+        // 플랫폼 스레드 모드에서는 조회마다 헤지 실행기 스레드를 쓰므로 CPU가 적은 환경에서 격벽 대기가 길어질 수 있다
+        config.getResilience().setBulkheadMaxWait(Duration.ofSeconds(2));
+        config.getRateLimit().setEnabled(false);
+
+        tossPaymentService = new TossPaymentService(config, new InMemoryTossIdempotencyKeyStore());
+        tossPaymentService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tossPaymentService.destroy();
+        server.close();
+    }
+
+    @Test
+    void confirmRetriesDroppedConnectionWithSameIdempotencyKey() {
+        server.inject(TossOperation.CONFIRM, FakeTossServer.Fault.drop());
+
+        TossPaymentResponse response = tossPaymentService.confirmPayment(confirmRequest("pay_1", "order_1"));
+
+        assertThat(response.getStatus()).isEqualTo(TossPaymentStatus.DONE);
+        assertThat(server.requestCount(TossOperation.CONFIRM)).isEqualTo(2);
+    }
+
+    @Test
+    void cancelTwiceReportsAlreadyCanceled() {
+        tossPaymentService.confirmPayment(confirmRequest("pay_2", "order_2"));
+        TossCancelRequest cancel = new TossCancelRequest();
+        cancel.setCancelReason("고객 변심");
+        tossPaymentService.cancelPayment("pay_2", cancel);
+
+        assertThatThrownBy(() -> tossPaymentService.cancelPayment("pay_2", cancel))
+            .isInstanceOfSatisfying(TossPaymentException.class, e -> {
+                assertThat(e.isAlreadyCanceled()).isTrue();
+                assertThat(e.getCode()).isEqualTo(TossErrorCode.ALREADY_CANCELED_PAYMENT);
+                assertThat(e.isBusinessError()).isTrue();
+                assertThat(e.getStackTrace()).isEmpty();
+            });
+    }
+
+    @Test
+    void asyncRequestBuildFailureCompletesFuture() {
+        TossCancelRequest cancel = mock(TossCancelRequest.class);
+        when(cancel.getRefundReceiveAccount()).thenThrow(new IllegalStateException("broken request"));
+
+        CompletableFuture<TossCancelResponse> future = tossPaymentService.cancelPaymentAsync("pay_3", cancel);
+
+        assertThat(future).failsWithin(Duration.ofSeconds(1))
+            .withThrowableOfType(ExecutionException.class)
+            .havingCause()
+            .isInstanceOfSatisfying(TossPaymentException.class,
+                e -> assertThat(e.getCode()).isEqualTo(TossErrorCode.REQUEST_BUILD_ERROR));
+        assertThat(server.requestCount(TossOperation.CANCEL)).isZero();
+    }
+
+    @Test
+    void concurrentLookupsUnderLatency() throws Exception {
+        server.latency(TossOperation.LOOKUP, FakeTossServer.Latency.uniform(5, 15));
+
+        TossLoadHarness.Report report = TossLoadHarness.run(50, 4, i -> tossPaymentService.lookupPayment("pay_" + i));
+
+        assertThat(report.getCalls()).isEqualTo(200);
+        assertThat(report.getErrors()).isEmpty();
+        assertThat(report.getP50Millis()).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    void bulkLookupBoundsConcurrentRequests() {
+        TossPaymentConfig config = new TossPaymentConfig();
+        server.configure(config);
+        config.setBulkLookupConcurrency(3);
+        config.getLookupCache().setEnabled(false);
+        config.getTailLatency().setHedgingEnabled(false);
+        config.getRateLimit().setEnabled(false);
+        TossPaymentService bulkService = new TossPaymentService(config, new InMemoryTossIdempotencyKeyStore());
+        bulkService.init();
+        server.latency(TossOperation.LOOKUP, FakeTossServer.Latency.fixed(50));
+        List<String> paymentKeys = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            paymentKeys.add("pay_bulk_" + i);
+        }
+        paymentKeys.add(null);
+        paymentKeys.add("pay_bulk_0");
+
+        try {
+            Map<String, TossPaymentLookupResult> results = bulkService.lookupPayments(paymentKeys);
+
+            assertThat(results.keySet()).containsExactlyElementsOf(paymentKeys.subList(0, 12));
+            assertThat(results.values()).allSatisfy(result -> assertThat(result.isSuccess()).isTrue());
+            assertThat(server.requestCount(TossOperation.LOOKUP)).isEqualTo(12);
+            assertThat(server.maxConcurrentRequests(TossOperation.LOOKUP)).isBetween(2, 3);
+        } finally {
+            bulkService.destroy();
+        }
+    }
+
+    @Test
+    void bulkLookupThreadsFollowExecutionMode() throws Exception {
+        assertThat(lookupThreads(tossPaymentService)).allSatisfy(thread -> {
+            assertThat(thread.isVirtual()).isFalse();
+            assertThat(thread.getName()).startsWith("toss-lookup-");
+        });
+
+        TossPaymentConfig config = new TossPaymentConfig();
+        server.configure(config);
+        config.setVirtualThreads(true);
+        config.getRateLimit().setEnabled(false);
+        TossPaymentService virtualService = new TossPaymentService(config, new InMemoryTossIdempotencyKeyStore());
+        virtualService.init();
+        try {
+            assertThat(lookupThreads(virtualService)).allSatisfy(thread -> assertThat(thread.isVirtual()).isTrue());
+        } finally {
+            virtualService.destroy();
+        }
+    }
+
+    private static List<Thread> lookupThreads(TossPaymentService service) {
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        service.lookupPayments(List.of("pay_a", "pay_b", "pay_c"), result -> threads.add(Thread.currentThread()));
+        assertThat(threads).hasSize(3);
+        return threads;
+    }
+
+    private static TossPaymentRequest confirmRequest(String paymentKey, String orderId) {
+        TossPaymentRequest request = new TossPaymentRequest();
+        request.setPaymentKey(paymentKey);
+        request.setOrderId(orderId);
+        request.setAmount(1000);
+        return request;
+    }
+}
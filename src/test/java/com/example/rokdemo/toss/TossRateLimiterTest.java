@@ -0,0 +1,71 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TossRateLimiterTest {
+
+    @Test
+    void failsFastWhenOperationBudgetIsExhausted() {
+        TossRateLimiter limiter = new TossRateLimiter(settings(100, 2));
+
+        limiter.tryAcquire(TossOperation.LOOKUP);
+        limiter.tryAcquire(TossOperation.LOOKUP);
+
+        assertThatThrownBy(() -> limiter.tryAcquire(TossOperation.LOOKUP))
+            .isInstanceOfSatisfying(TossPaymentException.class,
+                e -> assertThat(e.getCode()).isEqualTo(TossErrorCode.RATE_LIMITED));
+        assertThatCode(() -> limiter.tryAcquire(TossOperation.CONFIRM)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void backgroundCallsLeaveUserShareOfGlobalBudget() {
+        TossRateLimiter limiter = new TossRateLimiter(settings(10, 100));
+
+        for (int i = 0; i < 5; i++) {
+            TossRateLimiter.callAs(TossRateLimiter.Priority.BACKGROUND, Duration.ZERO, () -> {
+                limiter.acquire(TossOperation.BILLING);
+                return null;
+            });
+        }
+
+        assertThatThrownBy(() -> TossRateLimiter.callAs(TossRateLimiter.Priority.BACKGROUND, Duration.ZERO, () -> {
+            limiter.acquire(TossOperation.BILLING);
+            return null;
+        })).isInstanceOf(TossPaymentException.class);
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire(TossOperation.CONFIRM);
+        }
+    }
+
+    @Test
+    void countsCallsThatWaitedForToken() {
+        TossRateLimiter limiter = new TossRateLimiter(settings(100, 20));
+
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire(TossOperation.LOOKUP);
+        }
+        assertThat(limiter.getQueuedCount(TossOperation.LOOKUP)).isZero();
+
+        TossRateLimiter.callAs(TossRateLimiter.Priority.USER, Duration.ofSeconds(1), () -> {
+            limiter.acquire(TossOperation.LOOKUP);
+            return null;
+        });
+        assertThat(limiter.getQueuedCount(TossOperation.LOOKUP)).isEqualTo(1);
+        assertThat(limiter.getRejectedCount(TossOperation.LOOKUP)).isZero();
+    }
+
+    private static TossPaymentConfig.RateLimit settings(int globalPerSecond, int perOperation) {
+        TossPaymentConfig.RateLimit settings = new TossPaymentConfig.RateLimit();
+        settings.setGlobalPerSecond(globalPerSecond);
+        settings.setBackgroundSharePercent(50);
+        settings.getPerSecond().replaceAll((operation, limit) -> perOperation);
+        return settings;
+    }
+}
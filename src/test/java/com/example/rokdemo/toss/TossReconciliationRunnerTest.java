@@ -0,0 +1,118 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.config.JpaConfig;
+import com.example.rokdemo.dto.PaymentReconciliation;
+import com.example.rokdemo.entity.Payment;
+import com.example.rokdemo.entity.User;
+import com.example.rokdemo.repository.PaymentRepository;
+import com.example.rokdemo.repository.UserRepository;
+import com.example.rokdemo.service.PaymentService;
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import com.example.rokdemo.toss.dto.TossCancelRequest;
+import com.example.rokdemo.toss.support.FakeTossServer;
+import com.example.rokdemo.toss.support.InMemoryTossIdempotencyKeyStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({PaymentService.class, JpaConfig.class})
+class TossReconciliationRunnerTest {
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    private FakeTossServer server;
+    private TossPaymentService tossPaymentService;
+    private TossReconciliationRunner runner;
+    private User user;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = FakeTossServer.start();
+
+        TossPaymentConfig config = new TossPaymentConfig();
+        server.configure(config);
+        config.getRateLimit().setEnabled(false);
+        config.getReconciliation().setPageSize(2);
+
+        tossPaymentService = new TossPaymentService(config, new InMemoryTossIdempotencyKeyStore());
+        tossPaymentService.init();
+        runner = new TossReconciliationRunner(tossPaymentService, paymentRepository, paymentService, config);
+        user = userRepository.save(User.builder().username("reconcile-user").password("password").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        tossPaymentService.destroy();
+        server.close();
+    }
+
+    @Test
+    void fixesCancellationMissedLocally() {
+        Payment canceled = save("pay_1", Payment.PaymentStatus.DONE);
+        Payment matched = save("pay_2", Payment.PaymentStatus.DONE);
+        Payment partiallyCanceled = save("pay_3", Payment.PaymentStatus.DONE);
+        cancel("pay_1", null);
+        cancel("pay_3", 400);
+
+        TossReconciliationRunner.Report report = runner.run(LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+
+        assertThat(report.getScanned()).isEqualTo(3);
+        assertThat(report.getMatched()).isEqualTo(1);
+        assertThat(report.getFixed()).isEqualTo(2);
+        assertThat(canceled.getStatus()).isEqualTo(Payment.PaymentStatus.CANCELED);
+        assertThat(canceled.getCanceledAmount()).isEqualTo(1_000L);
+        assertThat(canceled.getCanceledAt()).isNotNull();
+        assertThat(partiallyCanceled.getStatus()).isEqualTo(Payment.PaymentStatus.PARTIAL_CANCELED);
+        assertThat(partiallyCanceled.getCanceledAmount()).isEqualTo(400L);
+        assertThat(matched.getStatus()).isEqualTo(Payment.PaymentStatus.DONE);
+    }
+
+    @Test
+    void skipsFixWhenRowChangedAfterCompare() {
+        Payment payment = save("pay_4", Payment.PaymentStatus.DONE);
+        // 비교 이후 웹훅이 먼저 부분 취소를 반영한 경우
+        payment.applyCancellation(Payment.PaymentStatus.PARTIAL_CANCELED, 200L, "웹훅", LocalDateTime.now());
+
+        int applied = paymentService.applyReconciliation(List.of(new PaymentReconciliation(payment.getId(),
+            Payment.PaymentStatus.DONE, null, Payment.PaymentStatus.CANCELED, null, 1_000L, LocalDateTime.now())));
+
+        assertThat(applied).isZero();
+        assertThat(payment.getStatus()).isEqualTo(Payment.PaymentStatus.PARTIAL_CANCELED);
+        assertThat(payment.getCanceledAmount()).isEqualTo(200L);
+    }
+
+    private Payment save(String paymentKey, Payment.PaymentStatus status) {
+        Payment payment = Payment.builder()
+            .user(user)
+            .orderId("order-" + paymentKey)
+            .orderName("테스트 주문")
+            .amount(1_000L)
+            .status(status)
+            .build();
+        payment.approve(paymentKey, "카드", LocalDateTime.now());
+        return paymentRepository.save(payment);
+    }
+
+    private void cancel(String paymentKey, Integer amount) {
+        TossCancelRequest request = new TossCancelRequest();
+        request.setCancelReason("고객 변심");
+        request.setCancelAmount(amount);
+        tossPaymentService.cancelPayment(paymentKey, request);
+    }
+}
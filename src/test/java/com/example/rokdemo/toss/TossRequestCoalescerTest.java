@@ -0,0 +1,66 @@
+package com.example.rokdemo.toss;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TossRequestCoalescerTest {
+
+    private final TossRequestCoalescer coalescer = new TossRequestCoalescer();
+
+    @Test
+    void mergesConcurrentIdenticalTokenExchanges() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() ->
+            coalescer.execute(TossOperation.BRANDPAY_TOKEN, "AuthorizationCode:customer-1:code-1", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "token-1";
+            }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() ->
+            coalescer.execute(TossOperation.BRANDPAY_TOKEN, "AuthorizationCode:customer-1:code-1", () -> {
+                calls.incrementAndGet();
+                return "token-2";
+            }));
+        while (coalescer.getCollapsedCount(TossOperation.BRANDPAY_TOKEN) == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("token-1");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("token-1");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void rejectsOperationsThatMustNotBeMerged() {
+        for (TossOperation operation : new TossOperation[] {TossOperation.CONFIRM, TossOperation.CANCEL, TossOperation.BILLING}) {
+            assertThatThrownBy(() -> coalescer.execute(operation, "key", () -> "result"))
+                .as(operation.name())
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> coalescer.executeAsync(operation, "key", () -> CompletableFuture.completedFuture("result")))
+                .as(operation.name())
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
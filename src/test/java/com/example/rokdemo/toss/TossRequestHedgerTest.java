@@ -0,0 +1,59 @@
+package com.example.rokdemo.toss;
+
+import org.apache.http.client.methods.HttpGet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TossRequestHedgerTest {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void hedgedCallKeepsBackgroundPriority() {
+        TossLatencyTracker latencyTracker = new TossLatencyTracker(20, 5);
+        for (int i = 0; i < 10; i++) {
+            latencyTracker.record(TossOperation.LOOKUP, TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        TossRequestHedger hedger = new TossRequestHedger(latencyTracker, executor, TimeUnit.MILLISECONDS.toNanos(1), 100);
+
+        List<TossRateLimiter.Priority> priorities = new CopyOnWriteArrayList<>();
+        AtomicInteger calls = new AtomicInteger();
+        String result = TossRateLimiter.callAs(TossRateLimiter.Priority.BACKGROUND, null,
+            () -> hedger.execute(TossOperation.LOOKUP, () -> new HttpGet("http://localhost/"), request -> {
+                priorities.add(TossRateLimiter.currentPriority());
+                if (calls.incrementAndGet() == 1) {
+                    // 첫 요청은 p95를 넘겨 헤지 요청이 나가게 한다
+                    sleep(500);
+                    return "primary";
+                }
+                return "hedge";
+            }));
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(hedger.getHedgedCount(TossOperation.LOOKUP)).isEqualTo(1);
+        assertThat(hedger.getHedgeWinCount(TossOperation.LOOKUP)).isEqualTo(1);
+        assertThat(priorities).containsExactly(TossRateLimiter.Priority.BACKGROUND, TossRateLimiter.Priority.BACKGROUND);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.rokdemo.toss;
+
+import com.example.rokdemo.dto.PaymentStatusChange;
+import com.example.rokdemo.entity.Payment;
+import com.example.rokdemo.service.PaymentService;
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import com.example.rokdemo.toss.dto.TossCancelRequest;
+import com.example.rokdemo.toss.dto.TossPaymentResponse;
+import com.example.rokdemo.toss.dto.TossWebhookEvent;
+import com.example.rokdemo.toss.support.FakeTossServer;
+import com.example.rokdemo.toss.support.InMemoryTossIdempotencyKeyStore;
+import com.example.rokdemo.toss.util.TossPaymentStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TossWebhookProcessorTest {
+
+    private FakeTossServer server;
+    private TossPaymentService tossPaymentService;
+    private PaymentService paymentService;
+    private TossWebhookProcessor processor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = FakeTossServer.start();
+
+        TossPaymentConfig config = new TossPaymentConfig();
+        server.configure(config);
+        config.getRateLimit().setEnabled(false);
+        config.getLookupCache().setEnabled(false);
+        config.getWebhook().setBatchWait(Duration.ofMillis(20));
+        config.getWebhook().setMaxAttempts(2);
+        config.getWebhook().setVerifyMaxAttempts(2);
+        config.getWebhook().setVerifyRetryBackoff(Duration.ofMillis(10));
+
+        tossPaymentService = new TossPaymentService(config, new InMemoryTossIdempotencyKeyStore());
+        tossPaymentService.init();
+        paymentService = mock(PaymentService.class);
+        processor = new TossWebhookProcessor(tossPaymentService, paymentService, config);
+        processor.init();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        processor.destroy();
+        tossPaymentService.destroy();
+        server.close();
+    }
+
+    @Test
+    void appliesLookedUpPaymentInsteadOfWebhookBody() {
+        TossCancelRequest cancel = new TossCancelRequest();
+        cancel.setCancelReason("부분 환불");
+        cancel.setCancelAmount(300);
+        tossPaymentService.cancelPayment("pay_1", cancel);
+
+        // 웹훅 본문은 전액 취소라고 주장하지만 토스 조회 결과는 부분 취소
+        processor.offer(event("pay_1", "order-pay_1", TossPaymentStatus.CANCELED));
+
+        ArgumentCaptor<List<PaymentStatusChange>> changes = listCaptor();
+        verify(paymentService, timeout(5_000)).applyStatusChanges(changes.capture());
+        assertThat(changes.getValue()).singleElement().satisfies(change -> {
+            assertThat(change.getStatus()).isEqualTo(Payment.PaymentStatus.PARTIAL_CANCELED);
+            assertThat(change.getCanceledAmount()).isEqualTo(300L);
+            assertThat(change.getCancelReason()).isEqualTo("부분 환불");
+            assertThat(change.getCanceledAt()).isNotNull();
+        });
+    }
+
+    @Test
+    void dropsEventWhoseOrderIdDoesNotMatchLookup() {
+        processor.offer(event("pay_2", "someone-elses-order", TossPaymentStatus.CANCELED));
+
+        awaitCount(processor::getFailedCount, 1);
+        verify(paymentService, timeout(200).times(0)).applyStatusChanges(anyList());
+    }
+
+    @Test
+    void retriesVerificationAfterTransientLookupFailure() {
+        server.inject(TossOperation.LOOKUP, FakeTossServer.Fault.error(500, "FAILED_INTERNAL_SYSTEM_PROCESSING", "일시적인 오류"));
+
+        processor.offer(event("pay_5", "order-pay_5", TossPaymentStatus.DONE));
+
+        awaitCount(processor::getAppliedCount, 1);
+        assertThat(processor.getRetriedCount()).isEqualTo(1);
+        assertThat(processor.getFailedCount()).isZero();
+        assertThat(server.requestCount(TossOperation.LOOKUP)).isEqualTo(2);
+    }
+
+    @Test
+    void givesUpVerificationAfterMaxAttempts() {
+        FakeTossServer.Fault outage = FakeTossServer.Fault.error(500, "FAILED_INTERNAL_SYSTEM_PROCESSING", "일시적인 오류");
+        server.inject(TossOperation.LOOKUP, outage).inject(TossOperation.LOOKUP, outage);
+
+        processor.offer(event("pay_6", "order-pay_6", TossPaymentStatus.DONE));
+
+        awaitCount(processor::getFailedCount, 1);
+        assertThat(processor.getRetriedCount()).isEqualTo(1);
+        assertThat(processor.getRetryingCount()).isZero();
+        verify(paymentService, timeout(200).times(0)).applyStatusChanges(anyList());
+    }
+
+    @Test
+    void dropsEventWhenTossRejectsLookup() {
+        server.inject(TossOperation.LOOKUP, FakeTossServer.Fault.error(404, "NOT_FOUND_PAYMENT", "존재하지 않는 결제 정보 입니다."));
+
+        processor.offer(event("pay_7", "order-pay_7", TossPaymentStatus.DONE));
+
+        awaitCount(processor::getFailedCount, 1);
+        assertThat(processor.getRetriedCount()).isZero();
+        verify(paymentService, timeout(200).times(0)).applyStatusChanges(anyList());
+    }
+
+    @Test
+    void verifiesBatchWithBoundedFanOut() {
+        server.latency(TossOperation.LOOKUP, FakeTossServer.Latency.fixed(100));
+        for (int i = 0; i < 8; i++) {
+            processor.offer(event("pay_batch_" + i, "order-pay_batch_" + i, TossPaymentStatus.DONE));
+        }
+
+        long startedAt = System.nanoTime();
+        awaitCount(processor::getAppliedCount, 8);
+        // 한 건씩 조회하면 800ms 이상 걸린다
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(700));
+    }
+
+    @Test
+    void failedBatchIsRetriedEventByEvent() {
+        when(paymentService.applyStatusChanges(anyList())).thenAnswer(invocation -> {
+            List<PaymentStatusChange> changes = invocation.getArgument(0);
+            if (changes.stream().anyMatch(change -> change.getOrderId().equals("order-pay_bad"))) {
+                throw new IllegalStateException("constraint violation");
+            }
+            return changes.size();
+        });
+
+        processor.offer(event("pay_good", "order-pay_good", TossPaymentStatus.DONE));
+        processor.offer(event("pay_bad", "order-pay_bad", TossPaymentStatus.DONE));
+
+        awaitCount(() -> processor.getAppliedCount() + processor.getFailedCount(), 2);
+        assertThat(processor.getAppliedCount()).isEqualTo(1);
+        assertThat(processor.getFailedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void workerKeepsRunningAfterUnexpectedError() {
+        when(paymentService.applyStatusChanges(anyList()))
+            .thenThrow(new AssertionError("unexpected"))
+            .thenReturn(1);
+
+        processor.offer(event("pay_3", "order-pay_3", TossPaymentStatus.DONE));
+        awaitCount(processor::getFailedCount, 1);
+
+        processor.offer(event("pay_4", "order-pay_4", TossPaymentStatus.DONE));
+        awaitCount(processor::getAppliedCount, 1);
+        verify(paymentService, atLeastOnce()).applyStatusChanges(anyList());
+    }
+
+    private static TossWebhookEvent event(String paymentKey, String orderId, TossPaymentStatus status) {
+        TossPaymentResponse data = new TossPaymentResponse();
+        data.setPaymentKey(paymentKey);
+        data.setOrderId(orderId);
+        data.setStatus(status);
+        TossWebhookEvent event = new TossWebhookEvent();
+        event.setEventType(TossWebhookProcessor.PAYMENT_STATUS_CHANGED);
+        event.setData(data);
+        return event;
+    }
+
+    private static void awaitCount(LongSupplier count, long expected) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (count.getAsLong() < expected && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(count.getAsLong()).isGreaterThanOrEqualTo(expected);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<PaymentStatusChange>> listCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+}
@@ -0,0 +1,484 @@
+package com.example.rokdemo.toss.support;
+
+import com.example.rokdemo.toss.TossOperation;
+import com.example.rokdemo.toss.config.TossPaymentConfig;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 테스트/벤치마크용 토스페이먼츠 API 대역 서버
+ * TossPaymentConfig가 가리키는 결제 승인/취소/조회, 빌링, 브랜드페이 토큰/결제수단 API를 로컬에서 흉내 낸다.
+ * - 호출 종류별 응답 지연 분포 (고정, 균등, 꼬리 지연)
+ * - 에러 응답 (ALREADY_CANCELED_PAYMENT 등) 과 커넥션 끊기를 다음 N건 또는 일정 비율로 주입
+ * - 승인/취소 상태를 기억하므로 이미 취소된 결제를 다시 취소하면 ALREADY_CANCELED_PAYMENT를 응답
+ * - 같은 Idempotency-Key로 다시 온 요청은 처음 응답을 그대로 돌려줌
+ *
+ * <pre>
+ * try (FakeTossServer server = FakeTossServer.start()) {
+ *     server.configure(config);
+ *     server.latency(TossOperation.LOOKUP, Latency.tail(20, 500, 0.01));
+ *     server.inject(TossOperation.CONFIRM, Fault.drop());
+ *     ...
+ * }
+ * </pre>
+ */
+public class FakeTossServer implements AutoCloseable {
+
+    private static final Gson gson = new Gson();
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private final Map<TossOperation, Behavior> behaviors = new EnumMap<>(TossOperation.class);
+    private final Map<TossOperation, LongAdder> requestCounts = new EnumMap<>(TossOperation.class);
+    private final Map<TossOperation, AtomicInteger> inFlight = new EnumMap<>(TossOperation.class);
+    private final Map<TossOperation, AtomicInteger> maxInFlight = new EnumMap<>(TossOperation.class);
+    private final Map<String, JsonObject> payments = new ConcurrentHashMap<>();
+    private final Map<String, Reply> idempotentReplies = new ConcurrentHashMap<>();
+
+    private FakeTossServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+        for (TossOperation operation : TossOperation.values()) {
+            behaviors.put(operation, new Behavior());
+            requestCounts.put(operation, new LongAdder());
+            inFlight.put(operation, new AtomicInteger());
+            maxInFlight.put(operation, new AtomicInteger());
+        }
+    }
+
+    /**
+     * 임의 포트로 서버 시작 (127.0.0.1)
+     */
+    public static FakeTossServer start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        FakeTossServer fake = new FakeTossServer(server, executor);
+        server.createContext("/v1/", fake::handle);
+        server.setExecutor(executor);
+        server.start();
+        return fake;
+    }
+
+    /**
+     * 토스 API URL을 이 서버로 지정 (시크릿 키가 없으면 테스트 키 설정)
+     */
+    public void configure(TossPaymentConfig config) {
+        String baseUrl = baseUrl();
+        config.setConfirmUrl(baseUrl + "/v1/payments/confirm");
+        config.setCancelUrl(baseUrl + "/v1/payments/{paymentKey}/cancel");
+        config.setLookupUrl(baseUrl + "/v1/payments/{paymentKey}");
+        config.setBillingUrl(baseUrl + "/v1/billing/{billingKey}");
+        config.setBrandPayTokenUrl(baseUrl + "/v1/brandpay/authorizations/access-token");
+        config.setBrandPayMethodUrl(baseUrl + "/v1/brandpay/cards");
+        if (config.getSecretKey() == null) {
+            config.setSecretKey("test_sk_fake");
+        }
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 응답 지연 분포 지정
+     */
+    public FakeTossServer latency(TossOperation operation, Latency latency) {
+        behaviors.get(operation).latency = latency;
+        return this;
+    }
+
+    /**
+     * 다음 요청 1건에 장애 주입 (여러 번 호출하면 순서대로 적용)
+     */
+    public FakeTossServer inject(TossOperation operation, Fault fault) {
+        behaviors.get(operation).scripted.add(fault);
+        return this;
+    }
+
+    /**
+     * 일정 비율의 요청에 장애 주입
+     *
+     * @param rate 0.0 ~ 1.0
+     */
+    public FakeTossServer inject(TossOperation operation, Fault fault, double rate) {
+        Behavior behavior = behaviors.get(operation);
+        behavior.randomFault = fault;
+        behavior.faultRate = rate;
+        return this;
+    }
+
+    /**
+     * 지연/장애 설정 초기화 (결제 상태와 요청 수는 유지)
+     */
+    public void reset() {
+        for (TossOperation operation : TossOperation.values()) {
+            behaviors.put(operation, new Behavior());
+        }
+    }
+
+    /**
+     * 받은 요청 수 (장애 주입 요청 포함)
+     */
+    public long requestCount(TossOperation operation) {
+        return requestCounts.get(operation).sum();
+    }
+
+    /**
+     * 동시에 처리 중이던 요청 수의 최댓값 (응답 지연 중인 요청 포함)
+     */
+    public int maxConcurrentRequests(TossOperation operation) {
+        return maxInFlight.get(operation).get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            Route route = route(exchange.getRequestMethod(), exchange.getRequestURI().getRawPath());
+            if (route == null) {
+                send(exchange, Reply.error(404, "NOT_FOUND", "존재하지 않는 API 입니다."));
+                return;
+            }
+            requestCounts.get(route.operation).increment();
+            AtomicInteger concurrent = inFlight.get(route.operation);
+            maxInFlight.get(route.operation).accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                reply(route, exchange, requestBody);
+            } finally {
+                concurrent.decrementAndGet();
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void reply(Route route, HttpExchange exchange, byte[] requestBody) throws IOException {
+        Behavior behavior = behaviors.get(route.operation);
+        sleep(behavior.latency.nextMillis());
+
+        Fault fault = behavior.nextFault();
+        if (fault != null && fault.drop) {
+            // 응답 없이 커넥션 종료 (클라이언트는 NoHttpResponseException)
+            return;
+        }
+        if (fault != null) {
+            send(exchange, Reply.error(fault.status, fault.code, fault.message));
+            return;
+        }
+        if (!exchange.getRequestHeaders().containsKey("Authorization")) {
+            send(exchange, Reply.error(401, "UNAUTHORIZED_KEY", "인증되지 않은 시크릿 키 혹은 클라이언트 키 입니다."));
+            return;
+        }
+
+        String idempotencyKey = exchange.getRequestHeaders().getFirst("Idempotency-Key");
+        if (idempotencyKey != null) {
+            Reply reply = idempotentReplies.computeIfAbsent(route.operation + ":" + idempotencyKey,
+                key -> respond(route, exchange, requestBody));
+            send(exchange, reply);
+        } else {
+            send(exchange, respond(route, exchange, requestBody));
+        }
+    }
+
+    private Reply respond(Route route, HttpExchange exchange, byte[] requestBody) {
+        JsonObject request = requestBody.length > 0
+            ? gson.fromJson(new String(requestBody, StandardCharsets.UTF_8), JsonObject.class)
+            : new JsonObject();
+
+        switch (route.operation) {
+            case CONFIRM: {
+                String paymentKey = request.get("paymentKey").getAsString();
+                JsonObject payment = payment(paymentKey, request.get("orderId").getAsString(), request.get("amount").getAsInt());
+                JsonObject existing = payments.putIfAbsent(paymentKey, payment);
+                if (existing != null) {
+                    return Reply.error(400, "ALREADY_PROCESSED_PAYMENT", "이미 처리된 결제 입니다.");
+                }
+                return Reply.ok(payment);
+            }
+            case CANCEL: {
+                JsonObject payment = payments.computeIfAbsent(route.variable, key -> payment(key, "order-" + key, 1000));
+                synchronized (payment) {
+                    if ("CANCELED".equals(payment.get("status").getAsString())) {
+                        return Reply.error(400, "ALREADY_CANCELED_PAYMENT", "이미 취소된 결제 입니다.");
+                    }
+                    int cancelAmount = request.has("cancelAmount")
+                        ? request.get("cancelAmount").getAsInt()
+                        : payment.get("balanceAmount").getAsInt();
+                    int balance = payment.get("balanceAmount").getAsInt() - cancelAmount;
+                    payment.addProperty("balanceAmount", balance);
+                    payment.addProperty("status", balance == 0 ? "CANCELED" : "PARTIAL_CANCELED");
+
+                    JsonObject cancel = new JsonObject();
+                    cancel.addProperty("cancelReason", request.has("cancelReason") ? request.get("cancelReason").getAsString() : null);
+                    cancel.addProperty("cancelAmount", cancelAmount);
+                    cancel.addProperty("canceledAt", OffsetDateTime.now().toString());
+                    JsonArray cancels = payment.has("cancels") ? payment.getAsJsonArray("cancels") : new JsonArray();
+                    cancels.add(cancel);
+                    payment.add("cancels", cancels);
+                    return Reply.ok(payment.deepCopy());
+                }
+            }
+            case LOOKUP: {
+                // 승인한 적 없는 결제는 완료(DONE) 결제로 응답해 사전 승인 없이 조회 부하를 줄 수 있게 한다
+                JsonObject payment = payments.computeIfAbsent(route.variable, key -> payment(key, "order-" + key, 1000));
+                synchronized (payment) {
+                    return Reply.ok(payment.deepCopy());
+                }
+            }
+            case BILLING: {
+                String paymentKey = "billing_" + request.get("orderId").getAsString();
+                JsonObject payment = payment(paymentKey, request.get("orderId").getAsString(), request.get("amount").getAsInt());
+                payment.addProperty("orderName", request.has("orderName") ? request.get("orderName").getAsString() : null);
+                payment.addProperty("method", "카드");
+                payments.put(paymentKey, payment);
+                return Reply.ok(payment);
+            }
+            case BRANDPAY_TOKEN: {
+                JsonObject token = new JsonObject();
+                token.addProperty("accessToken", "fake_access_" + request.get("customerKey").getAsString());
+                token.addProperty("refreshToken", "fake_refresh_" + request.get("customerKey").getAsString());
+                token.addProperty("tokenType", "bearer");
+                token.addProperty("expiresIn", 2592000);
+                return Reply.ok(token);
+            }
+            case BRANDPAY_METHODS: {
+                String customerKey = queryParameter(exchange.getRequestURI().getRawQuery(), "customerKey");
+                JsonObject card = new JsonObject();
+                card.addProperty("issuerCode", "11");
+                card.addProperty("acquirerCode", "11");
+                card.addProperty("number", "12345678****123*");
+                card.addProperty("cardType", "신용");
+                card.addProperty("ownerType", "개인");
+                JsonObject method = new JsonObject();
+                method.addProperty("methodKey", "method_" + customerKey);
+                method.addProperty("methodType", "CARD");
+                method.add("card", card);
+                JsonArray methods = new JsonArray();
+                methods.add(method);
+                JsonObject response = new JsonObject();
+                response.addProperty("customerKey", customerKey);
+                response.add("methods", methods);
+                return Reply.ok(response);
+            }
+            default:
+                return Reply.error(404, "NOT_FOUND", "존재하지 않는 API 입니다.");
+        }
+    }
+
+    private static JsonObject payment(String paymentKey, String orderId, int amount) {
+        JsonObject payment = new JsonObject();
+        payment.addProperty("paymentKey", paymentKey);
+        payment.addProperty("orderId", orderId);
+        payment.addProperty("orderName", "테스트 주문");
+        payment.addProperty("status", "DONE");
+        payment.addProperty("method", "카드");
+        payment.addProperty("totalAmount", amount);
+        payment.addProperty("balanceAmount", amount);
+        payment.addProperty("requestedAt", OffsetDateTime.now().toString());
+        payment.addProperty("approvedAt", OffsetDateTime.now().toString());
+        return payment;
+    }
+
+    private static Route route(String method, String path) {
+        String[] segments = path.substring(1).split("/");
+        boolean post = "POST".equals(method);
+        boolean get = "GET".equals(method);
+
+        // /v1/payments/confirm, /v1/payments/{paymentKey}, /v1/payments/{paymentKey}/cancel
+        if (segments.length >= 3 && "payments".equals(segments[1])) {
+            if (segments.length == 3 && post && "confirm".equals(segments[2])) {
+                return new Route(TossOperation.CONFIRM, null);
+            }
+            if (segments.length == 3 && get) {
+                return new Route(TossOperation.LOOKUP, decode(segments[2]));
+            }
+            if (segments.length == 4 && post && "cancel".equals(segments[3])) {
+                return new Route(TossOperation.CANCEL, decode(segments[2]));
+            }
+        }
+        // /v1/billing/{billingKey}
+        if (segments.length == 3 && post && "billing".equals(segments[1])) {
+            return new Route(TossOperation.BILLING, decode(segments[2]));
+        }
+        // /v1/brandpay/authorizations/access-token, /v1/brandpay/cards
+        if (segments.length >= 3 && "brandpay".equals(segments[1])) {
+            if (post && path.endsWith("/authorizations/access-token")) {
+                return new Route(TossOperation.BRANDPAY_TOKEN, null);
+            }
+            if (get && "cards".equals(segments[2])) {
+                return new Route(TossOperation.BRANDPAY_METHODS, null);
+            }
+        }
+        return null;
+    }
+
+    private static String queryParameter(String rawQuery, String name) {
+        if (rawQuery == null) {
+            return null;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int index = pair.indexOf('=');
+            if (index > 0 && name.equals(pair.substring(0, index))) {
+                return decode(pair.substring(index + 1));
+            }
+        }
+        return null;
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void send(HttpExchange exchange, Reply reply) throws IOException {
+        byte[] body = reply.body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(reply.status, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    /**
+     * 응답 지연 분포
+     */
+    @FunctionalInterface
+    public interface Latency {
+
+        Latency NONE = () -> 0;
+
+        long nextMillis();
+
+        static Latency fixed(long millis) {
+            return () -> millis;
+        }
+
+        static Latency uniform(long minMillis, long maxMillis) {
+            return () -> ThreadLocalRandom.current().nextLong(minMillis, maxMillis + 1);
+        }
+
+        /**
+         * 대부분은 baseMillis 근처로 응답하고 tailRatio 비율만 tailMillis로 느리게 응답 (꼬리 지연)
+         */
+        static Latency tail(long baseMillis, long tailMillis, double tailRatio) {
+            return () -> ThreadLocalRandom.current().nextDouble() < tailRatio
+                ? tailMillis
+                : baseMillis + ThreadLocalRandom.current().nextLong(Math.max(1, baseMillis / 5) + 1);
+        }
+    }
+
+    /**
+     * 주입할 장애
+     */
+    public static final class Fault {
+        private final boolean drop;
+        private final int status;
+        private final String code;
+        private final String message;
+
+        private Fault(boolean drop, int status, String code, String message) {
+            this.drop = drop;
+            this.status = status;
+            this.code = code;
+            this.message = message;
+        }
+
+        /**
+         * 에러 응답 (예: 400 ALREADY_CANCELED_PAYMENT, 500 FAILED_INTERNAL_SYSTEM_PROCESSING)
+         */
+        public static Fault error(int status, String code, String message) {
+            return new Fault(false, status, code, message);
+        }
+
+        /**
+         * 응답 없이 커넥션 끊기
+         */
+        public static Fault drop() {
+            return new Fault(true, 0, null, null);
+        }
+    }
+
+    private static class Behavior {
+        private volatile Latency latency = Latency.NONE;
+        private final Queue<Fault> scripted = new ConcurrentLinkedQueue<>();
+        private volatile Fault randomFault;
+        private volatile double faultRate;
+
+        Fault nextFault() {
+            Fault fault = scripted.poll();
+            if (fault != null) {
+                return fault;
+            }
+            Fault random = randomFault;
+            return random != null && ThreadLocalRandom.current().nextDouble() < faultRate ? random : null;
+        }
+    }
+
+    private static class Route {
+        private final TossOperation operation;
+        private final String variable;
+
+        Route(TossOperation operation, String variable) {
+            this.operation = operation;
+            this.variable = variable;
+        }
+    }
+
+    private static class Reply {
+        private final int status;
+        private final String body;
+
+        private Reply(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        static Reply ok(JsonObject body) {
+            return new Reply(200, body.toString());
+        }
+
+        static Reply error(int status, String code, String message) {
+            JsonObject error = new JsonObject();
+            error.addProperty("code", code);
+            error.addProperty("message", message);
+            return new Reply(status, error.toString());
+        }
+    }
+}
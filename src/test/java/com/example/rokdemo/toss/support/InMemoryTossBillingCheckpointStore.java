@@ -0,0 +1,44 @@
+package com.example.rokdemo.toss.support;
+
+import com.example.rokdemo.toss.TossBillingCheckpointStore;
+import com.example.rokdemo.toss.TossBillingRunner;
+import com.example.rokdemo.toss.dto.TossBillingRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 기반 정기결제 진행 기록 (벤치마크/테스트용)
+ * 재시작하면 기록이 사라지므로 운영에서는 JpaTossBillingCheckpointStore를 사용한다.
+ */
+public class InMemoryTossBillingCheckpointStore implements TossBillingCheckpointStore {
+
+    private final Map<String, TossBillingRunner.Outcome> outcomes = new ConcurrentHashMap<>();
+
+    @Override
+    public List<TossBillingRequest> begin(List<TossBillingRequest> requests) {
+        List<TossBillingRequest> pending = new ArrayList<>(requests.size());
+        for (TossBillingRequest request : requests) {
+            if (!outcomes.containsKey(request.getOrderId())) {
+                pending.add(request);
+            }
+        }
+        return pending;
+    }
+
+    @Override
+    public void record(List<TossBillingRunner.Outcome> outcomes) {
+        for (TossBillingRunner.Outcome outcome : outcomes) {
+            this.outcomes.put(outcome.getOrderId(), outcome);
+        }
+    }
+
+    /**
+     * 기록된 결과 (없으면 null)
+     */
+    public TossBillingRunner.Outcome outcome(String orderId) {
+        return outcomes.get(orderId);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.rokdemo.toss.support;
+
+import com.example.rokdemo.toss.TossIdempotencyKeyStore;
+import com.example.rokdemo.toss.TossOperation;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 기반 Idempotency-Key 저장소 (벤치마크/테스트용)
+ * 재시작하면 키가 사라지므로 운영에서는 JpaTossIdempotencyKeyStore를 사용한다.
+ */
+public class InMemoryTossIdempotencyKeyStore implements TossIdempotencyKeyStore {
+
+    private final Map<String, String> keys = new ConcurrentHashMap<>();
+
+    @Override
+    public String keyFor(TossOperation operation, String orderId) {
+        return keys.computeIfAbsent(operation.name() + ':' + orderId, ignored -> UUID.randomUUID().toString());
+    }
+}
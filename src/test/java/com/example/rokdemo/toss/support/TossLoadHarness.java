@@ -0,0 +1,164 @@
+package com.example.rokdemo.toss.support;
+
+import com.example.rokdemo.toss.TossPaymentException;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동시 호출 부하 도구
+ * 호출자 N명이 동시에 시작해 각자 정해진 횟수만큼 호출하고, 처리량과 응답 시간 분포(p50/p99)를 집계한다.
+ * 실패한 호출은 에러 코드별로 센다 (TossPaymentException이 아니면 예외 클래스 이름).
+ *
+ * <pre>
+ * TossLoadHarness.Report report = TossLoadHarness.run(200, 50, i -> tossPaymentService.lookupPayment("pay_" + i));
+ * System.out.println(report);
+ * </pre>
+ */
+public final class TossLoadHarness {
+
+    private TossLoadHarness() {
+    }
+
+    /**
+     * 부하 실행 (호출자마다 가상 스레드 1개)
+     *
+     * @param callers 동시 호출자 수
+     * @param callsPerCaller 호출자당 호출 횟수
+     * @param call 호출 (인자: 전체 호출 중 순번)
+     * @return 집계 결과
+     */
+    public static Report run(int callers, int callsPerCaller, Call call) throws InterruptedException {
+        long[] latencies = new long[callers * callsPerCaller];
+        Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+        CountDownLatch ready = new CountDownLatch(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(callers);
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            for (int c = 0; c < callers; c++) {
+                int caller = c;
+                executor.execute(() -> {
+                    try {
+                        ready.countDown();
+                        start.await();
+                        for (int i = 0; i < callsPerCaller; i++) {
+                            int index = caller * callsPerCaller + i;
+                            long startedAt = System.nanoTime();
+                            try {
+                                call.invoke(index);
+                            } catch (Exception e) {
+                                errors.computeIfAbsent(errorKey(e), key -> new LongAdder()).increment();
+                            }
+                            latencies[index] = System.nanoTime() - startedAt;
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            ready.await();
+            long startedAt = System.nanoTime();
+            start.countDown();
+            done.await();
+            long elapsed = System.nanoTime() - startedAt;
+
+            Map<String, Long> errorCounts = new TreeMap<>();
+            errors.forEach((key, count) -> errorCounts.put(key, count.sum()));
+            return new Report(callers, latencies, elapsed, errorCounts);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String errorKey(Exception e) {
+        if (e instanceof TossPaymentException && ((TossPaymentException) e).getErrorCode() != null) {
+            return ((TossPaymentException) e).getErrorCode();
+        }
+        return e.getClass().getSimpleName();
+    }
+
+    @FunctionalInterface
+    public interface Call {
+        void invoke(int index) throws Exception;
+    }
+
+    /**
+     * 부하 실행 결과
+     */
+    public static final class Report {
+        private final int callers;
+        private final long[] sortedLatencies;
+        private final long elapsedNanos;
+        private final Map<String, Long> errors;
+
+        Report(int callers, long[] latencies, long elapsedNanos, Map<String, Long> errors) {
+            this.callers = callers;
+            this.sortedLatencies = latencies.clone();
+            Arrays.sort(this.sortedLatencies);
+            this.elapsedNanos = elapsedNanos;
+            this.errors = errors;
+        }
+
+        public int getCalls() {
+            return sortedLatencies.length;
+        }
+
+        /**
+         * 실패 호출 수 (에러 코드별)
+         */
+        public Map<String, Long> getErrors() {
+            return errors;
+        }
+
+        public long getErrorCount() {
+            return errors.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        /**
+         * 초당 처리 호출 수 (실패 포함)
+         */
+        public double getThroughput() {
+            return getCalls() / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        /**
+         * 응답 시간 백분위 (밀리초)
+         *
+         * @param percent 1 ~ 100
+         */
+        public double percentileMillis(double percent) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percent / 100.0 * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, Math.min(index, sortedLatencies.length - 1))] / 1_000_000.0;
+        }
+
+        public double getP50Millis() {
+            return percentileMillis(50);
+        }
+
+        public double getP99Millis() {
+            return percentileMillis(99);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("호출자 %d명, %d건 %.0fms - 처리량 %.1f건/초, p50 %.1fms, p99 %.1fms, 최대 %.1fms, 실패 %s",
+                callers, getCalls(), elapsedNanos / 1_000_000.0, getThroughput(),
+                getP50Millis(), getP99Millis(), percentileMillis(100), errors.isEmpty() ? "없음" : errors);
+        }
+    }
+}
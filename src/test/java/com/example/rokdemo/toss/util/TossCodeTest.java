@@ -0,0 +1,129 @@
+package com.example.rokdemo.toss.util;
+
+import com.example.rokdemo.toss.dto.TossPaymentResponse;
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TossCodeTest {
+
+    private static final Gson gson = new Gson();
+
+    @Test
+    void parsesKnownCodes() {
+        TossPaymentResponse response = parse("PARTIAL_CANCELED", "간편결제", "61", "88", "토스페이");
+
+        assertThat(response.getStatus()).isEqualTo(TossPaymentStatus.PARTIAL_CANCELED);
+        assertThat(response.getMethod()).isEqualTo(PaymentMethod.EASY_PAY);
+        assertThat(response.getCard().getIssuerCode()).isEqualTo(CardCompany.HYUNDAI);
+        assertThat(response.getVirtualAccount().getBankCode()).isEqualTo(BankCode.SHINHAN);
+        assertThat(response.getEasyPay().getProvider()).isEqualTo(EasyPayProvider.TOSSPAY);
+    }
+
+    @Test
+    void parsesEnglishMethodAndProviderCodes() {
+        TossPaymentResponse response = parse("DONE", "CARD", "3A", "03", "KAKAOPAY");
+
+        assertThat(response.getMethod()).isEqualTo(PaymentMethod.CARD);
+        assertThat(response.getCard().getIssuerCode()).isEqualTo(CardCompany.KBANK);
+        assertThat(response.getVirtualAccount().getBankCode()).isEqualTo(BankCode.IBK);
+        assertThat(response.getEasyPay().getProvider()).isEqualTo(EasyPayProvider.KAKAOPAY);
+    }
+
+    @Test
+    void parsesUnknownCodesAsUnknown() {
+        TossPaymentResponse response = parse("SETTLED", "포인트", "ZZ", "99", "NEWPAY");
+
+        assertThat(response.getStatus()).isEqualTo(TossPaymentStatus.UNKNOWN);
+        assertThat(response.getMethod()).isEqualTo(PaymentMethod.UNKNOWN);
+        assertThat(response.getCard().getIssuerCode()).isEqualTo(CardCompany.UNKNOWN);
+        assertThat(response.getVirtualAccount().getBankCode()).isEqualTo(BankCode.UNKNOWN);
+        assertThat(response.getEasyPay().getProvider()).isEqualTo(EasyPayProvider.UNKNOWN);
+    }
+
+    @Test
+    void parsesNullCodesAsNull() {
+        TossPaymentResponse response = gson.fromJson("{\"status\":null,\"method\":null,"
+            + "\"card\":{\"issuerCode\":null},\"virtualAccount\":{\"bankCode\":null},"
+            + "\"easyPay\":{\"provider\":null}}", TossPaymentResponse.class);
+
+        assertThat(response.getStatus()).isNull();
+        assertThat(response.getMethod()).isNull();
+        assertThat(response.getCard().getIssuerCode()).isNull();
+        assertThat(response.getVirtualAccount().getBankCode()).isNull();
+        assertThat(response.getEasyPay().getProvider()).isNull();
+    }
+
+    @Test
+    void writesRawTossCodes() {
+        TossPaymentResponse response = parse("DONE", "CARD", "11", "20", "NAVERPAY");
+        assertThat(response.getMethod()).isEqualTo(PaymentMethod.CARD);
+
+        String json = gson.toJson(response);
+
+        assertThat(json).contains("\"status\":\"DONE\"", "\"method\":\"CARD\"", "\"issuerCode\":\"11\"",
+            "\"bankCode\":\"20\"", "\"provider\":\"NAVERPAY\"");
+    }
+
+    @Test
+    void keepsUnknownCodesAsReceived() {
+        TossPaymentResponse response = parse("SETTLED", "포인트", "ZZ", "99", "NEWPAY");
+        assertThat(response.getMethod()).isEqualTo(PaymentMethod.UNKNOWN);
+
+        assertThat(response.getRawStatus()).isEqualTo("SETTLED");
+        assertThat(response.getRawMethod()).isEqualTo("포인트");
+        assertThat(response.getEasyPay().getRawProvider()).isEqualTo("NEWPAY");
+        assertThat(gson.toJson(response)).contains("\"status\":\"SETTLED\"", "\"method\":\"포인트\"",
+            "\"issuerCode\":\"ZZ\"", "\"bankCode\":\"99\"", "\"provider\":\"NEWPAY\"");
+    }
+
+    @Test
+    void enumSettersWriteTossCodesAndRejectUnknown() {
+        TossPaymentResponse response = new TossPaymentResponse();
+        response.setStatus(TossPaymentStatus.DONE);
+        response.setMethod(PaymentMethod.EASY_PAY);
+
+        assertThat(response.getRawStatus()).isEqualTo("DONE");
+        assertThat(response.getRawMethod()).isEqualTo("간편결제");
+        assertThatThrownBy(() -> response.setMethod(PaymentMethod.UNKNOWN))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(response.getRawMethod()).isEqualTo("간편결제");
+
+        response.setRawStatus("CANCELED");
+        assertThat(response.getStatus()).isEqualTo(TossPaymentStatus.CANCELED);
+    }
+
+    @Test
+    void lookupTablesTrimAndIgnoreCase() {
+        assertThat(TossPaymentStatus.fromCode(" done ")).isEqualTo(TossPaymentStatus.DONE);
+        assertThat(PaymentMethod.fromValue("easy_pay")).isEqualTo(PaymentMethod.EASY_PAY);
+        assertThat(PaymentMethod.fromValue(" 가상계좌 ")).isEqualTo(PaymentMethod.VIRTUAL_ACCOUNT);
+        assertThat(CardCompany.fromCode("w1")).isEqualTo(CardCompany.WOORI);
+        assertThat(BankCode.fromCode(" 92 ")).isEqualTo(BankCode.TOSSBANK);
+        assertThat(EasyPayProvider.fromValue("applepay")).isEqualTo(EasyPayProvider.APPLEPAY);
+        assertThat(EasyPayProvider.fromValue("삼성페이")).isEqualTo(EasyPayProvider.SAMSUNGPAY);
+    }
+
+    @Test
+    void lookupTablesRejectBlankAndUnknownPlaceholder() {
+        for (String value : new String[] {null, "", "  ", "UNKNOWN", "unknown", "알 수 없음"}) {
+            assertThat(TossPaymentStatus.fromCode(value)).as(value).isNull();
+            assertThat(PaymentMethod.isValid(value)).as(value).isFalse();
+            assertThat(CardCompany.isValid(value)).as(value).isFalse();
+            assertThat(BankCode.isValid(value)).as(value).isFalse();
+            assertThat(EasyPayProvider.isValid(value)).as(value).isFalse();
+        }
+        assertThat(PaymentMethod.toEnglishCode("포인트")).isEqualTo("포인트");
+        assertThat(CardCompany.toKoreanName("ZZ")).isEqualTo("ZZ");
+    }
+
+    private static TossPaymentResponse parse(String status, String method, String issuerCode,
+                                             String bankCode, String provider) {
+        return gson.fromJson("{\"status\":\"" + status + "\",\"method\":\"" + method + "\","
+            + "\"card\":{\"issuerCode\":\"" + issuerCode + "\"},"
+            + "\"virtualAccount\":{\"bankCode\":\"" + bankCode + "\"},"
+            + "\"easyPay\":{\"provider\":\"" + provider + "\"}}", TossPaymentResponse.class);
+    }
+}
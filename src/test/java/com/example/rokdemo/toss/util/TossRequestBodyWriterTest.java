@@ -0,0 +1,38 @@
+package com.example.rokdemo.toss.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TossRequestBodyWriterTest {
+
+    private static final Gson gson = new Gson();
+
+    @Test
+    void writesLongRefreshTokenWithEscapes() {
+        // 이스케이프/멀티바이트 문자로 기본 버퍼(256바이트)를 훨씬 넘는 토큰
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            token.append('\u0001').append('"').append('한').append("😀").append('a');
+        }
+
+        byte[] body = TossRequestBodyWriter.writeBrandPayRefreshToken(token.toString().toCharArray(), "customer\n1");
+
+        JsonObject json = gson.fromJson(new String(body, StandardCharsets.UTF_8), JsonObject.class);
+        assertThat(json.get("grantType").getAsString()).isEqualTo("RefreshToken");
+        assertThat(json.get("refreshToken").getAsString()).isEqualTo(token.toString());
+        assertThat(json.get("customerKey").getAsString()).isEqualTo("customer\n1");
+    }
+
+    @Test
+    void writesNullCustomerKey() {
+        byte[] body = TossRequestBodyWriter.writeBrandPayRefreshToken("rt".toCharArray(), null);
+
+        assertThat(new String(body, StandardCharsets.UTF_8))
+            .isEqualTo("{\"grantType\":\"RefreshToken\",\"refreshToken\":\"rt\",\"customerKey\":null}");
+    }
+}